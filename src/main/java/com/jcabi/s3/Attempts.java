@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Attempts of a call, which may fail for a while.
+ *
+ * <p>This is how small steps of a big operation, like parts of
+ * a {@link Multipart} upload, are retried, without depending on any
+ * particular retrying decorator: they take an instance of this interface,
+ * and a decorator gives its own one through {@link Parts}.</p>
+ *
+ * @since 1.0
+ */
+public interface Attempts {
+
+    /**
+     * Call the action, retrying it if it fails.
+     * @param action The action
+     * @param <T> Type of result
+     * @return Its result
+     * @throws IOException If all attempts fail or the failure is terminal
+     */
+    <T> T call(Attempts.Action<T> action) throws IOException;
+
+    /**
+     * Action to attempt.
+     *
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Action<T> {
+        /**
+         * Execute it.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T exec() throws IOException;
+    }
+
+    /**
+     * A few attempts with exponential backoff, retrying only failures
+     * of the SDK which are not client errors.
+     *
+     * @since 1.0
+     */
+    @EqualsAndHashCode
+    final class Backoff implements Attempts {
+        /**
+         * Pause before the first retry, in milliseconds.
+         */
+        private static final long PAUSE = 100L;
+
+        /**
+         * Maximum number of attempts, including the first one.
+         */
+        private final transient int total;
+
+        /**
+         * Public ctor.
+         * @param max Maximum number of attempts, including the first one
+         */
+        public Backoff(final int max) {
+            this.total = max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d attempts", this.total);
+        }
+
+        @Override
+        public <T> T call(final Attempts.Action<T> action) throws IOException {
+            int attempt = 0;
+            boolean done = false;
+            T result = null;
+            while (!done) {
+                try {
+                    result = action.exec();
+                    done = true;
+                } catch (final SdkException ex) {
+                    ++attempt;
+                    if (attempt >= this.total || !Backoff.retryable(ex)) {
+                        throw ex;
+                    }
+                    Logger.warn(
+                        this, "Attempt #%d of %d failed, retrying: %s",
+                        attempt, this.total, ex.getMessage()
+                    );
+                    Backoff.pause(Backoff.PAUSE << (attempt - 1));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Is it worth retrying?
+         * @param error The failure
+         * @return TRUE if it's not a client error
+         */
+        private static boolean retryable(final SdkException error) {
+            // @checkstyle MagicNumber (4 lines)
+            return !(error instanceof S3Exception)
+                || ((S3Exception) error).statusCode() >= 500
+                || ((S3Exception) error).statusCode() == 429;
+        }
+
+        /**
+         * Sleep.
+         * @param millis How long, in milliseconds
+         * @throws InterruptedIOException If interrupted
+         */
+        private static void pause(final long millis)
+            throws InterruptedIOException {
+            try {
+                Thread.sleep(millis);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(
+                    "Interrupted while waiting for the next attempt"
+                );
+            }
+        }
+    }
+
+}
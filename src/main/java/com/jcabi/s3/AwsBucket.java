@@ -9,6 +9,7 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.util.Iterator;
 import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
@@ -70,7 +71,10 @@ final class AwsBucket implements Bucket {
         boolean result = true;
         try {
             aws.headBucket(
-                HeadBucketRequest.builder().bucket(this.bkt).build()
+                new Deadline.Current()
+                    .limit(HeadBucketRequest.builder())
+                    .bucket(this.bkt)
+                    .build()
             );
         } catch (final NoSuchBucketException ex) {
             result = false;
@@ -82,6 +86,8 @@ final class AwsBucket implements Bucket {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
         }
         Logger.debug(
             this, "Does bucket '%s' exist? %b", this.bkt, result
@@ -93,7 +99,7 @@ final class AwsBucket implements Bucket {
     public void remove(final String key) throws IOException {
         try {
             this.regn.aws().deleteObject(
-                DeleteObjectRequest.builder()
+                new Deadline.Current().limit(DeleteObjectRequest.builder())
                     .bucket(this.bkt)
                     .key(key)
                     .build()
@@ -111,6 +117,8 @@ final class AwsBucket implements Bucket {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
         }
     }
 
@@ -126,6 +134,18 @@ final class AwsBucket implements Bucket {
         };
     }
 
+    @Override
+    public Iterable<String> list(final String pfx, final String after) {
+        return new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new AwsListIterator(
+                    AwsBucket.this.regn, AwsBucket.this.bkt, pfx, after
+                );
+            }
+        };
+    }
+
     @Override
     public int compareTo(final Bucket bucket) {
         return this.name().compareTo(bucket.name());
@@ -4,10 +4,13 @@
  */
 package com.jcabi.s3;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -15,6 +18,15 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * Iterator for large lists returned by S3.
+ *
+ * <p>Pages are loaded one by one, and the state of the iterator changes
+ * only when a page is loaded successfully. When loading fails, the
+ * iterator stays as it was, and the next call of {@link #hasNext()}
+ * loads the same page again, with the same continuation token.</p>
+ *
+ * <p>Every page is loaded through the {@link Pages} guards
+ * of the current thread, if there are any.</p>
+ *
  * @since 0.10
  */
 class AwsListIterator implements Iterator<String> {
@@ -34,6 +46,11 @@ class AwsListIterator implements Iterator<String> {
      */
     private final transient String prefix;
 
+    /**
+     * Key to start after, or empty to start from the beginning.
+     */
+    private final transient String start;
+
     /**
      * Partial S3 response iterator.
      */
@@ -57,15 +74,29 @@ class AwsListIterator implements Iterator<String> {
      */
     AwsListIterator(final Region rgn, final String bkt,
         final String pfx) {
+        this(rgn, bkt, pfx, "");
+    }
+
+    /**
+     * Constructs AwsListIterator, which starts after the given key.
+     * @param rgn Region we're in
+     * @param bkt Bucket name
+     * @param pfx Key prefix
+     * @param after Key to start after, exclusive, or empty
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    AwsListIterator(final Region rgn, final String bkt,
+        final String pfx, final String after) {
         this.prefix = pfx;
         this.region = rgn;
         this.bucket = bkt;
+        this.start = after;
         this.more = true;
     }
 
     @Override
     public final boolean hasNext() {
-        if (this.partial == null || this.partial.isEmpty()
+        while (this.partial == null || this.partial.isEmpty()
             && this.more) {
             this.partial = this.load();
         }
@@ -93,15 +124,18 @@ class AwsListIterator implements Iterator<String> {
      */
     private List<String> load() {
         try {
-            final ListObjectsV2Request.Builder req =
-                ListObjectsV2Request.builder()
-                    .bucket(this.bucket)
-                    .prefix(this.prefix);
+            final ListObjectsV2Request.Builder req = new Deadline.Current()
+                .limit(ListObjectsV2Request.builder())
+                .bucket(this.bucket)
+                .prefix(this.prefix);
             if (this.token != null) {
                 req.continuationToken(this.token);
+            } else if (!this.start.isEmpty()) {
+                req.startAfter(this.start);
             }
-            final ListObjectsV2Response listing =
-                this.region.aws().listObjectsV2(req.build());
+            final ListObjectsV2Response listing = new Pages.Current().load(
+                () -> this.region.aws().listObjectsV2(req.build())
+            );
             if (listing.isTruncated()) {
                 this.token = listing.nextContinuationToken();
             } else {
@@ -120,6 +154,10 @@ class AwsListIterator implements Iterator<String> {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new UncheckedIOException(new Deadline.Current().expired(ex));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
         }
     }
 
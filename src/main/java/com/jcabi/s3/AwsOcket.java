@@ -11,8 +11,12 @@ import java.io.OutputStream;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.io.output.ProxyOutputStream;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -28,6 +32,14 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 @Loggable(Loggable.DEBUG)
 final class AwsOcket implements Ocket {
 
+    /**
+     * Maximum size of content to upload with a single PUT, in bytes;
+     * bigger content, or content of unknown size, goes through
+     * {@link Multipart}, with attempts and journal of the {@link Parts}
+     * of the current thread.
+     */
+    private static final long PART = 8L << 20;
+
     /**
      * Bucket we're in.
      */
@@ -67,7 +79,7 @@ final class AwsOcket implements Ocket {
     public HeadObjectResponse meta() throws IOException {
         try {
             return this.bkt.region().aws().headObject(
-                HeadObjectRequest.builder()
+                new Deadline.Current().limit(HeadObjectRequest.builder())
                     .bucket(this.bkt.name())
                     .key(this.name)
                     .build()
@@ -80,6 +92,8 @@ final class AwsOcket implements Ocket {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
         }
     }
 
@@ -87,7 +101,7 @@ final class AwsOcket implements Ocket {
     public boolean exists() throws IOException {
         try {
             return !this.bkt.region().aws().listObjectsV2(
-                ListObjectsV2Request.builder()
+                new Deadline.Current().limit(ListObjectsV2Request.builder())
                     .bucket(this.bkt.name())
                     .prefix(this.name)
                     .maxKeys(1)
@@ -101,21 +115,15 @@ final class AwsOcket implements Ocket {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
         }
     }
 
     @Override
     public void read(final OutputStream output) throws IOException {
         try {
-            IOUtils.copy(
-                this.bkt.region().aws().getObject(
-                    GetObjectRequest.builder()
-                        .bucket(this.bkt.name())
-                        .key(this.name)
-                        .build()
-                ),
-                output
-            );
+            this.copy(this.get().build(), output);
         } catch (final S3Exception ex) {
             throw new OcketNotFoundException(
                 String.format(
@@ -127,12 +135,44 @@ final class AwsOcket implements Ocket {
         }
     }
 
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        if (length > 0L) {
+            try {
+                this.copy(
+                    this.get()
+                        .range(
+                            String.format(
+                                "bytes=%d-%d",
+                                offset, offset + length - 1L
+                            )
+                        )
+                        .build(),
+                    output
+                );
+            } catch (final S3Exception ex) {
+                // @checkstyle MagicNumber (1 line)
+                if (ex.statusCode() != 416) {
+                    throw new OcketNotFoundException(
+                        String.format(
+                            "ocket '%s' not found in '%s', range %d+%d",
+                            this.name, this.bkt.name(), offset, length
+                        ),
+                        ex
+                    );
+                }
+            }
+        }
+    }
+
     @Override
     public void write(final InputStream input, final HeadObjectResponse meta)
         throws IOException {
         try (BoundedInputStream cnt = BoundedInputStream.builder()
             .setInputStream(input).get()) {
-            final PutObjectRequest.Builder req = PutObjectRequest.builder()
+            final PutObjectRequest.Builder req = new Deadline.Current()
+                .limit(PutObjectRequest.builder())
                 .bucket(this.bkt.name())
                 .key(this.name);
             if (meta.contentType() != null) {
@@ -141,16 +181,24 @@ final class AwsOcket implements Ocket {
             if (meta.contentEncoding() != null) {
                 req.contentEncoding(meta.contentEncoding());
             }
-            if (meta.contentLength() != null && meta.contentLength() > 0L) {
+            if (meta.contentLength() != null && meta.contentLength() > 0L
+                && meta.contentLength() <= AwsOcket.PART) {
                 this.bkt.region().aws().putObject(
                     req.contentLength(meta.contentLength()).build(),
                     RequestBody.fromInputStream(cnt, meta.contentLength())
                 );
-            } else {
+            } else if (meta.contentLength() != null
+                && meta.contentLength() == 0L) {
                 this.bkt.region().aws().putObject(
                     req.build(),
                     RequestBody.fromBytes(IOUtils.toByteArray(cnt))
                 );
+            } else {
+                final Parts.Current parts = new Parts.Current();
+                new Multipart(
+                    this, parts.journal(this), (int) AwsOcket.PART,
+                    parts.attempts()
+                ).write(cnt, meta);
             }
         } catch (final S3Exception ex) {
             throw new IOException(
@@ -160,6 +208,8 @@ final class AwsOcket implements Ocket {
                 ),
                 ex
             );
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
         }
     }
 
@@ -167,4 +217,72 @@ final class AwsOcket implements Ocket {
     public int compareTo(final Ocket ocket) {
         return this.key().compareTo(ocket.key());
     }
+
+    /**
+     * Request of the content of the object, limited by the {@link Deadline}
+     * and pinned to the {@link Version} read before, if any.
+     * @return Builder of the request
+     * @throws IOException If the deadline is over
+     */
+    private GetObjectRequest.Builder get() throws IOException {
+        return new Version.Current().limit(
+            this,
+            new Deadline.Current().limit(GetObjectRequest.builder())
+                .bucket(this.bkt.name())
+                .key(this.name)
+        );
+    }
+
+    /**
+     * Copy content of the object to the output.
+     *
+     * <p>If the output fails, or the {@link Deadline} is over while
+     * copying, the connection is aborted instead of being drained to its
+     * end, since the rest of the content is not needed.</p>
+     *
+     * @param request The request
+     * @param output Where to copy
+     * @throws IOException If fails
+     */
+    private void copy(final GetObjectRequest request,
+        final OutputStream output) throws IOException {
+        final ResponseInputStream<GetObjectResponse> input;
+        try {
+            input = this.bkt.region().aws().getObject(request);
+        } catch (final S3Exception ex) {
+            // @checkstyle MagicNumber (1 line)
+            if (ex.statusCode() == 412) {
+                throw new IOException(
+                    String.format(
+                        "ocket '%s' in '%s' is not %s any more",
+                        this.name, this.bkt.name(), request.ifMatch()
+                    ),
+                    ex
+                );
+            }
+            throw ex;
+        } catch (final ApiCallTimeoutException ex) {
+            throw new Deadline.Current().expired(ex);
+        }
+        new Version.Current().seen(this, input.response().eTag());
+        final Deadline.Current deadline = new Deadline.Current();
+        try {
+            IOUtils.copy(
+                input,
+                new ProxyOutputStream(output) {
+                    @Override
+                    protected void beforeWrite(final int len)
+                        throws IOException {
+                        deadline.check();
+                    }
+                }
+            );
+        } catch (final IOException ex) {
+            input.abort();
+            throw ex;
+        } finally {
+            input.close();
+        }
+    }
+
 }
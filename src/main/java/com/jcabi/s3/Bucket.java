@@ -73,6 +73,35 @@ public interface Bucket extends Comparable<Bucket> {
      */
     Iterable<String> list(String pfx) throws IOException;
 
+    /**
+     * List object names with a given prefix, which go after the given
+     * name, in the order of S3, see {@link KeyOrder}.
+     *
+     * <p>It is used to resume a long listing from the last name seen,
+     * without listing all previous names again. By default, previous
+     * names are listed and skipped, buckets able to start the listing
+     * from the given name override this method.</p>
+     *
+     * @param pfx Prefix to use
+     * @param after Name to start after, exclusive
+     * @return Iterable of names
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    default Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        final KeyOrder order = new KeyOrder();
+        return Iterables.filter(
+            this.list(pfx),
+            new Predicate<String>() {
+                @Override
+                public boolean apply(final String input) {
+                    return order.compare(input, after) > 0;
+                }
+            }
+        );
+    }
+
     /**
      * Creates bucket with specified origin bucket and prefix.
      *
@@ -150,9 +179,37 @@ public interface Bucket extends Comparable<Bucket> {
 
         @Override
         public Iterable<String> list(final String pfx) throws IOException {
+            return this.strip(this.origin.list(this.extend(pfx)));
+        }
+
+        @Override
+        public Iterable<String> list(final String pfx, final String after)
+            throws IOException {
+            final Iterable<String> list;
+            if (after.isEmpty()) {
+                list = this.list(pfx);
+            } else {
+                list = this.strip(
+                    this.origin.list(this.extend(pfx), this.extend(after))
+                );
+            }
+            return list;
+        }
+
+        @Override
+        public int compareTo(final Bucket bucket) {
+            return this.origin.compareTo(bucket);
+        }
+
+        /**
+         * Cut the prefix off names of the original bucket.
+         * @param names Names in the original bucket
+         * @return Names without the prefix
+         */
+        private Iterable<String> strip(final Iterable<String> names) {
             return Iterables.filter(
                 Iterables.transform(
-                    this.origin.list(this.extend(pfx)),
+                    names,
                     new Function<String, String>() {
                         @Override
                         public String apply(final String input) {
@@ -178,11 +235,6 @@ public interface Bucket extends Comparable<Bucket> {
             );
         }
 
-        @Override
-        public int compareTo(final Bucket bucket) {
-            return this.origin.compareTo(bucket);
-        }
-
         /**
          * Extend name with a prefix.
          * @param name The name to extend
@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+
+/**
+ * Deadline of all calls made in the current thread, until it's closed.
+ *
+ * <p>Every request to S3 made in the scope of the deadline gets
+ * the time left as its API call timeout, reading of content stops when
+ * the time is over, and retrying decorators don't start attempts which
+ * don't fit into the time left. When the deadline is over, either before
+ * a call or in the middle of it, {@link InterruptedIOException} is
+ * thrown:</p>
+ *
+ * <pre> try (Deadline deadline = new Deadline(Duration.ofMillis(300L))) {
+ *   new Ocket.Text(bucket.ocket("a.txt")).read();
+ * }</pre>
+ *
+ * <p>Deadlines can be nested, but a nested one can't be later than
+ * the one around it. A deadline must be closed in the same thread
+ * where it was created.</p>
+ *
+ * @since 1.0
+ */
+public final class Deadline implements AutoCloseable {
+
+    /**
+     * Deadline of the current thread.
+     */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * When it's over, in nanoseconds.
+     */
+    private final transient long end;
+
+    /**
+     * The deadline around this one, if any.
+     */
+    private final transient Optional<Deadline> outer;
+
+    /**
+     * Public ctor, which starts the deadline in the current thread.
+     * @param timeout How much time the calls have
+     */
+    public Deadline(final Duration timeout) {
+        this.outer = Optional.ofNullable(Deadline.CURRENT.get());
+        long finish = System.nanoTime() + timeout.toNanos();
+        if (this.outer.isPresent() && this.outer.get().end < finish) {
+            finish = this.outer.get().end;
+        }
+        this.end = finish;
+        Deadline.CURRENT.set(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dms left", this.remaining().toMillis());
+    }
+
+    /**
+     * How much time is left.
+     * @return Time left, negative if it's over
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(this.end - System.nanoTime());
+    }
+
+    @Override
+    public void close() {
+        if (this.outer.isPresent()) {
+            Deadline.CURRENT.set(this.outer.get());
+        } else {
+            Deadline.CURRENT.remove();
+        }
+    }
+
+    /**
+     * Deadline of the current thread, if there is one.
+     *
+     * @since 1.0
+     */
+    public static final class Current {
+
+        /**
+         * How much time is left until the deadline of the current thread.
+         * @return Time left, negative if it's over, or nothing if
+         *  there is no deadline
+         */
+        public Optional<Duration> remaining() {
+            return Optional.ofNullable(Deadline.CURRENT.get())
+                .map(Deadline::remaining);
+        }
+
+        /**
+         * Make sure the deadline is not over yet.
+         * @throws InterruptedIOException If it's over
+         */
+        public void check() throws InterruptedIOException {
+            final Optional<Duration> left = this.remaining();
+            if (left.isPresent()) {
+                Deadline.Current.verify(left.get());
+            }
+        }
+
+        /**
+         * Limit the request to S3 by the time left.
+         * @param builder Builder of the request
+         * @param <T> Type of the builder
+         * @return The same builder
+         * @throws InterruptedIOException If the deadline is over
+         */
+        <T extends AwsRequest.Builder> T limit(final T builder)
+            throws InterruptedIOException {
+            final Optional<Duration> left = this.remaining();
+            if (left.isPresent()) {
+                Deadline.Current.verify(left.get());
+                builder.overrideConfiguration(
+                    AwsRequestOverrideConfiguration.builder()
+                        .apiCallTimeout(left.get())
+                        .build()
+                );
+            }
+            return builder;
+        }
+
+        /**
+         * Failure of a call to S3, which took all the time given to it
+         * by {@link #limit(AwsRequest.Builder)}.
+         *
+         * <p>Without a deadline in the current thread, the timeout is
+         * configured in the client, not by the deadline, and it is
+         * rethrown as is.</p>
+         *
+         * @param error Timeout of the call
+         * @return Exception to throw instead
+         */
+        InterruptedIOException expired(final ApiCallTimeoutException error) {
+            if (!this.remaining().isPresent()) {
+                throw error;
+            }
+            final InterruptedIOException ex = new InterruptedIOException(
+                String.format(
+                    "Deadline was over while calling S3: %s",
+                    error.getMessage()
+                )
+            );
+            ex.initCause(error);
+            return ex;
+        }
+
+        /**
+         * Make sure there is some time left.
+         * @param left Time left
+         * @throws InterruptedIOException If there is none
+         */
+        private static void verify(final Duration left)
+            throws InterruptedIOException {
+            if (left.isNegative() || left.isZero()) {
+                throw new InterruptedIOException(
+                    String.format(
+                        "Deadline was over %dms ago",
+                        left.negated().toMillis()
+                    )
+                );
+            }
+        }
+    }
+
+}
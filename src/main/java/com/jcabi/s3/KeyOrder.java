@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.util.Comparator;
+
+/**
+ * Order of keys, the same as S3 lists them in.
+ *
+ * <p>S3 sorts keys by bytes of their UTF-8 encoding, which is the same
+ * as sorting them by Unicode code points. Natural order of strings
+ * compares UTF-16 chars instead, and puts characters outside of the Basic
+ * Multilingual Plane before some characters inside of it. Use it to
+ * compare keys, for example, to find where a listing should resume.</p>
+ *
+ * @since 1.0
+ */
+public final class KeyOrder implements Comparator<String> {
+
+    @Override
+    public int compare(final String left, final String right) {
+        int result = 0;
+        int lpos = 0;
+        int rpos = 0;
+        while (result == 0 && lpos < left.length() && rpos < right.length()) {
+            final int lcp = left.codePointAt(lpos);
+            final int rcp = right.codePointAt(rpos);
+            result = Integer.compare(lcp, rcp);
+            lpos += Character.charCount(lcp);
+            rpos += Character.charCount(rcp);
+        }
+        if (result == 0) {
+            result = Integer.compare(
+                left.length() - lpos, right.length() - rpos
+            );
+        }
+        return result;
+    }
+
+}
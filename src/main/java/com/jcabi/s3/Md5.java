@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import com.google.common.io.BaseEncoding;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * MD5 digest of content, in the form S3 uses for ETags.
+ *
+ * <p>The digest is either made of bytes in memory, or accumulated
+ * while a stream is read through {@link #stream(InputStream)}:</p>
+ *
+ * <pre> Md5 md5 = new Md5();
+ * Files.copy(md5.stream(input), path);
+ * String etag = md5.etag();</pre>
+ *
+ * <p>The ETag of an object is the MD5 of its content only if it was
+ * written by a single PUT, without encryption by KMS or by a key
+ * of the customer.</p>
+ *
+ * <p>The class is not thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Md5 {
+
+    /**
+     * The digest.
+     */
+    private final transient MessageDigest digest;
+
+    /**
+     * Public ctor, for a digest of a stream.
+     */
+    public Md5() {
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Public ctor.
+     * @param content The content
+     */
+    public Md5(final byte[] content) {
+        this(content, content.length);
+    }
+
+    /**
+     * Public ctor.
+     * @param content The content
+     * @param len How many bytes of it to digest, from the beginning
+     */
+    public Md5(final byte[] content, final int len) {
+        this();
+        this.digest.update(content, 0, Math.max(0, len));
+    }
+
+    @Override
+    public String toString() {
+        return this.hex();
+    }
+
+    /**
+     * Stream which adds all bytes read from it to the digest.
+     * @param input The stream to read
+     * @return The same stream, digested
+     */
+    public InputStream stream(final InputStream input) {
+        return new DigestInputStream(input, this.digest);
+    }
+
+    /**
+     * The digest, in lower case hex.
+     * @return Hex of MD5
+     */
+    public String hex() {
+        try {
+            return BaseEncoding.base16().lowerCase().encode(
+                ((MessageDigest) this.digest.clone()).digest()
+            );
+        } catch (final CloneNotSupportedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * The digest, as S3 shows it in the ETag of a single PUT.
+     * @return Hex of MD5, in quotes
+     */
+    public String etag() {
+        return String.format("\"%s\"", this.hex());
+    }
+
+}
@@ -0,0 +1,528 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Multipart upload of a big object to Amazon S3.
+ *
+ * <p>Content is uploaded part by part, and every failed part is retried
+ * by the {@link Attempts}, without uploading the other parts again. Content
+ * which fits into one part is uploaded with a single PUT, retried the same
+ * way. When a journal file
+ * is given, the ID of the upload and ETags of completed parts are saved
+ * there, so if the process is interrupted, the next writing with
+ * the same journal and the same content continues the upload instead
+ * of starting it over:</p>
+ *
+ * <pre> Ocket ocket = region.bucket("my.example.com").ocket("huge.bin");
+ * try (InputStream input = Files.newInputStream(file)) {
+ *   new Multipart(ocket, Paths.get("/tmp/huge.bin.upload")).write(
+ *     input, HeadObjectResponse.builder().build()
+ *   );
+ * }</pre>
+ *
+ * <p>{@link AwsOcket} uploads big content this way, taking the attempts
+ * and the journal from the {@link Parts} of the current thread.</p>
+ *
+ * <p>When an upload is resumed, parts which are already completed are
+ * read from the input again and compared with their MD5 digests, saved
+ * in the journal; if the content is different, the interrupted upload
+ * is aborted and {@link IOException} is thrown. If S3 doesn't know
+ * the upload any more, for example because a lifecycle rule aborted it,
+ * the journal is deleted and a new upload is started. Without a journal,
+ * a failed upload is aborted immediately, so that its parts don't occupy
+ * space in the bucket.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "ocket", "journal" })
+@Loggable(Loggable.DEBUG)
+public final class Multipart {
+
+    /**
+     * The ocket.
+     */
+    private final transient Ocket ocket;
+
+    /**
+     * Journal of the upload, if any.
+     */
+    private final transient Optional<Path> journal;
+
+    /**
+     * Size of one part, in bytes.
+     */
+    private final transient int part;
+
+    /**
+     * How to retry parts.
+     */
+    private final transient Attempts attempts;
+
+    /**
+     * Public ctor, with 8Mb parts, three attempts for each of them,
+     * and no journal.
+     * @param okt The ocket
+     */
+    public Multipart(final Ocket okt) {
+        // @checkstyle MagicNumber (1 line)
+        this(okt, Optional.empty(), 8 << 20, 3);
+    }
+
+    /**
+     * Public ctor, with 8Mb parts and three attempts for each of them.
+     * @param okt The ocket
+     * @param file The journal of the upload
+     */
+    public Multipart(final Ocket okt, final Path file) {
+        // @checkstyle MagicNumber (1 line)
+        this(okt, Optional.of(file), 8 << 20, 3);
+    }
+
+    /**
+     * Public ctor.
+     * @param okt The ocket
+     * @param file The journal of the upload, if necessary
+     * @param size Size of one part, in bytes, at least 5Mb for S3
+     * @param total How many times to try to upload one part
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Multipart(final Ocket okt, final Optional<Path> file,
+        final int size, final int total) {
+        this(okt, file, size, new Attempts.Backoff(total));
+    }
+
+    /**
+     * Public ctor.
+     * @param okt The ocket
+     * @param file The journal of the upload, if necessary
+     * @param size Size of one part, in bytes, at least 5Mb for S3
+     * @param retry How to retry parts
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Multipart(final Ocket okt, final Optional<Path> file,
+        final int size, final Attempts retry) {
+        this.ocket = okt;
+        this.journal = file;
+        this.part = size;
+        this.attempts = retry;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "multipart upload of '%s' in %d-byte parts",
+            this.ocket.key(), this.part
+        );
+    }
+
+    /**
+     * Upload the content.
+     * @param input Content
+     * @param meta Metadata
+     * @throws IOException If fails
+     */
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        Optional<Multipart.Upload> saved = this.restore();
+        if (saved.isPresent() && !this.alive(saved.get())) {
+            Logger.warn(
+                this, "Upload of '%s' is unknown to S3, starting it over",
+                this.ocket.key()
+            );
+            Files.deleteIfExists(this.journal.get());
+            saved = Optional.empty();
+        }
+        final byte[] buffer = new byte[this.part];
+        if (saved.isPresent()) {
+            this.skip(saved.get(), input, buffer);
+            this.upload(
+                saved.get(), input, buffer, IOUtils.read(input, buffer)
+            );
+        } else {
+            final int len = IOUtils.read(input, buffer);
+            if (len < this.part) {
+                this.attempts.call(
+                    () -> {
+                        this.ocket.write(
+                            new ByteArrayInputStream(buffer, 0, len),
+                            meta.toBuilder().contentLength((long) len).build()
+                        );
+                        return Boolean.TRUE;
+                    }
+                );
+            } else {
+                this.upload(this.start(meta), input, buffer, len);
+            }
+        }
+    }
+
+    /**
+     * Start a new upload.
+     * @param meta Metadata of the object
+     * @return The upload
+     * @throws IOException If fails
+     */
+    private Multipart.Upload start(final HeadObjectResponse meta)
+        throws IOException {
+        final CreateMultipartUploadRequest.Builder req = new Deadline.Current()
+            .limit(CreateMultipartUploadRequest.builder())
+            .bucket(this.ocket.bucket().name())
+            .key(this.ocket.key());
+        if (meta.contentType() != null) {
+            req.contentType(meta.contentType());
+        }
+        if (meta.contentEncoding() != null) {
+            req.contentEncoding(meta.contentEncoding());
+        }
+        final Multipart.Upload upload;
+        try {
+            upload = new Multipart.Upload(
+                this.aws().createMultipartUpload(req.build()).uploadId()
+            );
+        } catch (final S3Exception ex) {
+            throw new IOException(
+                String.format(
+                    "failed to start multipart upload of '%s' in '%s'",
+                    this.ocket.key(), this.ocket.bucket().name()
+                ),
+                ex
+            );
+        }
+        if (this.journal.isPresent()) {
+            Files.write(
+                this.journal.get(),
+                Collections.singletonList(this.header(upload.uid)),
+                StandardCharsets.UTF_8
+            );
+        }
+        return upload;
+    }
+
+    /**
+     * Upload the rest of the input and complete the upload.
+     * @param upload The upload
+     * @param input The input
+     * @param buffer Buffer for one part, with the next part in it
+     * @param first Length of the next part
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void upload(final Multipart.Upload upload, final InputStream input,
+        final byte[] buffer, final int first) throws IOException {
+        boolean done = false;
+        try {
+            int len = first;
+            while (len > 0) {
+                this.upload(upload, buffer, len);
+                len = IOUtils.read(input, buffer);
+            }
+            this.aws().completeMultipartUpload(
+                new Deadline.Current()
+                    .limit(CompleteMultipartUploadRequest.builder())
+                    .bucket(this.ocket.bucket().name())
+                    .key(this.ocket.key())
+                    .uploadId(upload.uid)
+                    .multipartUpload(
+                        CompletedMultipartUpload.builder()
+                            .parts(upload.parts)
+                            .build()
+                    )
+                    .build()
+            );
+            done = true;
+        } catch (final S3Exception ex) {
+            this.forget(ex);
+            throw new IOException(
+                String.format(
+                    "failed to complete multipart upload of '%s' in '%s'",
+                    this.ocket.key(), this.ocket.bucket().name()
+                ),
+                ex
+            );
+        } finally {
+            if (done && this.journal.isPresent()) {
+                Files.deleteIfExists(this.journal.get());
+            }
+            if (!done && !this.journal.isPresent()) {
+                this.abort(upload);
+            }
+        }
+    }
+
+    /**
+     * Upload one part, retrying if it fails.
+     * @param upload The upload
+     * @param buffer Content of the part
+     * @param len Length of the content
+     * @throws IOException If fails
+     */
+    private void upload(final Multipart.Upload upload, final byte[] buffer,
+        final int len) throws IOException {
+        final int number = upload.parts.size() + 1;
+        final String etag;
+        try {
+            etag = this.attempts.call(
+                () -> this.aws().uploadPart(
+                    new Deadline.Current().limit(UploadPartRequest.builder())
+                        .bucket(this.ocket.bucket().name())
+                        .key(this.ocket.key())
+                        .uploadId(upload.uid)
+                        .partNumber(number)
+                        .contentLength((long) len)
+                        .build(),
+                    RequestBody.fromBytes(Arrays.copyOf(buffer, len))
+                ).eTag()
+            );
+        } catch (final SdkException ex) {
+            this.forget(ex);
+            throw new IOException(
+                String.format(
+                    "failed to upload part #%d of '%s' in '%s'",
+                    number, this.ocket.key(), this.ocket.bucket().name()
+                ),
+                ex
+            );
+        }
+        final String md5 = new Md5(buffer, len).hex();
+        upload.parts.add(
+            CompletedPart.builder().partNumber(number).eTag(etag).build()
+        );
+        upload.digests.add(md5);
+        if (this.journal.isPresent()) {
+            Files.write(
+                this.journal.get(),
+                Collections.singletonList(
+                    String.format("%d %s %s", number, etag, md5)
+                ),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND
+            );
+        }
+    }
+
+    /**
+     * Read parts already uploaded from the input and make sure they
+     * are the same.
+     * @param upload The upload
+     * @param input The input
+     * @param buffer Buffer for one part
+     * @throws IOException If they are not the same
+     */
+    private void skip(final Multipart.Upload upload, final InputStream input,
+        final byte[] buffer) throws IOException {
+        for (int idx = 0; idx < upload.parts.size(); ++idx) {
+            final int len = IOUtils.read(input, buffer);
+            if (!new Md5(buffer, len).hex().equals(upload.digests.get(idx))) {
+                this.abort(upload);
+                Files.deleteIfExists(this.journal.get());
+                throw new IOException(
+                    String.format(
+                        "Part #%d of '%s' differs from the interrupted upload",
+                        idx + 1, this.ocket.key()
+                    )
+                );
+            }
+        }
+        Logger.info(
+            this, "Multipart upload of '%s' resumed after %d parts",
+            this.ocket.key(), upload.parts.size()
+        );
+    }
+
+    /**
+     * Restore the upload from the journal, if it's there.
+     * @return The upload, if it's there and belongs to this ocket
+     * @throws IOException If fails
+     */
+    private Optional<Multipart.Upload> restore() throws IOException {
+        Optional<Multipart.Upload> upload = Optional.empty();
+        if (this.journal.isPresent() && Files.exists(this.journal.get())) {
+            final List<String> lines = Files.readAllLines(
+                this.journal.get(), StandardCharsets.UTF_8
+            );
+            if (!lines.isEmpty() && lines.get(0).startsWith(this.header(""))) {
+                final Multipart.Upload saved = new Multipart.Upload(
+                    lines.get(0).substring(this.header("").length())
+                );
+                for (final String line : lines.subList(1, lines.size())) {
+                    final String[] parts = line.split(" ");
+                    // @checkstyle MagicNumber (1 line)
+                    if (parts.length == 3) {
+                        saved.parts.add(
+                            CompletedPart.builder()
+                                .partNumber(Integer.parseInt(parts[0]))
+                                .eTag(parts[1])
+                                .build()
+                        );
+                        saved.digests.add(parts[2]);
+                    }
+                }
+                upload = Optional.of(saved);
+            }
+        }
+        return upload;
+    }
+
+    /**
+     * Is the upload still known to S3?
+     * @param upload The upload
+     * @return FALSE if S3 says there is no such upload
+     * @throws IOException If fails
+     */
+    private boolean alive(final Multipart.Upload upload) throws IOException {
+        boolean alive = true;
+        try {
+            this.aws().listParts(
+                new Deadline.Current().limit(ListPartsRequest.builder())
+                    .bucket(this.ocket.bucket().name())
+                    .key(this.ocket.key())
+                    .uploadId(upload.uid)
+                    .maxParts(1)
+                    .build()
+            );
+        } catch (final S3Exception ex) {
+            if (!Multipart.missing(ex)) {
+                throw new IOException(
+                    String.format(
+                        "failed to check upload of '%s' in '%s'",
+                        this.ocket.key(), this.ocket.bucket().name()
+                    ),
+                    ex
+                );
+            }
+            alive = false;
+        }
+        return alive;
+    }
+
+    /**
+     * Delete the journal, if S3 doesn't know the upload any more,
+     * so that the next writing starts a new upload.
+     * @param error The failure
+     * @throws IOException If fails
+     */
+    private void forget(final SdkException error) throws IOException {
+        if (Multipart.missing(error) && this.journal.isPresent()) {
+            Files.deleteIfExists(this.journal.get());
+        }
+    }
+
+    /**
+     * Abort the upload, if possible.
+     * @param upload The upload
+     */
+    private void abort(final Multipart.Upload upload) {
+        try {
+            this.aws().abortMultipartUpload(
+                AbortMultipartUploadRequest.builder()
+                    .bucket(this.ocket.bucket().name())
+                    .key(this.ocket.key())
+                    .uploadId(upload.uid)
+                    .build()
+            );
+        } catch (final SdkException ex) {
+            Logger.warn(
+                this, "Failed to abort upload of '%s': %[exception]s",
+                this.ocket.key(), ex
+            );
+        }
+    }
+
+    /**
+     * The first line of the journal.
+     * @param uid ID of the upload
+     * @return The line
+     */
+    private String header(final String uid) {
+        return String.format(
+            "%s/%s %d ", this.ocket.bucket().name(), this.ocket.key(),
+            this.part
+        ).concat(uid);
+    }
+
+    /**
+     * The client.
+     * @return AWS client
+     */
+    private S3Client aws() {
+        return this.ocket.bucket().region().aws();
+    }
+
+    /**
+     * Is it a failure because S3 doesn't know the upload?
+     * @param error The failure
+     * @return TRUE if there is no such upload
+     */
+    private static boolean missing(final SdkException error) {
+        // @checkstyle MagicNumber (3 lines)
+        return error instanceof NoSuchUploadException
+            || error instanceof S3Exception
+            && ((S3Exception) error).statusCode() == 404;
+    }
+
+    /**
+     * State of an upload.
+     *
+     * @since 1.0
+     */
+    private static final class Upload {
+        /**
+         * ID of the upload.
+         */
+        private final String uid;
+
+        /**
+         * Completed parts.
+         */
+        private final List<CompletedPart> parts;
+
+        /**
+         * MD5 digests of completed parts.
+         */
+        private final List<String> digests;
+
+        /**
+         * Ctor.
+         * @param id ID of the upload
+         */
+        Upload(final String id) {
+            this.uid = id;
+            this.parts = new ArrayList<>(0);
+            this.digests = new ArrayList<>(0);
+        }
+    }
+
+}
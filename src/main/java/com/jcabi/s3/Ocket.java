@@ -79,6 +79,38 @@ public interface Ocket extends Comparable<Ocket> {
      */
     void read(OutputStream output) throws IOException;
 
+    /**
+     * Read a range of content.
+     *
+     * <p>Writes at most {@code length} bytes, starting from
+     * {@code offset}. If the object is shorter, fewer bytes are written,
+     * and nothing at all if {@code offset} is beyond its end.</p>
+     *
+     * <p>Throws {@link OcketNotFoundException} if this object
+     * doesn't exist in S3 bucket.</p>
+     *
+     * <p>By default the whole object is read and sliced in memory,
+     * implementations should override it with a ranged read.</p>
+     *
+     * @param output Where to write
+     * @param offset Position of the first byte to read
+     * @param length Maximum number of bytes to read
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    default void read(OutputStream output, long offset, long length)
+        throws IOException {
+        final ByteArrayOutputStream full = new ByteArrayOutputStream();
+        this.read(full);
+        final byte[] content = full.toByteArray();
+        if (offset < content.length && length > 0L) {
+            output.write(
+                content, (int) offset,
+                (int) Math.min(length, content.length - offset)
+            );
+        }
+    }
+
     /**
      * Write new content to the object.
      * @param input Where to get content
@@ -175,6 +207,12 @@ public interface Ocket extends Comparable<Ocket> {
             this.origin.read(output);
         }
 
+        @Override
+        public void read(final OutputStream output, final long offset,
+            final long length) throws IOException {
+            this.origin.read(output, offset, length);
+        }
+
         @Override
         public void write(final InputStream input,
             final HeadObjectResponse meta)
@@ -222,6 +260,12 @@ public interface Ocket extends Comparable<Ocket> {
             // nothing
         }
 
+        @Override
+        public void read(final OutputStream output, final long offset,
+            final long length) {
+            // nothing
+        }
+
         @Override
         public void write(final InputStream input,
             final HeadObjectResponse meta) {
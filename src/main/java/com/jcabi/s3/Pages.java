@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Guard of pages of listings loaded in the current thread,
+ * until it's closed.
+ *
+ * <p>A listing of a bucket loads keys from S3 page by page, while it's
+ * being iterated, and most calls of {@code hasNext()} don't touch S3
+ * at all. A decorator which cares only about real calls to S3, like
+ * a circuit breaker, opens the scope around {@code hasNext()} of
+ * the listing it decorates, and every page loaded inside goes through
+ * its {@link Attempts}:</p>
+ *
+ * <pre> try (Pages pages = new Pages(circuit)) {
+ *   return iterator.hasNext();
+ * }</pre>
+ *
+ * <p>Scopes can be nested: a page goes through the guard of the outer
+ * scope first, and then through the guard of the nested one. A scope
+ * must be closed in the same thread where it was created.</p>
+ *
+ * @since 1.0
+ */
+public final class Pages implements AutoCloseable {
+
+    /**
+     * Scope of the current thread.
+     */
+    private static final ThreadLocal<Pages> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Guard of page loads.
+     */
+    private final transient Attempts guard;
+
+    /**
+     * The scope around this one, if any.
+     */
+    private final transient Optional<Pages> outer;
+
+    /**
+     * Public ctor, which starts the scope in the current thread.
+     * @param grd Guard of page loads
+     */
+    public Pages(final Attempts grd) {
+        this.outer = Optional.ofNullable(Pages.CURRENT.get());
+        this.guard = grd;
+        Pages.CURRENT.set(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pages through %s", this.guard);
+    }
+
+    @Override
+    public void close() {
+        if (this.outer.isPresent()) {
+            Pages.CURRENT.set(this.outer.get());
+        } else {
+            Pages.CURRENT.remove();
+        }
+    }
+
+    /**
+     * Load a page through this scope and the outer ones.
+     * @param action Loading of the page
+     * @param <T> Type of page
+     * @return The page
+     * @throws IOException If fails
+     */
+    private <T> T load(final Attempts.Action<T> action) throws IOException {
+        final T page;
+        if (this.outer.isPresent()) {
+            page = this.outer.get().load(() -> this.guard.call(action));
+        } else {
+            page = this.guard.call(action);
+        }
+        return page;
+    }
+
+    /**
+     * Guard of the current thread, if there is any.
+     *
+     * @since 1.0
+     */
+    static final class Current {
+        /**
+         * Load a page, through the guards of the current thread.
+         * @param action Loading of the page
+         * @param <T> Type of page
+         * @return The page
+         * @throws IOException If fails
+         */
+        <T> T load(final Attempts.Action<T> action) throws IOException {
+            final Pages pages = Pages.CURRENT.get();
+            final T page;
+            if (pages == null) {
+                page = action.exec();
+            } else {
+                page = pages.load(action);
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Settings of multipart uploads started in the current thread,
+ * until it's closed.
+ *
+ * <p>Writing to an S3 object uploads big content with {@link Multipart}.
+ * The scope tells it how to retry failed parts and where to keep journals
+ * of uploads, so that an interrupted upload is resumed by the next writing
+ * of the same content to the same object, even through decorators:</p>
+ *
+ * <pre> try (Parts parts = new Parts(Paths.get("/var/uploads"))) {
+ *   new ReOcket(bucket.ocket("huge.bin")).write(input, meta);
+ * }</pre>
+ *
+ * <p>Retrying decorators open their own scope, with their policy,
+ * around big writes. Scopes can be nested: what the nested one doesn't
+ * set is taken from the outer one. A scope must be closed in the same
+ * thread where it was created.</p>
+ *
+ * @since 1.0
+ */
+public final class Parts implements AutoCloseable {
+
+    /**
+     * Scope of the current thread.
+     */
+    private static final ThreadLocal<Parts> CURRENT = new ThreadLocal<>();
+
+    /**
+     * How to retry parts, if set.
+     */
+    private final transient Optional<Attempts> attempts;
+
+    /**
+     * Directory of journals, if set.
+     */
+    private final transient Optional<Path> journals;
+
+    /**
+     * The scope around this one, if any.
+     */
+    private final transient Optional<Parts> outer;
+
+    /**
+     * Public ctor, which retries parts in the current thread.
+     * @param retry How to retry parts
+     */
+    public Parts(final Attempts retry) {
+        this(Optional.of(retry), Optional.empty());
+    }
+
+    /**
+     * Public ctor, which keeps journals of uploads in the current thread.
+     * @param dir Directory of journals
+     */
+    public Parts(final Path dir) {
+        this(Optional.empty(), Optional.of(dir));
+    }
+
+    /**
+     * Public ctor, which starts the scope in the current thread.
+     * @param retry How to retry parts, if necessary
+     * @param dir Directory of journals, if necessary
+     */
+    public Parts(final Optional<Attempts> retry, final Optional<Path> dir) {
+        this.outer = Optional.ofNullable(Parts.CURRENT.get());
+        this.attempts = retry;
+        this.journals = dir;
+        Parts.CURRENT.set(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s, journals in %s",
+            this.retry().map(Object::toString).orElse("default attempts"),
+            this.directory().map(Object::toString).orElse("nowhere")
+        );
+    }
+
+    @Override
+    public void close() {
+        if (this.outer.isPresent()) {
+            Parts.CURRENT.set(this.outer.get());
+        } else {
+            Parts.CURRENT.remove();
+        }
+    }
+
+    /**
+     * How to retry parts, in this scope or the outer one.
+     * @return Attempts, if set
+     */
+    private Optional<Attempts> retry() {
+        Optional<Attempts> retry = this.attempts;
+        if (!retry.isPresent() && this.outer.isPresent()) {
+            retry = this.outer.get().retry();
+        }
+        return retry;
+    }
+
+    /**
+     * Directory of journals, in this scope or the outer one.
+     * @return Directory, if set
+     */
+    private Optional<Path> directory() {
+        Optional<Path> dir = this.journals;
+        if (!dir.isPresent() && this.outer.isPresent()) {
+            dir = this.outer.get().directory();
+        }
+        return dir;
+    }
+
+    /**
+     * Settings of the current thread, if there are any.
+     *
+     * @since 1.0
+     */
+    static final class Current {
+        /**
+         * How to retry parts: three attempts, unless set.
+         * @return Attempts
+         */
+        Attempts attempts() {
+            return Optional.ofNullable(Parts.CURRENT.get())
+                .flatMap(Parts::retry)
+                // @checkstyle MagicNumber (1 line)
+                .orElseGet(() -> new Attempts.Backoff(3));
+        }
+
+        /**
+         * Journal of an upload to the object, if journals are kept.
+         * @param ocket The object
+         * @return Path of the journal
+         */
+        Optional<Path> journal(final Ocket ocket) {
+            return Optional.ofNullable(Parts.CURRENT.get())
+                .flatMap(Parts::directory)
+                .map(
+                    dir -> dir.resolve(
+                        String.format(
+                            "%s.upload",
+                            new Md5(
+                                String.format(
+                                    "%s/%s", ocket.bucket().name(),
+                                    ocket.key()
+                                ).getBytes(StandardCharsets.UTF_8)
+                            ).hex()
+                        )
+                    )
+                );
+        }
+    }
+}
@@ -5,11 +5,13 @@
 package com.jcabi.s3;
 
 import com.jcabi.aspects.Loggable;
+import java.net.URI;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
 /**
  * Amazon S3 abstraction.
@@ -69,16 +71,27 @@ public interface Region {
          */
         public Simple(final String key, final String secret,
             final String region) {
+            this(Region.Simple.builder(key, secret, region).build());
+        }
+
+        /**
+         * Public ctor, for an S3-compatible server at the given endpoint,
+         * like {@link com.jcabi.s3.fake.FkServer}, MinIO or a proxy.
+         *
+         * <p>Buckets are addressed in path style, as
+         * {@code http://host:port/bucket/key}, since such servers
+         * usually don't have DNS names for buckets.</p>
+         *
+         * @param key Amazon key
+         * @param secret Amazon secret
+         * @param endpoint Endpoint, like {@code http://127.0.0.1:9000}
+         */
+        public Simple(final String key, final String secret,
+            final URI endpoint) {
             this(
-                S3Client.builder()
-                    .region(
-                        software.amazon.awssdk.regions.Region.of(region)
-                    )
-                    .credentialsProvider(
-                        StaticCredentialsProvider.create(
-                            AwsBasicCredentials.create(key, secret)
-                        )
-                    )
+                Region.Simple.builder(key, secret, "us-east-1")
+                    .endpointOverride(endpoint)
+                    .forcePathStyle(true)
                     .build()
             );
         }
@@ -100,5 +113,23 @@ public interface Region {
         public S3Client aws() {
             return this.server;
         }
+
+        /**
+         * Builder of a client with static credentials.
+         * @param key Amazon key
+         * @param secret Amazon secret
+         * @param region Region
+         * @return Builder
+         */
+        private static S3ClientBuilder builder(final String key,
+            final String secret, final String region) {
+            return S3Client.builder()
+                .region(software.amazon.awssdk.regions.Region.of(region))
+                .credentialsProvider(
+                    StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(key, secret)
+                    )
+                );
+        }
     }
 }
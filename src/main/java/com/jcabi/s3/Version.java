@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+/**
+ * Versions of objects read in the current thread, until it's closed.
+ *
+ * <p>The first read of an object in the scope remembers the ETag
+ * which S3 returned, and every next read of the same object asks S3
+ * for exactly that version, with {@code If-Match}. If the object was
+ * overwritten in the meantime, S3 replies with 412 and the read fails,
+ * instead of mixing bytes of two versions. This is how reading is resumed
+ * after failures, with ranged reads:</p>
+ *
+ * <pre> try (Version version = new Version()) {
+ *   ocket.read(output);
+ *   // fails in the middle, then
+ *   ocket.read(output, written, length - written);
+ * }</pre>
+ *
+ * <p>Versions can be nested: the nested one knows ETags of the outer one,
+ * and gives the ETags it has seen to the outer one when it's closed.
+ * A version must be closed in the same thread where it was created.
+ * In order to read in another thread within the version of the caller,
+ * the version is nested there explicitly:</p>
+ *
+ * <pre> Optional&lt;Version&gt; caller = new Version.Current().version();
+ * // in another thread
+ * try (Version version = new Version(caller)) {
+ *   ocket.read(output);
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public final class Version implements AutoCloseable {
+
+    /**
+     * Version of the current thread.
+     */
+    private static final ThreadLocal<Version> CURRENT = new ThreadLocal<>();
+
+    /**
+     * ETags of objects read, by bucket and key.
+     */
+    private final transient ConcurrentMap<String, String> etags;
+
+    /**
+     * The version around this one, if any.
+     */
+    private final transient Optional<Version> outer;
+
+    /**
+     * The version of the current thread before this one, if any.
+     */
+    private final transient Optional<Version> previous;
+
+    /**
+     * Public ctor, which starts the version in the current thread.
+     */
+    public Version() {
+        this(Optional.ofNullable(Version.CURRENT.get()));
+    }
+
+    /**
+     * Public ctor, which starts the version in the current thread,
+     * nested into the given one, maybe of another thread.
+     * @param around The version around this one, if any
+     */
+    public Version(final Optional<Version> around) {
+        this.outer = around;
+        this.previous = Optional.ofNullable(Version.CURRENT.get());
+        this.etags = new ConcurrentHashMap<>(0);
+        Version.CURRENT.set(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d objects pinned", this.etags.size());
+    }
+
+    /**
+     * ETag of the object, if it was read in this scope.
+     * @param ocket The object
+     * @return ETag seen by the first read
+     */
+    public Optional<String> etag(final Ocket ocket) {
+        Optional<String> etag = Optional.ofNullable(
+            this.etags.get(Version.key(ocket))
+        );
+        if (!etag.isPresent() && this.outer.isPresent()) {
+            etag = this.outer.get().etag(ocket);
+        }
+        return etag;
+    }
+
+    @Override
+    public void close() {
+        this.outer.ifPresent(
+            version -> this.etags.forEach(version.etags::putIfAbsent)
+        );
+        if (this.previous.isPresent()) {
+            Version.CURRENT.set(this.previous.get());
+        } else {
+            Version.CURRENT.remove();
+        }
+    }
+
+    /**
+     * Make a key for the ocket.
+     * @param ocket The ocket
+     * @return Key
+     */
+    private static String key(final Ocket ocket) {
+        return String.format("%s/%s", ocket.bucket().name(), ocket.key());
+    }
+
+    /**
+     * Version of the current thread, if there is one.
+     *
+     * @since 1.0
+     */
+    public static final class Current {
+        /**
+         * Version of the current thread.
+         * @return The version, or nothing if there is none
+         */
+        public Optional<Version> version() {
+            return Optional.ofNullable(Version.CURRENT.get());
+        }
+
+        /**
+         * Ask for the version of the object seen before, if any.
+         * @param ocket The object
+         * @param builder Builder of the request
+         * @return The same builder
+         */
+        GetObjectRequest.Builder limit(final Ocket ocket,
+            final GetObjectRequest.Builder builder) {
+            final Version version = Version.CURRENT.get();
+            if (version != null) {
+                version.etag(ocket).ifPresent(builder::ifMatch);
+            }
+            return builder;
+        }
+
+        /**
+         * Remember the ETag of the object, if it's the first read of it.
+         * @param ocket The object
+         * @param etag ETag returned by S3
+         */
+        void seen(final Ocket ocket, final String etag) {
+            final Version version = Version.CURRENT.get();
+            if (version != null && etag != null) {
+                version.etags.putIfAbsent(Version.key(ocket), etag);
+            }
+        }
+    }
+}
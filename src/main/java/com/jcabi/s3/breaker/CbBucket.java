@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Pages;
+import com.jcabi.s3.Region;
+import java.io.IOException;
+import java.util.Iterator;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Bucket that fails fast when it is struggling.
+ *
+ * <p>Removing and listing go through the circuit of the bucket, including
+ * loading of next pages from S3 while iterating, guarded by {@link Pages}:
+ * when the circuit is open, the iterator throws
+ * {@link java.io.UncheckedIOException} instead of loading a page.
+ * Keys of a page already loaded are iterated without touching
+ * the circuit.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class CbBucket implements Bucket {
+
+    /**
+     * Original bucket.
+     */
+    private final transient Bucket origin;
+
+    /**
+     * Circuits of buckets.
+     */
+    private final transient Circuits circuits;
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     */
+    public CbBucket(final Bucket bkt) {
+        this(bkt, new Circuits());
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     * @param crc Circuits of buckets
+     */
+    public CbBucket(final Bucket bkt, final Circuits crc) {
+        this.origin = bkt;
+        this.circuits = crc;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Region region() {
+        return new CbRegion(this.origin.region(), this.circuits);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Ocket ocket(final String key) {
+        return new CbOcket(this.origin.ocket(key), this.circuits);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.circuit().call(this.origin::exists);
+    }
+
+    @Override
+    public void remove(final String key) throws IOException {
+        this.circuit().call(
+            () -> {
+                this.origin.remove(key);
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx) throws IOException {
+        return this.list(pfx, "");
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        final Circuit circuit = this.circuit();
+        final Iterable<String> list = circuit.call(
+            () -> this.origin.list(pfx, after)
+        );
+        // @checkstyle AnonInnerLengthCheck (50 lines)
+        return new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<String>() {
+                    private final Iterator<String> iter =
+                        list.iterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        try (Pages pages = new Pages(circuit)) {
+                            return this.iter.hasNext();
+                        }
+                    }
+
+                    @Override
+                    public String next() {
+                        try (Pages pages = new Pages(circuit)) {
+                            return this.iter.next();
+                        }
+                    }
+
+                    @Override
+                    public void remove() {
+                        this.iter.remove();
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public int compareTo(final Bucket bkt) {
+        return this.origin.name().compareTo(bkt.name());
+    }
+
+    /**
+     * Circuit of this bucket.
+     * @return Circuit
+     */
+    private Circuit circuit() {
+        return this.circuits.circuit(this.origin.name());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.output.ProxyOutputStream;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Ocket that fails fast when its bucket is struggling.
+ *
+ * <p>Every call goes through the circuit of the bucket. Reading is
+ * considered slow when its first byte arrives too late, no matter how
+ * long it takes to transfer the rest of the content. Writing is never
+ * considered slow, since its duration depends on the size of
+ * the content, only its failures count.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class CbOcket implements Ocket {
+
+    /**
+     * Original ocket.
+     */
+    private final transient Ocket origin;
+
+    /**
+     * Circuits of buckets.
+     */
+    private final transient Circuits circuits;
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     */
+    public CbOcket(final Ocket okt) {
+        this(okt, new Circuits());
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     * @param crc Circuits of buckets
+     */
+    public CbOcket(final Ocket okt, final Circuits crc) {
+        this.origin = okt;
+        this.circuits = crc;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket() {
+        return new CbBucket(this.origin.bucket(), this.circuits);
+    }
+
+    @Override
+    public String key() {
+        return this.origin.key();
+    }
+
+    @Override
+    public HeadObjectResponse meta() throws IOException {
+        return this.circuit().call(this.origin::meta);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.circuit().call(this.origin::exists);
+    }
+
+    @Override
+    public void read(final OutputStream output) throws IOException {
+        final CbOcket.FirstByte first = new CbOcket.FirstByte(output);
+        this.circuit().call(
+            () -> {
+                this.origin.read(first);
+                return Boolean.TRUE;
+            },
+            first::moment
+        );
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        final CbOcket.FirstByte first = new CbOcket.FirstByte(output);
+        this.circuit().call(
+            () -> {
+                this.origin.read(first, offset, length);
+                return Boolean.TRUE;
+            },
+            first::moment
+        );
+    }
+
+    @Override
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        final long start = System.nanoTime();
+        this.circuit().call(
+            () -> {
+                this.origin.write(input, meta);
+                return Boolean.TRUE;
+            },
+            () -> start
+        );
+    }
+
+    @Override
+    public int compareTo(final Ocket okt) {
+        return this.origin.key().compareTo(okt.key());
+    }
+
+    /**
+     * Circuit of the bucket.
+     * @return Circuit
+     */
+    private Circuit circuit() {
+        return this.circuits.circuit(this.origin.bucket().name());
+    }
+
+    /**
+     * Output stream that remembers when the first byte arrived.
+     *
+     * @since 1.0
+     */
+    private static final class FirstByte extends ProxyOutputStream {
+
+        /**
+         * When the first byte arrived, in nanoseconds, or zero.
+         */
+        private transient long first;
+
+        /**
+         * Ctor.
+         * @param output Original stream
+         */
+        FirstByte(final OutputStream output) {
+            super(output);
+        }
+
+        /**
+         * When the first byte arrived, or now, if nothing arrived yet.
+         * @return Nanoseconds
+         */
+        long moment() {
+            long moment = this.first;
+            if (moment == 0L) {
+                moment = System.nanoTime();
+            }
+            return moment;
+        }
+
+        @Override
+        protected void beforeWrite(final int len) {
+            if (this.first == 0L && len > 0) {
+                this.first = System.nanoTime();
+            }
+        }
+    }
+}
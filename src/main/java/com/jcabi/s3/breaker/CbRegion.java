@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Region;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Region that fails fast when its buckets are struggling.
+ *
+ * <p>All buckets and ockets of the region share the same {@link Circuits},
+ * so every bucket has exactly one circuit breaker, no matter how many
+ * times it is retrieved from the region.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class CbRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * Circuits of buckets.
+     */
+    private final transient Circuits circuits;
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     */
+    public CbRegion(final Region reg) {
+        this(reg, new Circuits());
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param crc Circuits of buckets
+     */
+    public CbRegion(final Region reg, final Circuits crc) {
+        this.origin = reg;
+        this.circuits = crc;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket(final String name) {
+        return new CbBucket(this.origin.bucket(name), this.circuits);
+    }
+
+    @Override
+    public S3Client aws() {
+        return this.origin.aws();
+    }
+}
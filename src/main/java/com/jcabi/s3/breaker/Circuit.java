@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.log.Logger;
+import com.jcabi.s3.Attempts;
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.IOException;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * Circuit breaker of one bucket.
+ *
+ * <p>It remembers outcomes of the latest calls and opens when the share
+ * of failed or slow calls among them exceeds the threshold. While it is
+ * open, calls fail immediately, without touching the bucket. When
+ * the cooldown is over, it lets a few probing calls through: if all
+ * of them succeed, the circuit closes, otherwise it opens again.</p>
+ *
+ * <p>Client errors of S3, like a missing object or denied access, are
+ * not failures of the backend, and don't count. Neither does
+ * {@link OcketNotFoundException}, unless it's caused by a server error
+ * of S3.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Circuit implements Attempts {
+
+    /**
+     * Name of the bucket.
+     */
+    private final transient String name;
+
+    /**
+     * Configuration.
+     */
+    private final transient Circuits config;
+
+    /**
+     * Outcomes of the latest calls, TRUE for failures.
+     */
+    private final transient boolean[] ring;
+
+    /**
+     * Position of the next outcome in the ring.
+     */
+    private transient int cursor;
+
+    /**
+     * Number of outcomes in the ring.
+     */
+    private transient int size;
+
+    /**
+     * Number of failures in the ring.
+     */
+    private transient int failures;
+
+    /**
+     * Current state.
+     */
+    private transient Circuit.State state;
+
+    /**
+     * When it was opened, in nanoseconds.
+     */
+    private transient long opened;
+
+    /**
+     * Probing calls let through while half-open.
+     */
+    private transient int probes;
+
+    /**
+     * Probing calls succeeded while half-open.
+     */
+    private transient int passed;
+
+    /**
+     * Ctor.
+     * @param bucket Name of the bucket
+     * @param cfg Configuration
+     */
+    Circuit(final String bucket, final Circuits cfg) {
+        this.name = bucket;
+        this.config = cfg;
+        this.ring = new boolean[cfg.window()];
+        this.state = Circuit.State.CLOSED;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(
+            "%s is %s, %d failures of %d calls",
+            this.name, this.state, this.failures, this.size
+        );
+    }
+
+    @Override
+    public <T> T call(final Attempts.Action<T> action) throws IOException {
+        return this.call(action, System::nanoTime);
+    }
+
+    /**
+     * Call the action through the circuit, measuring its latency
+     * until the given moment.
+     * @param action The action
+     * @param answered When the response started to arrive, in nanoseconds,
+     *  asked right after the action is finished
+     * @param <T> Type of result
+     * @return Its result
+     * @throws IOException If fails or the circuit is open
+     */
+    <T> T call(final Attempts.Action<T> action, final LongSupplier answered)
+        throws IOException {
+        this.acquire();
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final T result = action.exec();
+            failed = answered.getAsLong() - start > this.config.slow();
+            return result;
+        } catch (final IOException | RuntimeException ex) {
+            failed = Circuit.counts(ex);
+            throw ex;
+        } finally {
+            this.record(failed);
+        }
+    }
+
+    /**
+     * Let the call through, or fail if the circuit is open.
+     * @throws IOException If it's open
+     */
+    synchronized void acquire() throws IOException {
+        if (this.state == Circuit.State.OPEN
+            && System.nanoTime() - this.opened >= this.config.cooldown()) {
+            this.state = Circuit.State.HALF_OPEN;
+            this.probes = 0;
+            this.passed = 0;
+            Logger.info(this, "Circuit of '%s' is half-open", this.name);
+        }
+        if (this.state == Circuit.State.OPEN
+            || this.state == Circuit.State.HALF_OPEN
+            && this.probes >= this.config.probes()) {
+            throw new IOException(
+                String.format(
+                    "Circuit of bucket '%s' is open, failing fast", this.name
+                )
+            );
+        }
+        if (this.state == Circuit.State.HALF_OPEN) {
+            ++this.probes;
+        }
+    }
+
+    /**
+     * Record the outcome of a call.
+     * @param failed TRUE if it failed or was too slow
+     */
+    synchronized void record(final boolean failed) {
+        if (this.state == Circuit.State.HALF_OPEN) {
+            if (failed) {
+                this.open();
+            } else {
+                ++this.passed;
+                if (this.passed >= this.config.probes()) {
+                    this.close();
+                }
+            }
+        } else if (this.state == Circuit.State.CLOSED) {
+            if (this.size == this.ring.length) {
+                if (this.ring[this.cursor]) {
+                    --this.failures;
+                }
+            } else {
+                ++this.size;
+            }
+            this.ring[this.cursor] = failed;
+            if (failed) {
+                ++this.failures;
+            }
+            this.cursor = (this.cursor + 1) % this.ring.length;
+            if (this.size >= this.config.minimum()
+                && this.failures >= this.config.rate() * this.size) {
+                this.open();
+            }
+        }
+    }
+
+    /**
+     * Is it a failure of the backend?
+     * @param error The error
+     * @return FALSE if it's a client error of S3 or a missing object
+     */
+    private static boolean counts(final Throwable error) {
+        boolean counts = true;
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof OcketNotFoundException) {
+                counts = false;
+            } else if (cause instanceof AwsServiceException) {
+                final int status = ((AwsServiceException) cause).statusCode();
+                // @checkstyle MagicNumber (1 line)
+                counts = status < 400 || status >= 500 || status == 429;
+            }
+            cause = cause.getCause();
+        }
+        return counts;
+    }
+
+    /**
+     * Open the circuit.
+     */
+    private void open() {
+        this.state = Circuit.State.OPEN;
+        this.opened = System.nanoTime();
+        Logger.warn(
+            this, "Circuit of '%s' is open, %d failures of %d calls",
+            this.name, this.failures, this.size
+        );
+    }
+
+    /**
+     * Close the circuit and forget the history.
+     */
+    private void close() {
+        this.state = Circuit.State.CLOSED;
+        this.cursor = 0;
+        this.size = 0;
+        this.failures = 0;
+        Logger.info(this, "Circuit of '%s' is closed", this.name);
+    }
+
+    /**
+     * State of the circuit.
+     *
+     * @since 1.0
+     */
+    private enum State {
+        /**
+         * Calls go through.
+         */
+        CLOSED,
+
+        /**
+         * Calls fail immediately.
+         */
+        OPEN,
+
+        /**
+         * A few probing calls go through.
+         */
+        HALF_OPEN
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Circuit breakers of buckets, one per bucket, shared by all circuit
+ * breaking decorators they are given to.
+ *
+ * <p>Every circuit remembers outcomes of the latest calls to its bucket
+ * and opens when too many of them failed or were too slow. Then it stays
+ * open for the cooldown period, failing all calls immediately, and after
+ * that lets a few probing calls through, in order to decide whether
+ * to close again:</p>
+ *
+ * <pre> Region region = new CbRegion(
+ *   new Region.Simple(key, secret),
+ *   new Circuits(
+ *     50, 0.5d, Duration.ofSeconds(2L), Duration.ofSeconds(30L), 3
+ *   )
+ * );</pre>
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Circuits {
+
+    /**
+     * How many latest calls to remember.
+     */
+    private final transient int calls;
+
+    /**
+     * Share of failed calls which opens the circuit.
+     */
+    private final transient double threshold;
+
+    /**
+     * Latency which makes a call slow, in nanoseconds.
+     */
+    private final transient long latency;
+
+    /**
+     * How long the circuit stays open, in nanoseconds.
+     */
+    private final transient long pause;
+
+    /**
+     * How many probing calls to let through while half-open.
+     */
+    private final transient int trials;
+
+    /**
+     * Circuits, by names of buckets.
+     */
+    private final transient ConcurrentMap<String, Circuit> all;
+
+    /**
+     * Public ctor, which opens a circuit when half of the latest
+     * twenty calls failed or took longer than two seconds, for thirty
+     * seconds.
+     */
+    public Circuits() {
+        // @checkstyle MagicNumber (1 line)
+        this(20, 0.5d, Duration.ofSeconds(2L), Duration.ofSeconds(30L), 3);
+    }
+
+    /**
+     * Public ctor.
+     * @param window How many latest calls to remember
+     * @param rate Share of failed calls which opens the circuit,
+     *  between zero and one
+     * @param slow Latency which makes a call slow, and failed
+     * @param cooldown How long the circuit stays open
+     * @param probes How many probing calls must succeed to close it
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Circuits(final int window, final double rate, final Duration slow,
+        final Duration cooldown, final int probes) {
+        if (window < 1 || probes < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Window (%d) and probes (%d) must be positive",
+                    window, probes
+                )
+            );
+        }
+        this.calls = window;
+        this.threshold = rate;
+        this.latency = slow.toNanos();
+        this.pause = cooldown.toNanos();
+        this.trials = probes;
+        this.all = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public String toString() {
+        return this.all.values().toString();
+    }
+
+    /**
+     * Circuit of the bucket.
+     * @param bucket Name of the bucket
+     * @return Circuit
+     */
+    Circuit circuit(final String bucket) {
+        return this.all.computeIfAbsent(
+            bucket, name -> new Circuit(name, this)
+        );
+    }
+
+    /**
+     * How many latest calls to remember.
+     * @return Number of calls
+     */
+    int window() {
+        return this.calls;
+    }
+
+    /**
+     * Minimum number of calls to decide on.
+     * @return Number of calls
+     */
+    int minimum() {
+        return Math.max(1, this.calls / 2);
+    }
+
+    /**
+     * Share of failed calls which opens the circuit.
+     * @return Share, between zero and one
+     */
+    double rate() {
+        return this.threshold;
+    }
+
+    /**
+     * Latency which makes a call slow.
+     * @return Nanoseconds
+     */
+    long slow() {
+        return this.latency;
+    }
+
+    /**
+     * How long the circuit stays open.
+     * @return Nanoseconds
+     */
+    long cooldown() {
+        return this.pause;
+    }
+
+    /**
+     * How many probing calls to let through while half-open.
+     * @return Number of calls
+     */
+    int probes() {
+        return this.trials;
+    }
+
+}
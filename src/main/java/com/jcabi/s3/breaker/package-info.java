@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Circuit breaking objects.
+ *
+ * @since 1.0
+ */
+package com.jcabi.s3.breaker;
@@ -0,0 +1,222 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Ocket;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Cache of fixed-size aligned blocks of S3 objects.
+ *
+ * <p>Every block is identified by bucket name, object key, ETag and
+ * block index, so a modified object never gets stale blocks. Missing
+ * blocks are fetched from the origin ocket with ranged reads, while
+ * the total amount of memory is bounded by the capacity given
+ * to the constructor. It is useful for random access to large objects,
+ * which are too big to be cached as a whole:</p>
+ *
+ * <pre> Region region = new CdRegion(
+ *   new Region.Simple(key, secret),
+ *   new Blocks(1 &lt;&lt; 20, 256L &lt;&lt; 20)
+ * );
+ * region.bucket("my.example.com").ocket("huge.bin").read(
+ *   output, 5_000_000L, 4096L
+ * );</pre>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+public final class Blocks {
+
+    /**
+     * Size of one block, in bytes.
+     */
+    private final transient int size;
+
+    /**
+     * Blocks, by bucket, key, version and index.
+     */
+    private final transient Cache<List<?>, byte[]> cache;
+
+    /**
+     * Total size of all blocks in the cache.
+     */
+    private final transient AtomicLong weight;
+
+    /**
+     * Public ctor, with 1Mb blocks and 64Mb of memory.
+     */
+    public Blocks() {
+        // @checkstyle MagicNumber (1 line)
+        this(1 << 20, 64L << 20);
+    }
+
+    /**
+     * Public ctor.
+     * @param bytes Size of one block, in bytes
+     * @param capacity Maximum total size of all blocks, in bytes
+     */
+    public Blocks(final int bytes, final long capacity) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Block size must be positive: %d", bytes)
+            );
+        }
+        this.size = bytes;
+        this.weight = new AtomicLong();
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(capacity)
+            .weigher((List<?> key, byte[] block) -> block.length)
+            .removalListener(
+                (RemovalNotification<List<?>, byte[]> note) ->
+                    this.weight.addAndGet((long) -note.getValue().length)
+            )
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d blocks of %d bytes", this.cache.size(), this.size
+        );
+    }
+
+    /**
+     * Statistics of the cache.
+     * @return Snapshot of statistics
+     */
+    public Stats stats() {
+        this.cache.cleanUp();
+        final CacheStats stats = this.cache.stats();
+        return new Stats(
+            stats.hitCount(), stats.missCount(), stats.loadCount(),
+            stats.totalLoadTime(), stats.evictionCount(),
+            this.weight.get(), this.cache.size()
+        );
+    }
+
+    /**
+     * Read a range of the ocket through the cache.
+     *
+     * <p>The range may span any number of blocks, each of them is taken
+     * from the cache or loaded from the ocket with a single ranged read.
+     * If the metadata doesn't have the length of the object, the range
+     * is read directly from the ocket, without caching.</p>
+     *
+     * @param ocket The ocket to read from
+     * @param meta Its metadata
+     * @param output Where to write
+     * @param offset Position of the first byte to read
+     * @param length Maximum number of bytes to read
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public void read(final Ocket ocket, final HeadObjectResponse meta,
+        final OutputStream output, final long offset, final long length)
+        throws IOException {
+        if (meta.contentLength() == null) {
+            ocket.read(output, offset, length);
+        } else {
+            final long end = offset + Math.min(
+                length, Math.max(0L, meta.contentLength() - offset)
+            );
+            long pos = offset;
+            while (pos < end) {
+                final long index = pos / this.size;
+                final byte[] block = this.block(ocket, meta, index);
+                final int from = (int) (pos - index * this.size);
+                if (block.length <= from) {
+                    throw new IOException(
+                        String.format(
+                            "Ocket '%s' is shorter than %d bytes",
+                            ocket.key(), meta.contentLength()
+                        )
+                    );
+                }
+                final int len = (int) Math.min(
+                    (long) (block.length - from), end - pos
+                );
+                output.write(block, from, len);
+                pos += len;
+            }
+        }
+    }
+
+    /**
+     * Forget all blocks of the given ocket, in all versions.
+     * @param ocket The ocket
+     */
+    public void invalidate(final Ocket ocket) {
+        final String bucket = ocket.bucket().name();
+        this.cache.asMap().keySet().removeIf(
+            key -> key.get(0).equals(bucket) && key.get(1).equals(ocket.key())
+        );
+    }
+
+    /**
+     * Get block from the cache or load it from the ocket.
+     * @param ocket The ocket
+     * @param meta Its metadata
+     * @param index Index of the block
+     * @return Content of the block
+     * @throws IOException If fails
+     */
+    private byte[] block(final Ocket ocket, final HeadObjectResponse meta,
+        final long index) throws IOException {
+        try {
+            return this.cache.get(
+                Arrays.asList(
+                    ocket.bucket().name(), ocket.key(),
+                    Blocks.version(meta), index
+                ),
+                () -> {
+                    final ByteArrayOutputStream baos =
+                        new ByteArrayOutputStream(this.size);
+                    ocket.read(baos, index * this.size, this.size);
+                    this.weight.addAndGet((long) baos.size());
+                    return baos.toByteArray();
+                }
+            );
+        } catch (final ExecutionException ex) {
+            throw new IOException(
+                String.format(
+                    "Failed to load block #%d of '%s'", index, ocket.key()
+                ),
+                ex.getCause()
+            );
+        }
+    }
+
+    /**
+     * Version of the object.
+     * @param meta Its metadata
+     * @return ETag or, if it's absent, modification time and length
+     */
+    private static String version(final HeadObjectResponse meta) {
+        final String ver;
+        if (meta.eTag() == null) {
+            ver = String.format(
+                "%s/%d", meta.lastModified(), meta.contentLength()
+            );
+        } else {
+            ver = meta.eTag();
+        }
+        return ver;
+    }
+
+}
@@ -4,20 +4,32 @@
  */
 package com.jcabi.s3.cached;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.Region;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.io.output.NullOutputStream;
 
 /**
  * Cached bucket.
  *
+ * <p>In order to avoid a burst of cache misses right after start,
+ * warm the cache up before the traffic arrives:</p>
+ *
+ * <pre> CdBucket bucket = new CdBucket(region.bucket("my.example.com"));
+ * bucket.warm("templates/", 8);</pre>
+ *
  * @since 0.8
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class CdBucket implements Bucket {
@@ -28,11 +40,37 @@ public final class CdBucket implements Bucket {
     private final transient Bucket origin;
 
     /**
-     * Public ctor.
+     * Cache.
+     */
+    private final transient Memory memory;
+
+    /**
+     * Public ctor, with the default cache, shared by all decorators.
      * @param bkt Bucket original
      */
     public CdBucket(final Bucket bkt) {
+        this(bkt, Memory.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket original
+     * @param cache Cache of blocks, for ranged reads
+     * @since 1.0
+     */
+    public CdBucket(final Bucket bkt, final Blocks cache) {
+        this(bkt, new Memory(cache));
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket original
+     * @param cache Cache
+     * @since 1.0
+     */
+    public CdBucket(final Bucket bkt, final Memory cache) {
         this.origin = bkt;
+        this.memory = cache;
     }
 
     @Override
@@ -42,7 +80,7 @@ public final class CdBucket implements Bucket {
 
     @Override
     public Region region() {
-        return new CdRegion(this.origin.region());
+        return new CdRegion(this.origin.region(), this.memory);
     }
 
     @Override
@@ -52,7 +90,7 @@ public final class CdBucket implements Bucket {
 
     @Override
     public Ocket ocket(final String key) {
-        return new CdOcket(this.origin.ocket(key));
+        return new CdOcket(this.origin.ocket(key), this.memory);
     }
 
     @Override
@@ -62,7 +100,11 @@ public final class CdBucket implements Bucket {
 
     @Override
     public void remove(final String key) throws IOException {
-        this.origin.remove(key);
+        try {
+            this.origin.remove(key);
+        } finally {
+            this.memory.invalidate(this.origin.ocket(key));
+        }
     }
 
     @Override
@@ -70,8 +112,102 @@ public final class CdBucket implements Bucket {
         return this.origin.list(pfx);
     }
 
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        return this.origin.list(pfx, after);
+    }
+
     @Override
     public int compareTo(final Bucket bucket) {
         return this.origin.compareTo(bucket);
     }
+
+    /**
+     * Load metadata and content of all objects with the given prefix
+     * into the cache.
+     * @param pfx Prefix of keys
+     * @param threads How many objects to load concurrently
+     * @return How many objects were loaded
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    public int warm(final String pfx, final int threads) throws IOException {
+        return this.warm(this.origin.list(pfx), threads);
+    }
+
+    /**
+     * Load metadata and content of the given objects into the cache.
+     *
+     * <p>Objects that fail to load are reported to the log and skipped,
+     * while objects bigger than the cache limit get only their metadata
+     * cached.</p>
+     *
+     * @param keys Keys of objects
+     * @param threads How many objects to load concurrently
+     * @return How many objects were loaded
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public int warm(final Iterable<String> keys, final int threads)
+        throws IOException {
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final Semaphore slots = new Semaphore(threads);
+        final AtomicInteger done = new AtomicInteger();
+        try {
+            for (final String key : keys) {
+                slots.acquire();
+                service.submit(
+                    () -> {
+                        try {
+                            this.load(key);
+                            done.incrementAndGet();
+                        // @checkstyle IllegalCatchCheck (1 line)
+                        } catch (final IOException | RuntimeException ex) {
+                            Logger.warn(
+                                this, "Failed to warm up '%s': %[exception]s",
+                                key, ex
+                            );
+                        } finally {
+                            slots.release();
+                        }
+                    }
+                );
+            }
+            service.shutdown();
+            while (!service.awaitTermination(1L, TimeUnit.MINUTES)) {
+                Logger.info(
+                    this, "Still warming up '%s', %d objects loaded",
+                    this.origin.name(), done.get()
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                String.format(
+                    "Interrupted while warming up '%s'", this.origin.name()
+                )
+            );
+        } finally {
+            service.shutdownNow();
+        }
+        Logger.info(
+            this, "Warmed up %d objects in '%s'",
+            done.get(), this.origin.name()
+        );
+        return done.get();
+    }
+
+    /**
+     * Load metadata and content of one object into the cache.
+     * @param key Key of the object
+     * @throws IOException If fails
+     */
+    private void load(final String key) throws IOException {
+        final Ocket ocket = this.ocket(key);
+        if (this.memory.fits(ocket.meta())) {
+            ocket.read(NullOutputStream.INSTANCE);
+        }
+    }
 }
@@ -4,16 +4,17 @@
  */
 package com.jcabi.s3.cached;
 
-import com.jcabi.aspects.Cacheable;
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 /**
@@ -21,7 +22,6 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
  *
  * @since 0.8
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class CdOcket implements Ocket {
@@ -32,11 +32,37 @@ public final class CdOcket implements Ocket {
     private final transient Ocket origin;
 
     /**
-     * Public ctor.
+     * Cache.
+     */
+    private final transient Memory memory;
+
+    /**
+     * Public ctor, with the default cache, shared by all decorators.
      * @param okt Ocket original
      */
     public CdOcket(final Ocket okt) {
+        this(okt, Memory.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket original
+     * @param cache Cache of blocks, for ranged reads
+     * @since 1.0
+     */
+    public CdOcket(final Ocket okt, final Blocks cache) {
+        this(okt, new Memory(cache));
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket original
+     * @param cache Cache
+     * @since 1.0
+     */
+    public CdOcket(final Ocket okt, final Memory cache) {
         this.origin = okt;
+        this.memory = cache;
     }
 
     @Override
@@ -46,7 +72,7 @@ public final class CdOcket implements Ocket {
 
     @Override
     public Bucket bucket() {
-        return new CdBucket(this.origin.bucket());
+        return new CdBucket(this.origin.bucket(), this.memory);
     }
 
     @Override
@@ -55,27 +81,70 @@ public final class CdOcket implements Ocket {
     }
 
     @Override
-    @Cacheable
     public HeadObjectResponse meta() throws IOException {
-        return this.origin.meta();
+        return this.memory.meta(this.origin, this.origin::meta);
     }
 
     @Override
-    @Cacheable
     public boolean exists() throws IOException {
-        return this.origin.exists();
+        return this.memory.exists(this.origin, this.origin::exists);
     }
 
     @Override
     public void read(final OutputStream output) throws IOException {
-        output.write(this.read());
+        this.memory.read(
+            this.origin,
+            output,
+            () -> {
+                final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                this.origin.read(baos);
+                return baos.toByteArray();
+            }
+        );
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        this.memory.range(this.origin, this.meta(), output, offset, length);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the content is not bigger than the limit of the cache,
+     * it goes to the cache, so it's not read back again. It goes to
+     * the origin either immediately or later, depending on the
+     * {@link Flusher} of the cache. Its metadata is not cached, since
+     * the ETag and the time of modification are known only to S3, and
+     * the ETag is not MD5 of the content for multipart uploads or
+     * encrypted objects: it's read from the origin when asked for.</p>
+     */
     @Override
-    @Cacheable.FlushAfter
     public void write(final InputStream input, final HeadObjectResponse meta)
         throws IOException {
-        this.origin.write(input, meta);
+        final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        boolean whole = false;
+        if (this.memory.fits(meta)) {
+            whole = IOUtils.copyLarge(
+                input, head, 0L, this.memory.limit() + 1L
+            ) <= this.memory.limit();
+        }
+        if (whole) {
+            final byte[] body = head.toByteArray();
+            this.memory.write(
+                this.origin, body,
+                meta.toBuilder().contentLength((long) body.length).build()
+            );
+        } else {
+            this.memory.write(
+                this.origin,
+                new SequenceInputStream(
+                    new ByteArrayInputStream(head.toByteArray()), input
+                ),
+                meta
+            );
+        }
     }
 
     @Override
@@ -83,16 +152,4 @@ public final class CdOcket implements Ocket {
         return this.origin.compareTo(ocket);
     }
 
-    /**
-     * Read byte array.
-     * @return Bytes
-     * @throws IOException If fails
-     */
-    @Cacheable
-    private byte[] read() throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        this.origin.read(baos);
-        return baos.toByteArray();
-    }
-
 }
@@ -4,7 +4,6 @@
  */
 package com.jcabi.s3.cached;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Region;
@@ -14,9 +13,10 @@ import software.amazon.awssdk.services.s3.S3Client;
 /**
  * Cached region.
  *
+ * <p>All buckets and ockets of the region share one {@link Memory}.</p>
+ *
  * @since 0.8
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class CdRegion implements Region {
@@ -27,11 +27,37 @@ public final class CdRegion implements Region {
     private final transient Region origin;
 
     /**
-     * Public ctor.
+     * Cache.
+     */
+    private final transient Memory memory;
+
+    /**
+     * Public ctor, with the default cache, shared by all decorators.
      * @param reg Region we're in
      */
     public CdRegion(final Region reg) {
+        this(reg, Memory.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param cache Cache of blocks, for ranged reads
+     * @since 1.0
+     */
+    public CdRegion(final Region reg, final Blocks cache) {
+        this(reg, new Memory(cache));
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param cache Cache
+     * @since 1.0
+     */
+    public CdRegion(final Region reg, final Memory cache) {
         this.origin = reg;
+        this.memory = cache;
     }
 
     @Override
@@ -41,11 +67,20 @@ public final class CdRegion implements Region {
 
     @Override
     public Bucket bucket(final String name) {
-        return new CdBucket(this.origin.bucket(name));
+        return new CdBucket(this.origin.bucket(name), this.memory);
     }
 
     @Override
     public S3Client aws() {
         return this.origin.aws();
     }
+
+    /**
+     * Statistics of the cache of this region.
+     * @return Snapshot of statistics
+     * @since 1.0
+     */
+    public Stats stats() {
+        return this.memory.stats();
+    }
 }
@@ -0,0 +1,434 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import com.jcabi.s3.Ocket;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Flusher of writes, from the cache to the origin.
+ *
+ * <p>By default it writes through: every write goes to the origin
+ * immediately, in the thread of the caller. If you give it a delay,
+ * it works in write-back mode: writes land in the cache and return
+ * immediately, while the latest version of each object goes to the origin
+ * in background, not later than the delay after its first unflushed write.
+ * Repeated writes to the same key are coalesced. Don't forget to
+ * close the flusher on shutdown, otherwise unflushed writes are lost:</p>
+ *
+ * <pre> try (Flusher flusher = new Flusher(Duration.ofMillis(500L))) {
+ *   Region region = new CdRegion(
+ *     new Region.Simple(key, secret), new Memory(flusher)
+ *   );
+ *   // work with the region
+ * }</pre>
+ *
+ * <p>Only content which fits into the cache is written back, bigger
+ * content always goes to the origin immediately.</p>
+ *
+ * <p>A failed write is tried again later, three times at most. When
+ * it fails for the last time, the object is removed from the cache,
+ * so that it's not read from there any more, and the failure is thrown
+ * by the next {@link #flush()} or {@link #close()}.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+public final class Flusher implements Closeable {
+
+    /**
+     * How many times to try to flush one write, before giving up.
+     */
+    private static final int ATTEMPTS = 3;
+
+    /**
+     * Delay of flushing, in milliseconds, or zero for write-through.
+     */
+    private final transient long delay;
+
+    /**
+     * Writes waiting for flushing, by bucket and key.
+     */
+    private final transient ConcurrentMap<String, Flusher.Pending> pending;
+
+    /**
+     * Failures of writes given up, by bucket and key, not yet reported.
+     */
+    private final transient ConcurrentMap<String, IOException> failures;
+
+    /**
+     * Locks of keys, to flush writes to the same key one by one.
+     */
+    private final transient Striped<Lock> locks;
+
+    /**
+     * Scheduler of flushes, if it's write-back.
+     */
+    private final transient Optional<ScheduledExecutorService> scheduler;
+
+    /**
+     * Public ctor, for write-through.
+     */
+    public Flusher() {
+        this(Duration.ZERO, 1);
+    }
+
+    /**
+     * Public ctor, for write-back with four flushing threads.
+     * @param max Maximum delay of flushing
+     */
+    public Flusher(final Duration max) {
+        // @checkstyle MagicNumber (1 line)
+        this(max, 4);
+    }
+
+    /**
+     * Public ctor.
+     * @param max Maximum delay of flushing, zero for write-through
+     * @param threads How many threads flush writes in background
+     */
+    public Flusher(final Duration max, final int threads) {
+        this.delay = max.toMillis();
+        this.pending = new ConcurrentHashMap<>(0);
+        this.failures = new ConcurrentHashMap<>(0);
+        // @checkstyle MagicNumber (1 line)
+        this.locks = Striped.lock(64);
+        if (this.delay > 0L) {
+            final ScheduledThreadPoolExecutor pool =
+                new ScheduledThreadPoolExecutor(
+                    threads,
+                    new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("jcabi-s3-flusher-%d")
+                        .build()
+                );
+            pool.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            this.scheduler = Optional.of(pool);
+        } else {
+            this.scheduler = Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d pending writes, %d failed, %dms delay",
+            this.pending.size(), this.failures.size(), this.delay
+        );
+    }
+
+    /**
+     * Flush all pending writes now, in the thread of the caller.
+     * @throws IOException If some of them fail, or some writes were
+     *  given up in background since the previous flush
+     */
+    public void flush() throws IOException {
+        final Collection<IOException> errors = new ArrayList<>(0);
+        for (final String key : new ArrayList<>(this.pending.keySet())) {
+            try {
+                this.flush(key);
+            } catch (final IOException ex) {
+                errors.add(ex);
+            }
+        }
+        for (final String key : new ArrayList<>(this.failures.keySet())) {
+            final IOException ex = this.failures.remove(key);
+            if (ex != null) {
+                errors.add(ex);
+            }
+        }
+        if (!errors.isEmpty()) {
+            final IOException error = new IOException(
+                String.format("Failed to flush %d writes", errors.size())
+            );
+            errors.forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+
+    /**
+     * Stop flushing in background and flush all pending writes
+     * in the thread of the caller.
+     * @throws IOException If some of the writes fail, now or
+     *  in background since the previous flush
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.scheduler.isPresent()) {
+            this.scheduler.get().shutdown();
+            try {
+                this.scheduler.get().awaitTermination(
+                    this.delay, TimeUnit.MILLISECONDS
+                );
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(
+                    "Interrupted while waiting for flushing threads"
+                );
+            }
+        }
+        this.flush();
+    }
+
+    /**
+     * Write content to the origin, now or later.
+     * @param ocket The origin
+     * @param body Content
+     * @param meta Metadata
+     * @throws IOException If fails
+     */
+    void submit(final Ocket ocket, final byte[] body,
+        final HeadObjectResponse meta) throws IOException {
+        this.submit(ocket, body, meta, () -> { });
+    }
+
+    /**
+     * Write content to the origin, now or later.
+     *
+     * <p>If the flusher is closed while the write is being scheduled,
+     * the write is flushed immediately, in the thread of the caller.</p>
+     *
+     * @param ocket The origin
+     * @param body Content
+     * @param meta Metadata
+     * @param lost What to do if the write is given up in background
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    void submit(final Ocket ocket, final byte[] body,
+        final HeadObjectResponse meta, final Runnable lost)
+        throws IOException {
+        final Flusher.Pending write = new Flusher.Pending(
+            ocket, body, meta, lost
+        );
+        if (this.scheduler.isPresent()
+            && !this.scheduler.get().isShutdown()) {
+            final String key = Memory.key(ocket);
+            if (this.pending.put(key, write) == null && !this.schedule(key)) {
+                final Flusher.Pending latest = this.pending.remove(key);
+                if (latest != null) {
+                    this.write(ocket, latest.stream(), latest.meta);
+                }
+            }
+        } else {
+            this.write(ocket, write.stream(), meta);
+        }
+    }
+
+    /**
+     * Write content to the origin now, cancelling pending writes
+     * to the same key.
+     * @param ocket The origin
+     * @param input Content
+     * @param meta Metadata
+     * @throws IOException If fails
+     */
+    void write(final Ocket ocket, final InputStream input,
+        final HeadObjectResponse meta) throws IOException {
+        final String key = Memory.key(ocket);
+        final Lock lock = this.locks.get(key);
+        lock.lock();
+        try {
+            this.pending.remove(key);
+            ocket.write(input, meta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pending write to the ocket, if any.
+     * @param ocket The ocket
+     * @return Content and metadata, not yet flushed
+     */
+    Optional<Flusher.Pending> pending(final Ocket ocket) {
+        return Optional.ofNullable(this.pending.get(Memory.key(ocket)));
+    }
+
+    /**
+     * Schedule flushing of the key.
+     * @param key The key
+     * @return FALSE if the flusher is closed and it can't be scheduled
+     */
+    private boolean schedule(final String key) {
+        boolean scheduled = false;
+        if (this.scheduler.isPresent()) {
+            try {
+                this.scheduler.get().schedule(
+                    () -> {
+                        try {
+                            this.flush(key);
+                        } catch (final IOException ex) {
+                            Logger.warn(
+                                this, "Failed to flush '%s': %[exception]s",
+                                key, ex
+                            );
+                        }
+                    },
+                    this.delay,
+                    TimeUnit.MILLISECONDS
+                );
+                scheduled = true;
+            } catch (final RejectedExecutionException ex) {
+                scheduled = false;
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * Flush the pending write of the key, if it's still there.
+     *
+     * <p>If it fails, the write stays pending and is tried again later,
+     * unless it was tried too many times already or the flusher is
+     * closed. Then the write is given up: it's forgotten by the cache
+     * and its failure is kept, to be thrown by {@link #flush()}.</p>
+     *
+     * @param key The key
+     * @throws IOException If fails and will be tried again
+     */
+    private void flush(final String key) throws IOException {
+        final Lock lock = this.locks.get(key);
+        lock.lock();
+        try {
+            final Flusher.Pending write = this.pending.remove(key);
+            if (write != null) {
+                try {
+                    write.ocket.write(write.stream(), write.meta);
+                } catch (final IOException ex) {
+                    if (write.attempt() < Flusher.ATTEMPTS
+                        && this.pending.putIfAbsent(key, write) == null) {
+                        if (this.schedule(key)) {
+                            throw ex;
+                        }
+                        this.pending.remove(key, write);
+                    }
+                    this.abandon(key, write, ex);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give up the write, unless a newer write to the same key is pending.
+     * @param key The key
+     * @param write The write
+     * @param error Its last failure
+     */
+    private void abandon(final String key, final Flusher.Pending write,
+        final IOException error) {
+        if (!this.pending.containsKey(key)) {
+            write.lost.run();
+            this.failures.put(key, error);
+            Logger.warn(
+                this, "Gave up flushing '%s' after %d attempts: %[exception]s",
+                key, write.attempts, error
+            );
+        }
+    }
+
+    /**
+     * Write waiting for flushing.
+     *
+     * @since 1.0
+     */
+    static final class Pending {
+        /**
+         * The origin.
+         */
+        private final Ocket ocket;
+
+        /**
+         * Content.
+         */
+        private final byte[] body;
+
+        /**
+         * Metadata.
+         */
+        private final HeadObjectResponse meta;
+
+        /**
+         * What to do if it's given up.
+         */
+        private final Runnable lost;
+
+        /**
+         * How many times it was tried.
+         */
+        private int attempts;
+
+        /**
+         * Ctor.
+         * @param okt The origin
+         * @param content Content
+         * @param head Metadata
+         * @param gone What to do if it's given up
+         */
+        Pending(final Ocket okt, final byte[] content,
+            final HeadObjectResponse head, final Runnable gone) {
+            this.ocket = okt;
+            this.body = content;
+            this.meta = head;
+            this.lost = gone;
+        }
+
+        /**
+         * Content.
+         * @return Bytes
+         */
+        byte[] content() {
+            return this.body;
+        }
+
+        /**
+         * Metadata.
+         * @return Metadata
+         */
+        HeadObjectResponse head() {
+            return this.meta;
+        }
+
+        /**
+         * Content, as a stream.
+         * @return Stream
+         */
+        InputStream stream() {
+            return new ByteArrayInputStream(this.body);
+        }
+
+        /**
+         * Count one more attempt.
+         * @return How many attempts were made
+         */
+        int attempt() {
+            this.attempts += 1;
+            return this.attempts;
+        }
+    }
+
+}
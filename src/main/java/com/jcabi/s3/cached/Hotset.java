@@ -0,0 +1,316 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Snapshot of the hot set of the cache, in a local file.
+ *
+ * <p>It periodically saves keys, ETags and metadata of the cached objects
+ * (and, optionally, their content) to a file, and restores them into
+ * the cache on start, so a restarted process doesn't begin with an empty
+ * cache. Restored entries are not trusted blindly: each of them is
+ * revalidated by its ETag on first access, with a single HEAD request,
+ * and dropped if the object was modified in the meantime:</p>
+ *
+ * <pre> Memory memory = new Memory();
+ * try (Hotset hotset = new Hotset(memory, Paths.get("/tmp/s3.hot"))) {
+ *   hotset.restore();
+ *   Region region = new CdRegion(new Region.Simple(key, secret), memory);
+ *   // work with the region
+ * }</pre>
+ *
+ * <p>The file is replaced atomically, so a crash in the middle of saving
+ * leaves the previous snapshot intact. Objects with metadata in
+ * the cache are saved, for example after {@link CdBucket#warm(String, int)},
+ * as well as objects which were only read, if S3 returned their ETags
+ * when they were read. Objects without ETags are not saved, since they
+ * can't be revalidated.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+public final class Hotset implements Closeable {
+
+    /**
+     * Format of the file, written at its beginning.
+     */
+    private static final int MAGIC = 0x4a533301;
+
+    /**
+     * The cache.
+     */
+    private final transient Memory memory;
+
+    /**
+     * The file.
+     */
+    private final transient Path file;
+
+    /**
+     * Save content of objects too, not only their metadata.
+     */
+    private final transient boolean bodies;
+
+    /**
+     * Thread which saves and restores the snapshot.
+     */
+    private final transient ScheduledExecutorService service;
+
+    /**
+     * Public ctor, saving metadata only, every five minutes.
+     * @param cache The cache
+     * @param path The file
+     */
+    public Hotset(final Memory cache, final Path path) {
+        // @checkstyle MagicNumber (1 line)
+        this(cache, path, Duration.ofMinutes(5L), false);
+    }
+
+    /**
+     * Public ctor.
+     * @param cache The cache
+     * @param path The file
+     * @param period How often to save the snapshot, zero to never do it
+     *  automatically
+     * @param content Save content of objects too
+     */
+    public Hotset(final Memory cache, final Path path, final Duration period,
+        final boolean content) {
+        this.memory = cache;
+        this.file = path;
+        this.bodies = content;
+        this.service = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jcabi-s3-hotset-%d")
+                .build()
+        );
+        if (!period.isZero()) {
+            this.service.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        this.save();
+                    } catch (final IOException ex) {
+                        Logger.warn(
+                            this, "Failed to save %s: %[exception]s",
+                            this.file, ex
+                        );
+                    }
+                },
+                period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.file.toString();
+    }
+
+    /**
+     * Restore the snapshot into the cache, in background.
+     * @return How many entries were restored, when it's done
+     */
+    public Future<Integer> restore() {
+        return this.service.submit(this::load);
+    }
+
+    /**
+     * Restore the snapshot into the cache, in the thread of the caller.
+     *
+     * <p>If the file is absent, nothing is restored.</p>
+     *
+     * @return How many entries were restored
+     * @throws IOException If fails
+     */
+    public int load() throws IOException {
+        int total = 0;
+        if (Files.exists(this.file)) {
+            try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(this.file))
+            )) {
+                if (input.readInt() != Hotset.MAGIC) {
+                    throw new IOException(
+                        String.format(
+                            "File %s is not a snapshot of the cache",
+                            this.file
+                        )
+                    );
+                }
+                while (input.readBoolean()) {
+                    Hotset.restore(this.memory, input);
+                    ++total;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Save the snapshot of the cache to the file, now.
+     * @return How many entries were saved
+     * @throws IOException If fails
+     */
+    public int save() throws IOException {
+        final Path temp = this.file.resolveSibling(
+            String.format("%s.tmp", this.file.getFileName())
+        );
+        int total = 0;
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(temp))
+        )) {
+            output.writeInt(Hotset.MAGIC);
+            for (final Map.Entry<String, HeadObjectResponse> entry
+                : this.memory.records().entrySet()) {
+                if (entry.getValue().eTag() != null) {
+                    output.writeBoolean(true);
+                    this.save(output, entry.getKey(), entry.getValue());
+                    ++total;
+                }
+            }
+            output.writeBoolean(false);
+        }
+        Files.move(
+            temp, this.file,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+        return total;
+    }
+
+    /**
+     * Stop saving in background and save the snapshot for the last time.
+     * @throws IOException If fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.service.shutdown();
+        try {
+            // @checkstyle MagicNumber (1 line)
+            this.service.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                "Interrupted while waiting for the snapshot thread"
+            );
+        }
+        this.save();
+    }
+
+    /**
+     * Save one entry.
+     * @param output Where to save
+     * @param key Its key
+     * @param meta Its metadata
+     * @throws IOException If fails
+     */
+    private void save(final DataOutputStream output, final String key,
+        final HeadObjectResponse meta) throws IOException {
+        output.writeUTF(key);
+        output.writeUTF(meta.eTag());
+        output.writeLong(
+            Optional.ofNullable(meta.contentLength()).orElse(-1L)
+        );
+        Hotset.write(output, meta.contentType());
+        Hotset.write(output, meta.contentEncoding());
+        output.writeLong(
+            Optional.ofNullable(meta.lastModified())
+                .map(Instant::toEpochMilli)
+                .orElse(-1L)
+        );
+        Optional<byte[]> body = Optional.empty();
+        if (this.bodies) {
+            body = this.memory.cached(key);
+        }
+        output.writeBoolean(body.isPresent());
+        if (body.isPresent()) {
+            output.writeInt(body.get().length);
+            output.write(body.get());
+        }
+    }
+
+    /**
+     * Restore one entry.
+     * @param cache The cache
+     * @param input Where to read it from
+     * @throws IOException If fails
+     */
+    private static void restore(final Memory cache,
+        final DataInputStream input) throws IOException {
+        final String key = input.readUTF();
+        final HeadObjectResponse.Builder meta = HeadObjectResponse.builder()
+            .eTag(input.readUTF());
+        final long length = input.readLong();
+        if (length >= 0L) {
+            meta.contentLength(length);
+        }
+        meta.contentType(Hotset.read(input).orElse(null));
+        meta.contentEncoding(Hotset.read(input).orElse(null));
+        final long modified = input.readLong();
+        if (modified >= 0L) {
+            meta.lastModified(Instant.ofEpochMilli(modified));
+        }
+        Optional<byte[]> body = Optional.empty();
+        if (input.readBoolean()) {
+            final byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            body = Optional.of(bytes);
+        }
+        cache.restore(key, meta.build(), body);
+    }
+
+    /**
+     * Write optional text.
+     * @param output Where to write
+     * @param text The text or NULL
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream output,
+        final String text) throws IOException {
+        output.writeBoolean(text != null);
+        if (text != null) {
+            output.writeUTF(text);
+        }
+    }
+
+    /**
+     * Read optional text.
+     * @param input Where to read from
+     * @return The text, if it was there
+     * @throws IOException If fails
+     */
+    private static Optional<String> read(final DataInputStream input)
+        throws IOException {
+        Optional<String> text = Optional.empty();
+        if (input.readBoolean()) {
+            text = Optional.of(input.readUTF());
+        }
+        return text;
+    }
+
+}
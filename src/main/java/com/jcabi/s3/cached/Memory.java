@@ -0,0 +1,715 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.Striped;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Version;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * In-memory cache of S3 objects, shared by cached decorators.
+ *
+ * <p>It keeps content, metadata and existence flags of objects,
+ * for one minute at most, unless another time to live is given to
+ * the constructor. Content of an object is cached only if it's
+ * not bigger than the limit given to the constructor, while the total
+ * size of all cached content never exceeds the capacity. Ranged reads
+ * are cached separately, in {@link Blocks}.</p>
+ *
+ * <p>Content may be kept compressed with Deflate, which is a good idea
+ * if you mostly cache text, like JSON or XML: the same capacity then
+ * holds several times more objects, at the price of decompressing them
+ * on every read. Content which doesn't get smaller, like images, is kept
+ * as is anyway. The limit of one object applies to its original size,
+ * while the capacity applies to the size of what is actually kept:</p>
+ *
+ * <pre> Region region = new CdRegion(
+ *   new Region.Simple(key, secret),
+ *   new Memory(
+ *     8L &lt;&lt; 20, 128L &lt;&lt; 20, new Blocks(), new Flusher(), true
+ *   )
+ * );</pre>
+ *
+ * <p>Entries restored from a snapshot by {@link Hotset} are revalidated
+ * lazily: the first access to each of them compares its ETag with
+ * the ETag of the object in the origin, and drops the entry if they
+ * differ.</p>
+ *
+ * <p>Writes go to the origin through the {@link Flusher}, which
+ * either writes them through immediately, by default, or writes them
+ * back later. Content loaded from the origin is not kept if the object
+ * was written or invalidated while it was loading, so a slow read never
+ * replaces a fresh write with what it got.</p>
+ *
+ * <p>Normally you don't use this class directly, but give it to
+ * {@link CdRegion}, in order to configure the cache and to see
+ * how well it works, through {@link CdRegion#stats()}. Decorators
+ * made without a cache share one default cache, so that ockets wrapped
+ * again and again, like {@code new CdOcket(ocket)}, don't read the same
+ * object from the origin again.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Memory {
+
+    /**
+     * Maximum number of cached metadata records and existence flags.
+     */
+    private static final long RECORDS = 1L << 16;
+
+    /**
+     * Default cache, shared by decorators made without a cache.
+     */
+    static final Memory SHARED = new Memory();
+
+    /**
+     * Maximum size of content of one object to be cached.
+     */
+    private final transient long limit;
+
+    /**
+     * Cache of ranged reads.
+     */
+    private final transient Blocks blks;
+
+    /**
+     * Flusher of writes.
+     */
+    private final transient Flusher back;
+
+    /**
+     * Compress content before keeping it.
+     */
+    private final transient boolean compress;
+
+    /**
+     * Content of objects, by bucket and key.
+     */
+    private final transient Cache<String, Packed> bodies;
+
+    /**
+     * Metadata of objects, by bucket and key.
+     */
+    private final transient Cache<String, HeadObjectResponse> metas;
+
+    /**
+     * Existence of objects, by bucket and key.
+     */
+    private final transient Cache<String, Boolean> presence;
+
+    /**
+     * ETags of entries restored from a snapshot and not yet revalidated.
+     */
+    private final transient ConcurrentMap<String, String> unverified;
+
+    /**
+     * Loads of content in progress, by bucket and key.
+     */
+    private final transient ConcurrentMap<String, Object> loading;
+
+    /**
+     * Locks of keys, to keep content and to forget loads atomically.
+     */
+    private final transient Striped<Lock> locks;
+
+    /**
+     * Number of hits.
+     */
+    private final transient AtomicLong hits;
+
+    /**
+     * Number of misses.
+     */
+    private final transient AtomicLong misses;
+
+    /**
+     * Number of loads from the origin.
+     */
+    private final transient AtomicLong loads;
+
+    /**
+     * Total time of loads, in nanoseconds.
+     */
+    private final transient AtomicLong nanos;
+
+    /**
+     * Number of evictions.
+     */
+    private final transient AtomicLong evictions;
+
+    /**
+     * Total size of cached content.
+     */
+    private final transient AtomicLong weight;
+
+    /**
+     * Public ctor, with 8Mb limit for one object and 128Mb in total.
+     */
+    public Memory() {
+        this(new Blocks());
+    }
+
+    /**
+     * Public ctor, with 8Mb limit for one object and 128Mb in total.
+     * @param blocks Cache of ranged reads
+     */
+    public Memory(final Blocks blocks) {
+        // @checkstyle MagicNumber (1 line)
+        this(8L << 20, 128L << 20, blocks);
+    }
+
+    /**
+     * Public ctor, with 8Mb limit for one object and 128Mb in total.
+     * @param flusher Flusher of writes
+     */
+    public Memory(final Flusher flusher) {
+        // @checkstyle MagicNumber (1 line)
+        this(8L << 20, 128L << 20, new Blocks(), flusher);
+    }
+
+    /**
+     * Public ctor.
+     * @param max Maximum size of content of one object to be cached
+     * @param capacity Maximum total size of cached content
+     * @param blocks Cache of ranged reads
+     */
+    public Memory(final long max, final long capacity, final Blocks blocks) {
+        this(max, capacity, blocks, new Flusher());
+    }
+
+    /**
+     * Public ctor.
+     * @param max Maximum size of content of one object to be cached
+     * @param capacity Maximum total size of cached content
+     * @param blocks Cache of ranged reads
+     * @param flusher Flusher of writes
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Memory(final long max, final long capacity, final Blocks blocks,
+        final Flusher flusher) {
+        this(max, capacity, blocks, flusher, false);
+    }
+
+    /**
+     * Public ctor.
+     * @param max Maximum size of content of one object to be cached
+     * @param capacity Maximum total size of cached content
+     * @param blocks Cache of ranged reads
+     * @param flusher Flusher of writes
+     * @param deflate Keep content compressed
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Memory(final long max, final long capacity, final Blocks blocks,
+        final Flusher flusher, final boolean deflate) {
+        this(max, capacity, blocks, flusher, deflate, Duration.ofMinutes(1L));
+    }
+
+    /**
+     * Public ctor.
+     * @param max Maximum size of content of one object to be cached
+     * @param capacity Maximum total size of cached content
+     * @param blocks Cache of ranged reads
+     * @param flusher Flusher of writes
+     * @param deflate Keep content compressed
+     * @param ttl How long to keep every entry
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public Memory(final long max, final long capacity, final Blocks blocks,
+        final Flusher flusher, final boolean deflate, final Duration ttl) {
+        this.limit = max;
+        this.blks = blocks;
+        this.back = flusher;
+        this.compress = deflate;
+        this.unverified = new ConcurrentHashMap<>(0);
+        this.loading = new ConcurrentHashMap<>(0);
+        // @checkstyle MagicNumber (1 line)
+        this.locks = Striped.lock(64);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.loads = new AtomicLong();
+        this.nanos = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.weight = new AtomicLong();
+        this.bodies = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+            .maximumWeight(capacity)
+            .weigher((String key, Packed body) -> body.weight())
+            .removalListener(
+                (RemovalNotification<String, Packed> note) -> {
+                    this.weight.addAndGet((long) -note.getValue().weight());
+                    this.evicted(note);
+                }
+            )
+            .build();
+        this.metas = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+            .maximumSize(Memory.RECORDS)
+            .removalListener(this::evicted)
+            .build();
+        this.presence = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+            .maximumSize(Memory.RECORDS)
+            .removalListener(this::evicted)
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return this.stats().toString();
+    }
+
+    /**
+     * Statistics of the cache, including its blocks.
+     * @return Snapshot of statistics
+     */
+    public Stats stats() {
+        this.bodies.cleanUp();
+        this.metas.cleanUp();
+        this.presence.cleanUp();
+        return new Stats(
+            this.hits.get(), this.misses.get(), this.loads.get(),
+            this.nanos.get(), this.evictions.get(), this.weight.get(),
+            this.bodies.size() + this.metas.size() + this.presence.size()
+        ).plus(this.blks.stats());
+    }
+
+    /**
+     * Content of the ocket.
+     * @param ocket The ocket
+     * @param load How to load it, if it's not in the cache
+     * @return Content
+     * @throws IOException If fails
+     */
+    byte[] body(final Ocket ocket, final Memory.Load<byte[]> load)
+        throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        this.read(ocket, baos, load);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Read content of the ocket, decompressing it into the output,
+     * if it's kept compressed.
+     * @param ocket The ocket
+     * @param output Where to write it
+     * @param load How to load it, if it's not in the cache
+     * @throws IOException If fails
+     */
+    void read(final Ocket ocket, final OutputStream output,
+        final Memory.Load<byte[]> load) throws IOException {
+        final String key = Memory.key(ocket);
+        this.revalidate(ocket, key);
+        final Packed packed = this.bodies.getIfPresent(key);
+        if (packed == null) {
+            this.misses.incrementAndGet();
+            final Optional<Flusher.Pending> write = this.back.pending(ocket);
+            final byte[] body;
+            if (write.isPresent()) {
+                body = write.get().content();
+                this.keep(key, body);
+            } else {
+                final Object stamp = new Object();
+                this.loading.put(key, stamp);
+                boolean done = false;
+                final Optional<String> etag;
+                try (Version version = new Version()) {
+                    body = this.load(load);
+                    etag = version.etag(ocket);
+                    done = true;
+                } finally {
+                    if (!done) {
+                        this.loading.remove(key, stamp);
+                    }
+                }
+                this.keep(key, stamp, body, etag);
+            }
+            output.write(body);
+        } else {
+            this.hits.incrementAndGet();
+            packed.write(output);
+        }
+    }
+
+    /**
+     * Metadata of the ocket.
+     * @param ocket The ocket
+     * @param load How to load it, if it's not in the cache
+     * @return Metadata
+     * @throws IOException If fails
+     */
+    HeadObjectResponse meta(final Ocket ocket,
+        final Memory.Load<HeadObjectResponse> load) throws IOException {
+        final Optional<Flusher.Pending> write = this.back.pending(ocket);
+        final HeadObjectResponse meta;
+        if (write.isPresent()) {
+            meta = write.get().head();
+        } else {
+            final String key = Memory.key(ocket);
+            this.revalidate(ocket, key);
+            meta = this.fetch(this.metas, key, load);
+        }
+        return meta;
+    }
+
+    /**
+     * Existence of the ocket.
+     * @param ocket The ocket
+     * @param load How to load it, if it's not in the cache
+     * @return TRUE if it exists
+     * @throws IOException If fails
+     */
+    boolean exists(final Ocket ocket, final Memory.Load<Boolean> load)
+        throws IOException {
+        final String key = Memory.key(ocket);
+        this.revalidate(ocket, key);
+        return this.back.pending(ocket).isPresent()
+            || this.fetch(this.presence, key, load);
+    }
+
+    /**
+     * Read a range of the ocket through the blocks.
+     * @param ocket The ocket
+     * @param meta Its metadata
+     * @param output Where to write
+     * @param offset Position of the first byte to read
+     * @param length Maximum number of bytes to read
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    void range(final Ocket ocket, final HeadObjectResponse meta,
+        final OutputStream output, final long offset, final long length)
+        throws IOException {
+        final Optional<Flusher.Pending> write = this.back.pending(ocket);
+        if (write.isPresent()) {
+            final byte[] body = write.get().content();
+            if (offset < body.length) {
+                output.write(
+                    body, (int) offset,
+                    (int) Math.min(length, body.length - offset)
+                );
+            }
+        } else {
+            this.blks.read(ocket, meta, output, offset, length);
+        }
+    }
+
+    /**
+     * Write content to the ocket and keep the content in the cache,
+     * until the write is given up by the flusher, if ever.
+     * @param ocket The ocket
+     * @param body Its content
+     * @param meta Its metadata
+     * @throws IOException If fails
+     */
+    void write(final Ocket ocket, final byte[] body,
+        final HeadObjectResponse meta) throws IOException {
+        boolean done = false;
+        try {
+            this.back.submit(ocket, body, meta, () -> this.invalidate(ocket));
+            this.put(ocket, body);
+            done = true;
+        } finally {
+            if (!done) {
+                this.invalidate(ocket);
+            }
+        }
+    }
+
+    /**
+     * Write content to the ocket, bypassing the cache.
+     * @param ocket The ocket
+     * @param input Its content
+     * @param meta Its metadata
+     * @throws IOException If fails
+     */
+    void write(final Ocket ocket, final InputStream input,
+        final HeadObjectResponse meta) throws IOException {
+        try {
+            this.back.write(ocket, input, meta);
+        } finally {
+            this.invalidate(ocket);
+        }
+    }
+
+    /**
+     * Put content of the ocket, which was just written, and forget its
+     * metadata, which only the origin knows now.
+     * @param ocket The ocket
+     * @param body Its content
+     */
+    void put(final Ocket ocket, final byte[] body) {
+        final String key = Memory.key(ocket);
+        this.blks.invalidate(ocket);
+        this.unverified.remove(key);
+        this.metas.invalidate(key);
+        final Lock lock = this.locks.get(key);
+        lock.lock();
+        try {
+            this.loading.remove(key);
+            this.keep(key, body);
+        } finally {
+            lock.unlock();
+        }
+        this.presence.put(key, true);
+    }
+
+    /**
+     * Maximum size of content of one object to be cached.
+     * @return Size in bytes
+     */
+    long limit() {
+        return this.limit;
+    }
+
+    /**
+     * Is it small enough to have its content cached?
+     * @param meta Metadata of an object
+     * @return TRUE if its content will be cached
+     */
+    boolean fits(final HeadObjectResponse meta) {
+        return meta.contentLength() == null
+            || meta.contentLength() <= this.limit;
+    }
+
+    /**
+     * Forget everything about the ocket.
+     * @param ocket The ocket
+     */
+    void invalidate(final Ocket ocket) {
+        final String key = Memory.key(ocket);
+        this.unverified.remove(key);
+        final Lock lock = this.locks.get(key);
+        lock.lock();
+        try {
+            this.loading.remove(key);
+            this.bodies.invalidate(key);
+        } finally {
+            lock.unlock();
+        }
+        this.metas.invalidate(key);
+        this.presence.invalidate(key);
+        this.blks.invalidate(ocket);
+    }
+
+    /**
+     * Metadata of all objects in the cache, by their keys.
+     *
+     * <p>Objects which were only read have no metadata in the cache,
+     * they are reported with their ETag and size only, if the ETag
+     * was known when they were read.</p>
+     *
+     * @return Metadata
+     */
+    Map<String, HeadObjectResponse> records() {
+        final Map<String, HeadObjectResponse> records =
+            new HashMap<>(this.metas.asMap());
+        for (final Map.Entry<String, Packed> entry
+            : this.bodies.asMap().entrySet()) {
+            final Optional<String> etag = entry.getValue().etag();
+            if (etag.isPresent()) {
+                records.putIfAbsent(
+                    entry.getKey(),
+                    HeadObjectResponse.builder()
+                        .eTag(etag.get())
+                        .contentLength((long) entry.getValue().size())
+                        .build()
+                );
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Content of the object, if it's in the cache.
+     * @param key Key of the object, made by {@link #key(Ocket)}
+     * @return Content, if present
+     */
+    Optional<byte[]> cached(final String key) {
+        return Optional.ofNullable(this.bodies.getIfPresent(key))
+            .map(Packed::bytes);
+    }
+
+    /**
+     * Put an entry restored from a snapshot, to be revalidated
+     * on first access.
+     * @param key Key of the object, made by {@link #key(Ocket)}
+     * @param meta Its metadata, with ETag
+     * @param body Its content, if it was saved
+     */
+    void restore(final String key, final HeadObjectResponse meta,
+        final Optional<byte[]> body) {
+        this.unverified.put(key, meta.eTag());
+        this.metas.put(key, meta);
+        if (body.isPresent()) {
+            this.keep(key, body.get(), Optional.ofNullable(meta.eTag()));
+        }
+    }
+
+    /**
+     * Keep content in the cache, if it's not too big.
+     * @param key Key of the object
+     * @param body Its content
+     */
+    private void keep(final String key, final byte[] body) {
+        this.keep(key, body, Optional.empty());
+    }
+
+    /**
+     * Keep content in the cache, with its ETag, if it's not too big.
+     * @param key Key of the object
+     * @param body Its content
+     * @param etag Its ETag, if known
+     */
+    private void keep(final String key, final byte[] body,
+        final Optional<String> etag) {
+        if (body.length <= this.limit) {
+            final Packed packed = new Packed(body, this.compress, etag);
+            this.weight.addAndGet((long) packed.weight());
+            this.bodies.put(key, packed);
+        } else {
+            this.bodies.invalidate(key);
+        }
+    }
+
+    /**
+     * Keep content loaded from the origin, unless the object was written
+     * or invalidated while it was loading.
+     * @param key Key of the object
+     * @param stamp Stamp of the load, taken before it started
+     * @param body Its content
+     * @param etag Its ETag, if known
+     */
+    private void keep(final String key, final Object stamp,
+        final byte[] body, final Optional<String> etag) {
+        final Lock lock = this.locks.get(key);
+        lock.lock();
+        try {
+            if (this.loading.remove(key, stamp)) {
+                this.keep(key, body, etag);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compare ETag of the restored entry with the origin, if the entry
+     * was not revalidated yet, and drop it if they differ.
+     * @param ocket The origin
+     * @param key Its key
+     * @throws IOException If fails
+     */
+    private void revalidate(final Ocket ocket, final String key)
+        throws IOException {
+        final String etag = this.unverified.remove(key);
+        if (etag != null) {
+            try {
+                final HeadObjectResponse meta = this.load(ocket::meta);
+                if (etag.equals(meta.eTag())) {
+                    this.metas.put(key, meta);
+                } else {
+                    this.invalidate(ocket);
+                }
+            } catch (final IOException ex) {
+                this.invalidate(ocket);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Get value from the cache or load it and put there.
+     * @param cache The cache
+     * @param key The key
+     * @param load How to load it
+     * @param <T> Type of value
+     * @return The value
+     * @throws IOException If fails
+     */
+    private <T> T fetch(final Cache<String, T> cache, final String key,
+        final Memory.Load<T> load) throws IOException {
+        T value = cache.getIfPresent(key);
+        if (value == null) {
+            this.misses.incrementAndGet();
+            value = this.load(load);
+            cache.put(key, value);
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Load value from the origin and count it.
+     * @param load How to load it
+     * @param <T> Type of value
+     * @return The value
+     * @throws IOException If fails
+     */
+    private <T> T load(final Memory.Load<T> load) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return load.load();
+        } finally {
+            this.loads.incrementAndGet();
+            this.nanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Count the removal, if it was an eviction.
+     * @param note Notification about the removal
+     */
+    private void evicted(final RemovalNotification<?, ?> note) {
+        if (note.wasEvicted()) {
+            this.evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Make a key for the ocket.
+     * @param ocket The ocket
+     * @return Key
+     */
+    static String key(final Ocket ocket) {
+        return String.format("%s/%s", ocket.bucket().name(), ocket.key());
+    }
+
+    /**
+     * Loader of a value from the origin.
+     *
+     * @param <T> Type of value
+     * @since 1.0
+     */
+    interface Load<T> {
+        /**
+         * Load it.
+         * @return The value
+         * @throws IOException If fails
+         */
+        T load() throws IOException;
+    }
+
+}
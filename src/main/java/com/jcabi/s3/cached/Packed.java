@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
+
+/**
+ * Content of an object, as it is kept in the cache.
+ *
+ * <p>It is either the content itself or its Deflate-compressed form,
+ * if compression was requested and it actually made the content
+ * smaller. Text, like JSON or XML, usually shrinks several times,
+ * while already compressed content, like images or archives,
+ * is kept as is.</p>
+ *
+ * <p>The ETag of the object is kept together with its content, if it was
+ * known when the content was read, so that {@link Hotset} can save
+ * the content and revalidate it later.</p>
+ *
+ * @since 1.0
+ */
+final class Packed {
+
+    /**
+     * Content, compressed or not.
+     */
+    private final transient byte[] data;
+
+    /**
+     * Size of the original content.
+     */
+    private final transient int size;
+
+    /**
+     * Is it compressed?
+     */
+    private final transient boolean deflated;
+
+    /**
+     * ETag of the object, if known.
+     */
+    private final transient Optional<String> tag;
+
+    /**
+     * Ctor.
+     * @param body The content
+     * @param compress Try to compress it
+     */
+    Packed(final byte[] body, final boolean compress) {
+        this(body, compress, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param body The content
+     * @param compress Try to compress it
+     * @param etag ETag of the object, if known
+     */
+    Packed(final byte[] body, final boolean compress,
+        final Optional<String> etag) {
+        byte[] packed = body;
+        if (compress) {
+            packed = Packed.deflate(body);
+        }
+        this.data = packed;
+        this.size = body.length;
+        this.deflated = packed != body;
+        this.tag = etag;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d bytes in %d", this.size, this.data.length
+        );
+    }
+
+    /**
+     * ETag of the object, if it was known when the content was read.
+     * @return ETag
+     */
+    Optional<String> etag() {
+        return this.tag;
+    }
+
+    /**
+     * Size of the original content.
+     * @return Size in bytes
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * How much memory it takes.
+     * @return Size of the kept content, in bytes
+     */
+    int weight() {
+        return this.data.length;
+    }
+
+    /**
+     * Write the original content to the output, decompressing it
+     * on the fly, if necessary.
+     *
+     * <p>The output is not closed.</p>
+     *
+     * @param output Where to write
+     * @throws IOException If fails
+     */
+    void write(final OutputStream output) throws IOException {
+        if (this.deflated) {
+            final Inflater inflater = new Inflater();
+            try {
+                final InflaterOutputStream inflating =
+                    new InflaterOutputStream(output, inflater);
+                inflating.write(this.data);
+                inflating.finish();
+            } finally {
+                inflater.end();
+            }
+        } else {
+            output.write(this.data);
+        }
+    }
+
+    /**
+     * The original content.
+     * @return Bytes
+     */
+    byte[] bytes() {
+        final byte[] bytes;
+        if (this.deflated) {
+            final ByteArrayOutputStream baos =
+                new ByteArrayOutputStream(this.size);
+            try {
+                this.write(baos);
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    "Compressed content in the cache is broken", ex
+                );
+            }
+            bytes = baos.toByteArray();
+        } else {
+            bytes = this.data;
+        }
+        return bytes;
+    }
+
+    /**
+     * Compress the content, if it gets smaller.
+     * @param body The content
+     * @return Compressed content, or the same content
+     */
+    private static byte[] deflate(final byte[] body) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        byte[] packed = body;
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            final byte[] buf = new byte[body.length];
+            int len = 0;
+            while (!deflater.finished() && len < buf.length) {
+                len += deflater.deflate(buf, len, buf.length - len);
+            }
+            if (deflater.finished() && len < body.length) {
+                packed = Arrays.copyOf(buf, len);
+            }
+        } finally {
+            deflater.end();
+        }
+        return packed;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.jcabi.aspects.Immutable;
+import java.time.Duration;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Snapshot of cache statistics.
+ *
+ * <p>It is an immutable picture of counters taken at one moment, you
+ * get it from {@link CdRegion#stats()} and may poll it as often as
+ * you wish, for example:</p>
+ *
+ * <pre> CdRegion region = new CdRegion(new Region.Simple(key, secret));
+ * // work with the region for a while
+ * Stats stats = region.stats();
+ * System.out.printf("hit ratio: %.2f%n", stats.ratio());</pre>
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Stats {
+
+    /**
+     * How many times the value was found in the cache.
+     */
+    private final transient long hit;
+
+    /**
+     * How many times the value was not found in the cache.
+     */
+    private final transient long miss;
+
+    /**
+     * How many times the value was loaded from the origin.
+     */
+    private final transient long load;
+
+    /**
+     * Total time spent in loading, in nanoseconds.
+     */
+    private final transient long nanos;
+
+    /**
+     * How many entries were evicted because of size or age.
+     */
+    private final transient long evicted;
+
+    /**
+     * How many bytes the cache holds.
+     */
+    private final transient long size;
+
+    /**
+     * How many entries the cache holds.
+     */
+    private final transient long count;
+
+    /**
+     * Ctor of empty statistics.
+     */
+    public Stats() {
+        this(0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * Ctor.
+     * @param hits How many times the value was found in the cache
+     * @param misses How many times the value was not found in the cache
+     * @param loads How many times the value was loaded from the origin
+     * @param time Total time spent in loading, in nanoseconds
+     * @param evictions How many entries were evicted
+     * @param bytes How many bytes the cache holds
+     * @param entries How many entries the cache holds
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Stats(final long hits, final long misses, final long loads,
+        final long time, final long evictions, final long bytes,
+        final long entries) {
+        this.hit = hits;
+        this.miss = misses;
+        this.load = loads;
+        this.nanos = time;
+        this.evicted = evictions;
+        this.size = bytes;
+        this.count = entries;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            // @checkstyle LineLength (1 line)
+            "hits=%d, misses=%d, ratio=%.2f, loads=%d, latency=%s, evictions=%d, bytes=%d, entries=%d",
+            this.hit, this.miss, this.ratio(), this.load, this.latency(),
+            this.evicted, this.size, this.count
+        );
+    }
+
+    /**
+     * How many times the value was found in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hit;
+    }
+
+    /**
+     * How many times the value was not found in the cache.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.miss;
+    }
+
+    /**
+     * Share of requests served from the cache.
+     * @return Hit ratio, between zero and one
+     */
+    public double ratio() {
+        final double ratio;
+        if (this.hit + this.miss == 0L) {
+            ratio = 0.0d;
+        } else {
+            ratio = (double) this.hit / (double) (this.hit + this.miss);
+        }
+        return ratio;
+    }
+
+    /**
+     * How many times the value was loaded from the origin.
+     * @return Number of loads
+     */
+    public long loads() {
+        return this.load;
+    }
+
+    /**
+     * Total time spent in loading.
+     * @return Time
+     */
+    public Duration loadTime() {
+        return Duration.ofNanos(this.nanos);
+    }
+
+    /**
+     * Average time of one load.
+     * @return Latency
+     */
+    public Duration latency() {
+        final Duration latency;
+        if (this.load == 0L) {
+            latency = Duration.ZERO;
+        } else {
+            latency = Duration.ofNanos(this.nanos / this.load);
+        }
+        return latency;
+    }
+
+    /**
+     * How many entries were evicted because of size or age.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evicted;
+    }
+
+    /**
+     * How many bytes of content the cache holds.
+     * @return Resident bytes
+     */
+    public long bytes() {
+        return this.size;
+    }
+
+    /**
+     * How many entries the cache holds.
+     * @return Number of entries
+     */
+    public long entries() {
+        return this.count;
+    }
+
+    /**
+     * Sum these statistics with another ones.
+     * @param stats Other statistics
+     * @return Sum of them
+     */
+    public Stats plus(final Stats stats) {
+        return new Stats(
+            this.hit + stats.hit,
+            this.miss + stats.miss,
+            this.load + stats.load,
+            this.nanos + stats.nanos,
+            this.evicted + stats.evicted,
+            this.size + stats.size,
+            this.count + stats.count
+        );
+    }
+
+}
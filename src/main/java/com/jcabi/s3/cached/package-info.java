@@ -6,6 +6,10 @@
 /**
  * Cached objects.
  *
+ * <p>Since 1.0 the decorators are not {@code @Immutable}: their fields
+ * are final, but they share a mutable {@link com.jcabi.s3.cached.Memory}.
+ * They are thread-safe.</p>
+ *
  * @since 0.8
  */
 package com.jcabi.s3.cached;
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Md5;
+import java.time.Instant;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Object kept in memory, with its metadata.
+ *
+ * <p>The class is immutable: the content is never modified after it's
+ * stored, that's why it is shared without copying.</p>
+ *
+ * @since 1.0
+ */
+final class Blob {
+
+    /**
+     * Content.
+     */
+    private final transient byte[] bytes;
+
+    /**
+     * Metadata.
+     */
+    private final transient HeadObjectResponse head;
+
+    /**
+     * Ctor, which completes the metadata, like S3 does.
+     * @param content Content, which must not be modified afterwards
+     * @param meta Metadata given by the writer
+     */
+    Blob(final byte[] content, final HeadObjectResponse meta) {
+        this.bytes = content;
+        final HeadObjectResponse.Builder builder = meta.toBuilder()
+            .contentLength((long) content.length)
+            .eTag(new Md5(content).etag())
+            .lastModified(Instant.now());
+        if (meta.contentType() == null) {
+            builder.contentType("application/octet-stream");
+        }
+        this.head = builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d bytes", this.bytes.length);
+    }
+
+    /**
+     * Content, not to be modified.
+     * @return Bytes
+     */
+    byte[] content() {
+        return this.bytes;
+    }
+
+    /**
+     * Metadata.
+     * @return Metadata
+     */
+    HeadObjectResponse meta() {
+        return this.head;
+    }
+
+}
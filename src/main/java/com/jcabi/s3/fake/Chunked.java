@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Content of a request, decoded from "aws-chunked" encoding.
+ *
+ * <p>AWS SDK sends content in this encoding when it signs every chunk
+ * of it, or when it sends a checksum in a trailer, after the content.
+ * Every chunk starts with a line with its size in hex, optionally
+ * followed by its signature, and ends with CRLF. The last chunk is empty
+ * and is followed by trailing headers and an empty line. Signatures
+ * and checksums are skipped, not verified.</p>
+ *
+ * @since 1.0
+ */
+final class Chunked extends InputStream {
+
+    /**
+     * Encoded content.
+     */
+    private final transient InputStream origin;
+
+    /**
+     * Bytes left in the current chunk.
+     */
+    private transient long left;
+
+    /**
+     * Was any chunk started already?
+     */
+    private transient boolean started;
+
+    /**
+     * Was the last chunk reached?
+     */
+    private transient boolean over;
+
+    /**
+     * Ctor.
+     * @param input Encoded content
+     */
+    Chunked(final InputStream input) {
+        super();
+        this.origin = input;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        int read = this.read(one, 0, 1);
+        if (read > 0) {
+            // @checkstyle MagicNumber (1 line)
+            read = one[0] & 0xff;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.left == 0L && !this.over && len > 0) {
+            this.chunk();
+        }
+        int read = -1;
+        if (len == 0) {
+            read = 0;
+        } else if (!this.over) {
+            read = this.origin.read(buf, off, (int) Math.min(len, this.left));
+            if (read < 0) {
+                throw new EOFException(
+                    String.format(
+                        "Chunk is truncated, %d bytes are missing", this.left
+                    )
+                );
+            }
+            this.left -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Start the next chunk.
+     * @throws IOException If the encoding is broken
+     */
+    private void chunk() throws IOException {
+        if (this.started && !this.line().isEmpty()) {
+            throw new IOException("Chunk is not terminated by CRLF");
+        }
+        this.started = true;
+        final String head = this.line();
+        final int semi = head.indexOf(';');
+        final String size;
+        if (semi < 0) {
+            size = head;
+        } else {
+            size = head.substring(0, semi);
+        }
+        try {
+            // @checkstyle MagicNumber (1 line)
+            this.left = Long.parseLong(size.trim(), 16);
+        } catch (final NumberFormatException ex) {
+            throw new IOException(
+                String.format("Invalid header of chunk: '%s'", head), ex
+            );
+        }
+        if (this.left == 0L) {
+            this.over = true;
+            while (!this.line().isEmpty()) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * Read one line, without CRLF at the end.
+     * @return The line, empty at the end of the stream
+     * @throws IOException If fails
+     */
+    private String line() throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int next = this.origin.read();
+        while (next >= 0 && next != '\n') {
+            if (next != '\r') {
+                line.write(next);
+            }
+            next = this.origin.read();
+        }
+        return new String(line.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+}
@@ -4,8 +4,6 @@
  */
 package com.jcabi.s3.fake;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Iterables;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.s3.Bucket;
@@ -16,13 +14,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import lombok.EqualsAndHashCode;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 
 /**
  * Mock/fake bucket.
  *
+ * <p>Keys are listed lazily, in the same order as S3 lists them, and
+ * prefixes are not necessarily directories, see {@link Listing}.</p>
+ *
  * @since 0.6
  */
 @Immutable
@@ -121,24 +119,13 @@ public final class FkBucket implements Bucket {
 
     @Override
     public Iterable<String> list(final String pfx) {
-        final File home = this.home();
-        return Iterables.transform(
-            FileUtils.listFiles(
-                new File(home, pfx),
-                TrueFileFilter.INSTANCE,
-                TrueFileFilter.INSTANCE
-            ),
-            new Function<File, String>() {
-                @Override
-                public String apply(final File file) {
-                    return FilenameUtils.separatorsToUnix(
-                        file.getAbsolutePath().substring(
-                            home.getAbsolutePath().length() + 1
-                        )
-                    );
-                }
-            }
-        );
+        return this.list(pfx, "");
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after) {
+        final Path home = this.home().toPath();
+        return () -> new Listing(home, pfx, after);
     }
 
     @Override
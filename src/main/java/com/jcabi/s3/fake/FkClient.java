@@ -0,0 +1,640 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.google.common.io.BaseEncoding;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Md5;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Fake client of S3, which keeps objects in {@link FkMemRegion},
+ * without HTTP.
+ *
+ * <p>It can be given to {@link com.jcabi.s3.Region.Simple}, so the real
+ * code of this library, which talks to S3 through the client, runs
+ * in process, and can be profiled and benchmarked without the network:</p>
+ *
+ * <pre> Region region = new Region.Simple(new FkClient());
+ * new Ocket.Text(region.bucket("test").ocket("a.txt")).write("hello");</pre>
+ *
+ * <p>Only the operations used by this library are implemented: HEAD
+ * of buckets and objects, GET with ranges and If-Match, PUT, DELETE,
+ * batch DELETE, ListObjectsV2 with continuation tokens and start-after,
+ * and multipart uploads. Others throw
+ * {@link UnsupportedOperationException}. Failures are reported the way
+ * S3 reports them, as {@link S3Exception} with HTTP statuses and codes
+ * of errors. All buckets exist. Request overrides, like timeouts,
+ * are ignored.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+@SuppressWarnings("PMD.TooManyMethods")
+public final class FkClient implements S3Client {
+
+    /**
+     * Maximum number of keys in one page of a listing.
+     */
+    private static final int PAGE = 1000;
+
+    /**
+     * Range of bytes requested.
+     */
+    private static final Pattern RANGE = Pattern.compile(
+        "bytes=(\\d*)-(\\d*)"
+    );
+
+    /**
+     * The region.
+     */
+    private final transient FkMemRegion regn;
+
+    /**
+     * Multipart uploads in progress, by IDs.
+     */
+    private final transient ConcurrentMap<String, FkClient.Upload> uploads;
+
+    /**
+     * Ctor, with a new region.
+     */
+    public FkClient() {
+        this(new FkMemRegion());
+    }
+
+    /**
+     * Ctor.
+     * @param region The region with objects
+     */
+    public FkClient(final FkMemRegion region) {
+        this.regn = region;
+        this.uploads = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "S3 client in memory, %d uploads in progress", this.uploads.size()
+        );
+    }
+
+    @Override
+    public String serviceName() {
+        return S3Client.SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    @Override
+    public HeadBucketResponse headBucket(final HeadBucketRequest request) {
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(final HeadObjectRequest request) {
+        return this.blob(request.bucket(), request.key()).meta();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T> T getObject(final GetObjectRequest request,
+        final ResponseTransformer<GetObjectResponse, T> transformer) {
+        final Blob blob = this.blob(request.bucket(), request.key());
+        final byte[] content = blob.content();
+        final HeadObjectResponse meta = blob.meta();
+        if (request.ifMatch() != null
+            && !request.ifMatch().equals(meta.eTag())) {
+            throw FkClient.error(
+                // @checkstyle MagicNumber (1 line)
+                412, "PreconditionFailed",
+                "At least one of the preconditions you specified did not hold"
+            );
+        }
+        final Optional<long[]> partial = FkClient.range(
+            request.range(), content.length
+        );
+        final long[] range = partial.orElse(
+            new long[] {0L, content.length - 1L}
+        );
+        final GetObjectResponse.Builder response = GetObjectResponse.builder()
+            .eTag(meta.eTag())
+            .lastModified(meta.lastModified())
+            .contentType(meta.contentType())
+            .contentEncoding(meta.contentEncoding())
+            .metadata(meta.metadata())
+            .acceptRanges("bytes")
+            .contentLength(range[1] - range[0] + 1L);
+        if (partial.isPresent()) {
+            response.contentRange(
+                String.format(
+                    "bytes %d-%d/%d", range[0], range[1], content.length
+                )
+            );
+        }
+        try {
+            return transformer.transform(
+                response.build(),
+                AbortableInputStream.create(
+                    new ByteArrayInputStream(
+                        content, (int) range[0],
+                        (int) (range[1] - range[0] + 1L)
+                    )
+                )
+            );
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw SdkClientException.create(
+                String.format("Failed to transform '%s'", request.key()), ex
+            );
+        }
+    }
+
+    @Override
+    public PutObjectResponse putObject(final PutObjectRequest request,
+        final RequestBody body) {
+        String type = request.contentType();
+        if (type == null) {
+            type = body.contentType();
+        }
+        final Blob blob = new Blob(
+            FkClient.bytes(body),
+            HeadObjectResponse.builder()
+                .contentType(type)
+                .contentEncoding(request.contentEncoding())
+                .metadata(request.metadata())
+                .build()
+        );
+        this.regn.writable(request.bucket()).put(request.key(), blob);
+        return PutObjectResponse.builder().eTag(blob.meta().eTag()).build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(
+        final DeleteObjectRequest request) {
+        this.regn.objects(request.bucket()).remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(
+        final DeleteObjectsRequest request) {
+        final List<DeletedObject> deleted = new ArrayList<>(0);
+        for (final ObjectIdentifier obj : request.delete().objects()) {
+            this.regn.objects(request.bucket()).remove(obj.key());
+            if (!Boolean.TRUE.equals(request.delete().quiet())) {
+                deleted.add(DeletedObject.builder().key(obj.key()).build());
+            }
+        }
+        return DeleteObjectsResponse.builder().deleted(deleted).build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(
+        final ListObjectsV2Request request) {
+        String prefix = request.prefix();
+        if (prefix == null) {
+            prefix = "";
+        }
+        String after = request.startAfter();
+        if (after == null) {
+            after = "";
+        }
+        if (request.continuationToken() != null) {
+            after = FkClient.after(request.continuationToken());
+        }
+        int max = FkClient.PAGE;
+        if (request.maxKeys() != null) {
+            max = Math.max(0, Math.min(max, request.maxKeys()));
+        }
+        final FkMemBucket bucket = new FkMemBucket(
+            this.regn, request.bucket()
+        );
+        final Iterator<String> keys = bucket.list(prefix, after).iterator();
+        final List<S3Object> contents = new ArrayList<>(0);
+        while (contents.size() < max && keys.hasNext()) {
+            final String key = keys.next();
+            final Blob blob = bucket.objects().get(key);
+            if (blob != null) {
+                contents.add(
+                    S3Object.builder()
+                        .key(key)
+                        .lastModified(blob.meta().lastModified())
+                        .eTag(blob.meta().eTag())
+                        .size((long) blob.content().length)
+                        .storageClass("STANDARD")
+                        .build()
+                );
+                after = key;
+            }
+        }
+        final boolean truncated = keys.hasNext();
+        final ListObjectsV2Response.Builder response =
+            ListObjectsV2Response.builder()
+                .name(request.bucket())
+                .prefix(prefix)
+                .startAfter(request.startAfter())
+                .continuationToken(request.continuationToken())
+                .maxKeys(max)
+                .keyCount(contents.size())
+                .isTruncated(truncated)
+                .contents(contents);
+        if (truncated) {
+            response.nextContinuationToken(
+                BaseEncoding.base64Url().omitPadding().encode(
+                    after.getBytes(StandardCharsets.UTF_8)
+                )
+            );
+        }
+        return response.build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(
+        final CreateMultipartUploadRequest request) {
+        final String uid = UUID.randomUUID().toString();
+        this.uploads.put(
+            uid,
+            new FkClient.Upload(
+                request.bucket(), request.key(),
+                HeadObjectResponse.builder()
+                    .contentType(request.contentType())
+                    .contentEncoding(request.contentEncoding())
+                    .metadata(request.metadata())
+                    .build()
+            )
+        );
+        return CreateMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .uploadId(uid)
+            .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(final UploadPartRequest request,
+        final RequestBody body) {
+        final FkClient.Upload upload = this.upload(
+            request.uploadId(), request.bucket(), request.key()
+        );
+        final Integer number = request.partNumber();
+        // @checkstyle MagicNumber (1 line)
+        if (number == null || number < 1 || number > 10_000) {
+            throw FkClient.error(
+                // @checkstyle MagicNumber (1 line)
+                400, "InvalidArgument",
+                String.format("Part number %s is out of range", number)
+            );
+        }
+        final byte[] content = FkClient.bytes(body);
+        upload.parts.put(number, content);
+        return UploadPartResponse.builder()
+            .eTag(new Md5(content).etag())
+            .build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(
+        final CompleteMultipartUploadRequest request) {
+        final FkClient.Upload upload = this.upload(
+            request.uploadId(), request.bucket(), request.key()
+        );
+        final List<CompletedPart> parts = new ArrayList<>(0);
+        if (request.multipartUpload() != null) {
+            parts.addAll(request.multipartUpload().parts());
+        }
+        if (parts.isEmpty()) {
+            throw FkClient.error(
+                // @checkstyle MagicNumber (1 line)
+                400, "MalformedXML", "There are no parts to complete"
+            );
+        }
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        int previous = 0;
+        for (final CompletedPart part : parts) {
+            final int number = part.partNumber();
+            if (number <= previous) {
+                throw FkClient.error(
+                    // @checkstyle MagicNumber (1 line)
+                    400, "InvalidPartOrder",
+                    "The list of parts was not in ascending order"
+                );
+            }
+            final byte[] bytes = upload.parts.get(number);
+            if (bytes == null) {
+                throw FkClient.error(
+                    // @checkstyle MagicNumber (1 line)
+                    400, "InvalidPart",
+                    String.format("Part #%d is not uploaded", number)
+                );
+            }
+            content.write(bytes, 0, bytes.length);
+            previous = number;
+        }
+        final Blob blob = new Blob(content.toByteArray(), upload.meta);
+        this.regn.writable(request.bucket()).put(request.key(), blob);
+        this.uploads.remove(request.uploadId());
+        return CompleteMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .eTag(blob.meta().eTag())
+            .build();
+    }
+
+    @Override
+    public ListPartsResponse listParts(final ListPartsRequest request) {
+        final FkClient.Upload upload = this.upload(
+            request.uploadId(), request.bucket(), request.key()
+        );
+        final List<Part> parts = new ArrayList<>(0);
+        for (final Map.Entry<Integer, byte[]> entry
+            : upload.parts.entrySet()) {
+            parts.add(
+                Part.builder()
+                    .partNumber(entry.getKey())
+                    .eTag(new Md5(entry.getValue()).etag())
+                    .size((long) entry.getValue().length)
+                    .build()
+            );
+        }
+        return ListPartsResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .uploadId(request.uploadId())
+            .parts(parts)
+            .build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(
+        final AbortMultipartUploadRequest request) {
+        this.upload(request.uploadId(), request.bucket(), request.key());
+        this.uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    /**
+     * Find the object.
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @return The object
+     */
+    private Blob blob(final String bucket, final String key) {
+        final Blob blob = this.regn.objects(bucket).get(key);
+        if (blob == null) {
+            final String msg = String.format(
+                "Key '%s' is not found in '%s'", key, bucket
+            );
+            throw NoSuchKeyException.builder()
+                // @checkstyle MagicNumber (1 line)
+                .statusCode(404)
+                .message(msg)
+                .awsErrorDetails(FkClient.details("NoSuchKey", msg))
+                .build();
+        }
+        return blob;
+    }
+
+    /**
+     * Find the upload of the object.
+     * @param uid ID of the upload
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @return The upload
+     */
+    private FkClient.Upload upload(final String uid, final String bucket,
+        final String key) {
+        final FkClient.Upload upload = this.uploads.get(uid);
+        if (upload == null || !upload.bucket.equals(bucket)
+            || !upload.key.equals(key)) {
+            final String msg = String.format(
+                "Upload '%s' of '%s' is not found", uid, key
+            );
+            throw NoSuchUploadException.builder()
+                // @checkstyle MagicNumber (1 line)
+                .statusCode(404)
+                .message(msg)
+                .awsErrorDetails(FkClient.details("NoSuchUpload", msg))
+                .build();
+        }
+        return upload;
+    }
+
+    /**
+     * Content of the body of a request.
+     * @param body The body
+     * @return Bytes
+     */
+    private static byte[] bytes(final RequestBody body) {
+        try (InputStream input = body.contentStreamProvider().newStream()) {
+            return IOUtils.toByteArray(input);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Positions of the first and the last bytes of the range.
+     *
+     * <p>Ranges which can't be parsed, or where the last byte goes
+     * before the first one, are ignored, like S3 does, and the whole
+     * content is returned.</p>
+     *
+     * @param header The range, like {@code bytes=0-99}, or NULL
+     * @param length Length of the content
+     * @return First and last positions, inclusive, or nothing for
+     *  the whole content
+     */
+    private static Optional<long[]> range(final String header,
+        final long length) {
+        final Matcher range;
+        if (header == null) {
+            range = FkClient.RANGE.matcher("");
+        } else {
+            range = FkClient.RANGE.matcher(header.trim());
+        }
+        Optional<long[]> bounds = Optional.empty();
+        if (range.matches() && range.group(1).isEmpty()
+            && !range.group(2).isEmpty()) {
+            final long suffix = Long.parseLong(range.group(2));
+            long first = Math.max(0L, length - suffix);
+            if (suffix == 0L) {
+                first = length;
+            }
+            bounds = Optional.of(new long[] {first, length - 1L});
+        } else if (range.matches() && !range.group(1).isEmpty()) {
+            final long first = Long.parseLong(range.group(1));
+            long last = Long.MAX_VALUE;
+            if (!range.group(2).isEmpty()) {
+                last = Long.parseLong(range.group(2));
+            }
+            if (first <= last) {
+                bounds = Optional.of(
+                    new long[] {first, Math.min(last, length - 1L)}
+                );
+            }
+        }
+        if (bounds.isPresent() && bounds.get()[0] > bounds.get()[1]) {
+            throw FkClient.error(
+                // @checkstyle MagicNumber (1 line)
+                416, "InvalidRange", "The requested range is not satisfiable"
+            );
+        }
+        return bounds;
+    }
+
+    /**
+     * The key to start listing after, from a continuation token.
+     * @param token The token
+     * @return The key
+     */
+    private static String after(final String token) {
+        try {
+            return new String(
+                BaseEncoding.base64Url().omitPadding().decode(token),
+                StandardCharsets.UTF_8
+            );
+        } catch (final IllegalArgumentException ex) {
+            throw FkClient.error(
+                // @checkstyle MagicNumber (1 line)
+                400, "InvalidArgument",
+                String.format("Continuation token '%s' is invalid", token)
+            );
+        }
+    }
+
+    /**
+     * Error of S3.
+     * @param status HTTP status
+     * @param code Code of the error
+     * @param msg Message
+     * @return The error
+     */
+    private static S3Exception error(final int status, final String code,
+        final String msg) {
+        return S3Exception.builder()
+            .statusCode(status)
+            .message(msg)
+            .awsErrorDetails(FkClient.details(code, msg))
+            .build();
+    }
+
+    /**
+     * Details of an error of S3.
+     * @param code Code of the error
+     * @param msg Message
+     * @return Details
+     */
+    private static AwsErrorDetails details(final String code,
+        final String msg) {
+        return AwsErrorDetails.builder()
+            .errorCode(code)
+            .errorMessage(msg)
+            .serviceName("S3")
+            .build();
+    }
+
+    /**
+     * Multipart upload in progress.
+     *
+     * @since 1.0
+     */
+    private static final class Upload {
+
+        /**
+         * Name of the bucket.
+         */
+        private final transient String bucket;
+
+        /**
+         * Key of the object.
+         */
+        private final transient String key;
+
+        /**
+         * Metadata of the object.
+         */
+        private final transient HeadObjectResponse meta;
+
+        /**
+         * Parts uploaded, by numbers.
+         */
+        private final transient ConcurrentMap<Integer, byte[]> parts;
+
+        /**
+         * Ctor.
+         * @param name Name of the bucket
+         * @param obj Key of the object
+         * @param head Metadata of the object
+         */
+        Upload(final String name, final String obj,
+            final HeadObjectResponse head) {
+            this.bucket = name;
+            this.key = obj;
+            this.meta = head;
+            this.parts = new ConcurrentSkipListMap<>();
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.KeyOrder;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Fake bucket, which keeps all objects in memory.
+ *
+ * <p>Keys are listed in the same order as S3 lists them, lazily, straight
+ * from the sorted map, so a listing sees objects written while it goes,
+ * if they are after its current position, and never fails because
+ * of them.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "bkt")
+@Loggable(Loggable.DEBUG)
+public final class FkMemBucket implements Bucket {
+
+    /**
+     * The region.
+     */
+    private final transient FkMemRegion regn;
+
+    /**
+     * My name.
+     */
+    private final transient String bkt;
+
+    /**
+     * Ctor, with a new region.
+     * @param name Name of the bucket
+     */
+    public FkMemBucket(final String name) {
+        this(new FkMemRegion(), name);
+    }
+
+    /**
+     * Ctor.
+     * @param region The region
+     * @param name Name of the bucket
+     */
+    public FkMemBucket(final FkMemRegion region, final String name) {
+        this.regn = region;
+        this.bkt = name;
+    }
+
+    @Override
+    public String toString() {
+        return this.bkt;
+    }
+
+    @Override
+    public Region region() {
+        return this.regn;
+    }
+
+    @Override
+    public String name() {
+        return this.bkt;
+    }
+
+    @Override
+    public Ocket ocket(final String key) {
+        return new FkMemOcket(this, key);
+    }
+
+    @Override
+    public boolean exists() {
+        return !this.objects().isEmpty();
+    }
+
+    @Override
+    public void remove(final String key) {
+        this.objects().remove(key);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx) {
+        return () -> FkMemBucket.names(this.objects().tailMap(pfx, true), pfx);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after) {
+        final Iterable<String> list;
+        if (new KeyOrder().compare(after, pfx) < 0) {
+            list = this.list(pfx);
+        } else {
+            list = () -> FkMemBucket.names(
+                this.objects().tailMap(after, false), pfx
+            );
+        }
+        return list;
+    }
+
+    @Override
+    public int compareTo(final Bucket bucket) {
+        return this.bkt.compareTo(bucket.name());
+    }
+
+    /**
+     * Objects of this bucket, to read.
+     * @return Objects, by keys
+     */
+    ConcurrentNavigableMap<String, Blob> objects() {
+        return this.regn.objects(this.bkt);
+    }
+
+    /**
+     * Objects of this bucket, to write.
+     * @return Objects, by keys
+     */
+    ConcurrentNavigableMap<String, Blob> writable() {
+        return this.regn.writable(this.bkt);
+    }
+
+    /**
+     * Names of objects with the prefix, from the beginning of the map.
+     * @param objects Objects, starting from the first one to list
+     * @param pfx The prefix
+     * @return Names
+     */
+    private static Iterator<String> names(
+        final NavigableMap<String, Blob> objects, final String pfx) {
+        return objects.keySet().stream()
+            .takeWhile(key -> key.startsWith(pfx))
+            .iterator();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Fake ocket, which keeps its content in memory.
+ *
+ * <p>Metadata is stored together with the content, completed with
+ * the length, the ETag and the time of modification, like S3 does.
+ * Reading or fetching metadata of a missing object throws
+ * {@link OcketNotFoundException}.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = { "bkt", "name" })
+@Loggable(Loggable.DEBUG)
+public final class FkMemOcket implements Ocket {
+
+    /**
+     * My bucket.
+     */
+    private final transient FkMemBucket bkt;
+
+    /**
+     * My name.
+     */
+    private final transient String name;
+
+    /**
+     * Ctor.
+     * @param bucket The bucket
+     * @param key Key
+     */
+    public FkMemOcket(final FkMemBucket bucket, final String key) {
+        this.bkt = bucket;
+        this.name = key;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    @Override
+    public Bucket bucket() {
+        return this.bkt;
+    }
+
+    @Override
+    public String key() {
+        return this.name;
+    }
+
+    @Override
+    public HeadObjectResponse meta() throws IOException {
+        return this.blob().meta();
+    }
+
+    @Override
+    public boolean exists() {
+        return this.bkt.objects().containsKey(this.name);
+    }
+
+    @Override
+    public void read(final OutputStream output) throws IOException {
+        output.write(this.blob().content());
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        final byte[] content = this.blob().content();
+        if (offset < content.length && length > 0L) {
+            output.write(
+                content, (int) offset,
+                (int) Math.min(length, content.length - offset)
+            );
+        }
+    }
+
+    @Override
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        final byte[] content;
+        try (InputStream ins = input) {
+            content = IOUtils.toByteArray(ins);
+        }
+        this.bkt.writable().put(this.name, new Blob(content, meta));
+    }
+
+    @Override
+    public int compareTo(final Ocket ocket) {
+        return this.name.compareTo(ocket.key());
+    }
+
+    /**
+     * The object.
+     * @return The object
+     * @throws OcketNotFoundException If it's absent
+     */
+    private Blob blob() throws OcketNotFoundException {
+        final Blob blob = this.bkt.objects().get(this.name);
+        if (blob == null) {
+            throw new OcketNotFoundException(
+                String.format(
+                    "ocket '%s' not found in '%s'", this.name, this.bkt
+                ),
+                NoSuchKeyException.builder().statusCode(404).build()
+            );
+        }
+        return blob;
+    }
+}
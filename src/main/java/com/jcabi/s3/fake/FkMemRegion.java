@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.KeyOrder;
+import com.jcabi.s3.Region;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Fake region, which keeps all objects in memory.
+ *
+ * <p>It is much faster than {@link FkRegion}, since it doesn't touch
+ * the disk, and it lists keys in the same order as S3 does. Every bucket
+ * is a concurrent sorted map, so the region is thread-safe and can be
+ * used by many threads at once:</p>
+ *
+ * <pre> Region region = new FkMemRegion();
+ * new Ocket.Text(region.bucket("test").ocket("a.txt")).write("hello");</pre>
+ *
+ * <p>All buckets exist and are empty from the beginning, while a bucket
+ * takes memory only after the first write to it. Objects are lost
+ * when the region is garbage collected. The client of {@link #aws()}
+ * is a {@link FkClient} on top of the same buckets.</p>
+ *
+ * <p>A seeded state can be saved with {@link #snapshot()} and brought
+ * back with {@link #restore(FkMemRegion)} between tests. Objects are
+ * immutable, so only maps of keys are copied, never the content.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+public final class FkMemRegion implements Region {
+
+    /**
+     * Buckets, by names.
+     */
+    private final transient ConcurrentMap<String,
+        ConcurrentNavigableMap<String, Blob>> buckets;
+
+    /**
+     * Client of S3, on top of the same buckets.
+     */
+    private final transient FkClient client;
+
+    /**
+     * Ctor.
+     */
+    public FkMemRegion() {
+        this.buckets = new ConcurrentHashMap<>(0);
+        this.client = new FkClient(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d buckets in memory", this.buckets.size());
+    }
+
+    @Override
+    public Bucket bucket(final String name) {
+        return new FkMemBucket(this, name);
+    }
+
+    @Override
+    public S3Client aws() {
+        return this.client;
+    }
+
+    /**
+     * Save the current state of all buckets.
+     * @return Region with the same objects, to restore from
+     */
+    public FkMemRegion snapshot() {
+        final FkMemRegion snapshot = new FkMemRegion();
+        snapshot.copy(this);
+        return snapshot;
+    }
+
+    /**
+     * Bring all buckets back to the state of the snapshot, forgetting
+     * all objects written after it.
+     * @param snapshot The snapshot, made by {@link #snapshot()}
+     */
+    public void restore(final FkMemRegion snapshot) {
+        this.buckets.clear();
+        this.copy(snapshot);
+    }
+
+    /**
+     * Objects of the bucket, to read, without creating it.
+     * @param bucket Name of the bucket
+     * @return Objects, by keys, empty if nothing was written there
+     */
+    ConcurrentNavigableMap<String, Blob> objects(final String bucket) {
+        final ConcurrentNavigableMap<String, Blob> objects =
+            this.buckets.get(bucket);
+        final ConcurrentNavigableMap<String, Blob> found;
+        if (objects == null) {
+            found = new ConcurrentSkipListMap<>(new KeyOrder());
+        } else {
+            found = objects;
+        }
+        return found;
+    }
+
+    /**
+     * Objects of the bucket, to write, creating it if necessary.
+     * @param bucket Name of the bucket
+     * @return Objects, by keys
+     */
+    ConcurrentNavigableMap<String, Blob> writable(final String bucket) {
+        return this.buckets.computeIfAbsent(
+            bucket, name -> new ConcurrentSkipListMap<>(new KeyOrder())
+        );
+    }
+
+    /**
+     * Copy all buckets of another region into this one.
+     * @param region The region to copy from
+     */
+    private void copy(final FkMemRegion region) {
+        for (final Map.Entry<String, ConcurrentNavigableMap<String, Blob>> ent
+            : region.buckets.entrySet()) {
+            this.buckets.put(
+                ent.getKey(), new ConcurrentSkipListMap<>(ent.getValue())
+            );
+        }
+    }
+}
@@ -6,22 +6,48 @@ package com.jcabi.s3.fake;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
 import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Md5;
 import com.jcabi.s3.Ocket;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
 import java.time.Instant;
+import java.util.Optional;
 import javax.activation.MimetypesFileTypeMap;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 /**
  * Mock/fake ocket.
  *
+ * <p>Content is written to a temporary file next to the buckets first,
+ * and then moved in place, so readers never see a half-written object.
+ * Streams given to {@link #read(OutputStream)} are not closed.</p>
+ *
+ * <p>The ETag is calculated while the content is written, and kept
+ * in an extended attribute of the file, together with its size and
+ * modification time, so that {@link #meta()} doesn't read the whole
+ * file. If the file system doesn't support extended attributes, or
+ * the file was changed by someone else, the ETag is calculated
+ * from the content again.</p>
+ *
  * @since 0.6
  */
 @Immutable
@@ -29,6 +55,11 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 @Loggable(Loggable.DEBUG)
 public final class FkOcket implements Ocket {
 
+    /**
+     * Name of the extended attribute with the ETag.
+     */
+    private static final String ATTR = "jcabi-s3.etag";
+
     /**
      * Directory we're working in.
      */
@@ -114,15 +145,18 @@ public final class FkOcket implements Ocket {
     }
 
     @Override
-    public HeadObjectResponse meta() {
-        return HeadObjectResponse.builder()
+    public HeadObjectResponse meta() throws IOException {
+        final HeadObjectResponse.Builder meta = HeadObjectResponse.builder()
             .contentLength(this.file().length())
             .contentType(
                 new MimetypesFileTypeMap().getContentType(this.file())
             )
             .lastModified(Instant.ofEpochMilli(this.file().lastModified()))
-            .contentEncoding("UTF-8")
-            .build();
+            .contentEncoding("UTF-8");
+        if (this.file().isFile()) {
+            meta.eTag(this.etag());
+        }
+        return meta.build();
     }
 
     @Override
@@ -132,12 +166,21 @@ public final class FkOcket implements Ocket {
 
     @Override
     public void read(final OutputStream output) throws IOException {
-        try (
-            InputStream input = Files.newInputStream(this.file().toPath());
-            OutputStream ous = output
-        ) {
-            while (input.available() > 0) {
-                ous.write(input.read());
+        Files.copy(this.file().toPath(), output);
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.file().toPath())) {
+            if (offset < channel.size()) {
+                final WritableByteChannel target = Channels.newChannel(output);
+                final long end = offset
+                    + Math.min(length, channel.size() - offset);
+                long pos = offset;
+                while (pos < end) {
+                    pos += channel.transferTo(pos, end - pos, target);
+                }
             }
         }
     }
@@ -145,15 +188,28 @@ public final class FkOcket implements Ocket {
     @Override
     public void write(final InputStream input, final HeadObjectResponse meta)
         throws IOException {
-        final File file = this.file();
-        file.getParentFile().mkdirs();
-        try (
-            InputStream ins = input;
-            OutputStream output = Files.newOutputStream(file.toPath())
-        ) {
-            while (ins.available() > 0) {
-                output.write(input.read());
+        final Path file = this.file().toPath();
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(
+            Paths.get(this.dir), ".jcabi-s3-", ".tmp"
+        );
+        try (InputStream ins = input) {
+            final Md5 md5 = new Md5();
+            Files.copy(
+                md5.stream(ins), temp, StandardCopyOption.REPLACE_EXISTING
+            );
+            FkOcket.store(temp, md5.etag());
+            try {
+                Files.move(
+                    temp, file,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING
+                );
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
             }
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
@@ -182,4 +238,104 @@ public final class FkOcket implements Ocket {
         );
     }
 
+    /**
+     * ETag of the file, the same as S3 makes for a single PUT.
+     * @return MD5 of the content, in quotes
+     * @throws IOException If fails
+     */
+    private String etag() throws IOException {
+        final Path path = this.file().toPath();
+        final Optional<String> stored = FkOcket.stored(path);
+        final String etag;
+        if (stored.isPresent()) {
+            etag = stored.get();
+        } else {
+            final Md5 md5 = new Md5();
+            try (InputStream input = md5.stream(Files.newInputStream(path))) {
+                IOUtils.copy(input, NullOutputStream.INSTANCE);
+            }
+            etag = md5.etag();
+            FkOcket.store(path, etag);
+        }
+        return etag;
+    }
+
+    /**
+     * Keep the ETag in an extended attribute of the file, if possible.
+     * @param path The file
+     * @param etag Its ETag
+     * @throws IOException If fails
+     */
+    private static void store(final Path path, final String etag)
+        throws IOException {
+        final UserDefinedFileAttributeView view = Files.getFileAttributeView(
+            path, UserDefinedFileAttributeView.class
+        );
+        if (view != null) {
+            try {
+                view.write(
+                    FkOcket.ATTR,
+                    StandardCharsets.UTF_8.encode(
+                        String.format("%s %s", FkOcket.stamp(path), etag)
+                    )
+                );
+            } catch (final UnsupportedOperationException
+                | FileSystemException ex) {
+                Logger.debug(
+                    FkOcket.class, "Can't keep ETag of %s: %s", path, ex
+                );
+            }
+        }
+    }
+
+    /**
+     * ETag kept in an extended attribute of the file, if it's there
+     * and the file was not changed since then.
+     * @param path The file
+     * @return ETag, if it's known
+     * @throws IOException If fails
+     */
+    private static Optional<String> stored(final Path path)
+        throws IOException {
+        final UserDefinedFileAttributeView view = Files.getFileAttributeView(
+            path, UserDefinedFileAttributeView.class
+        );
+        Optional<String> etag = Optional.empty();
+        if (view != null) {
+            try {
+                if (view.list().contains(FkOcket.ATTR)) {
+                    final ByteBuffer buf = ByteBuffer.allocate(
+                        view.size(FkOcket.ATTR)
+                    );
+                    view.read(FkOcket.ATTR, buf);
+                    buf.flip();
+                    final String[] parts = StandardCharsets.UTF_8.decode(buf)
+                        .toString().split(" ", 2);
+                    if (parts.length == 2
+                        && parts[0].equals(FkOcket.stamp(path))) {
+                        etag = Optional.of(parts[1]);
+                    }
+                }
+            } catch (final UnsupportedOperationException
+                | FileSystemException ex) {
+                etag = Optional.empty();
+            }
+        }
+        return etag;
+    }
+
+    /**
+     * Size and modification time of the file, which change when
+     * its content changes.
+     * @param path The file
+     * @return Stamp
+     * @throws IOException If fails
+     */
+    private static String stamp(final Path path) throws IOException {
+        return String.format(
+            "%d/%d",
+            Files.size(path), Files.getLastModifiedTime(path).toMillis()
+        );
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.aspects.Loggable;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fake S3 server, which serves objects of {@link FkMemRegion} through
+ * the REST API of S3, on the loopback interface.
+ *
+ * <p>It understands enough of the API for {@link com.jcabi.s3.Region.Simple}
+ * to work with it through the real client of AWS SDK, with an endpoint
+ * override: objects can be written, read entirely or by ranges, deleted,
+ * listed page by page with continuation tokens, and uploaded in parts.
+ * Thus, the whole path through HTTP can be tested and benchmarked
+ * without the network and without credentials:</p>
+ *
+ * <pre> try (FkServer server = new FkServer()) {
+ *   Region region = new Region.Simple("key", "secret", server.start());
+ *   new Ocket.Text(region.bucket("test").ocket("a.txt")).write("hello");
+ * }</pre>
+ *
+ * <p>Signatures are not verified and any credentials are accepted. All
+ * buckets exist. Content in "aws-chunked" encoding is decoded, but its
+ * checksums are ignored. Delimiters, copying,
+ * versions, ACLs and other features not used by this library are
+ * answered with 501. The server listens only on the loopback interface,
+ * on a random free port.</p>
+ *
+ * @since 1.0
+ */
+@Loggable(Loggable.DEBUG)
+public final class FkServer implements AutoCloseable {
+
+    /**
+     * The region with objects.
+     */
+    private final transient FkMemRegion regn;
+
+    /**
+     * HTTP server, when it's started.
+     */
+    private final transient AtomicReference<HttpServer> http;
+
+    /**
+     * Ctor, with a new region.
+     */
+    public FkServer() {
+        this(new FkMemRegion());
+    }
+
+    /**
+     * Ctor.
+     * @param region The region with objects
+     */
+    public FkServer(final FkMemRegion region) {
+        this.regn = region;
+        this.http = new AtomicReference<>();
+    }
+
+    @Override
+    public String toString() {
+        final HttpServer server = this.http.get();
+        final String text;
+        if (server == null) {
+            text = "S3 server, not started";
+        } else {
+            text = String.format("S3 server at %s", FkServer.uri(server));
+        }
+        return text;
+    }
+
+    /**
+     * Start the server.
+     * @return Its endpoint, like {@code http://127.0.0.1:34567}
+     * @throws IOException If fails
+     */
+    public URI start() throws IOException {
+        final HttpServer server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0
+        );
+        server.setExecutor(
+            Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("jcabi-s3-server-%d")
+                    .build()
+            )
+        );
+        server.createContext("/", new Rest(new FkClient(this.regn)));
+        if (!this.http.compareAndSet(null, server)) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+            throw new IllegalStateException("The server is already started");
+        }
+        server.start();
+        return FkServer.uri(server);
+    }
+
+    /**
+     * Endpoint of the started server.
+     * @return Its endpoint, like {@code http://127.0.0.1:34567}
+     */
+    public URI endpoint() {
+        final HttpServer server = this.http.get();
+        if (server == null) {
+            throw new IllegalStateException("The server is not started");
+        }
+        return FkServer.uri(server);
+    }
+
+    /**
+     * Stop the server, if it's started.
+     */
+    @Override
+    public void close() {
+        final HttpServer server = this.http.getAndSet(null);
+        if (server != null) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+    }
+
+    /**
+     * Endpoint of the server.
+     * @param server The server
+     * @return Its endpoint
+     */
+    private static URI uri(final HttpServer server) {
+        final InetSocketAddress address = server.getAddress();
+        return URI.create(
+            String.format(
+                "http://%s:%d",
+                address.getAddress().getHostAddress(), address.getPort()
+            )
+        );
+    }
+
+}
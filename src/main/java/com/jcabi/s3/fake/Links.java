@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Visitor of a directory tree, which links its files into another tree.
+ *
+ * <p>Every file gets a hard link in the target, so no content is copied
+ * and a tree of thousands of objects is linked in milliseconds. Since
+ * {@link FkOcket} never modifies a file in place, but writes a temporary
+ * file and moves it over the old one, a write to one tree replaces
+ * the link there and leaves the other tree intact: the trees are
+ * copy-on-write. When the file system can't link, for example across
+ * devices, the file is copied. Temporary files of writes in progress
+ * are skipped.</p>
+ *
+ * @since 1.0
+ */
+final class Links extends SimpleFileVisitor<Path> {
+
+    /**
+     * The source directory.
+     */
+    private final transient Path source;
+
+    /**
+     * The target directory.
+     */
+    private final transient Path target;
+
+    /**
+     * Ctor.
+     * @param from The source directory
+     * @param into The target directory
+     */
+    Links(final Path from, final Path into) {
+        super();
+        this.source = from;
+        this.target = into;
+    }
+
+    @Override
+    public FileVisitResult preVisitDirectory(final Path dir,
+        final BasicFileAttributes attrs) throws IOException {
+        Files.createDirectories(
+            this.target.resolve(this.source.relativize(dir))
+        );
+        return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFile(final Path file,
+        final BasicFileAttributes attrs) throws IOException {
+        final String name = file.getFileName().toString();
+        if (attrs.isRegularFile()
+            && !(name.startsWith(".jcabi-s3-") && name.endsWith(".tmp"))) {
+            final Path link = this.target.resolve(
+                this.source.relativize(file)
+            );
+            try {
+                Files.createLink(link, file);
+            } catch (final UnsupportedOperationException
+                | FileSystemException ex) {
+                Files.copy(
+                    file, link,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES
+                );
+            }
+        }
+        return FileVisitResult.CONTINUE;
+    }
+
+}
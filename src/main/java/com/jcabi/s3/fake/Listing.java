@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.KeyOrder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy listing of files of a bucket, in the same order as S3 lists keys.
+ *
+ * <p>Directories are walked depth-first, one at a time: entries of
+ * a directory are read only when the listing reaches it. They are sorted
+ * with slashes appended to names of directories, so the order of keys
+ * is exactly the order of S3, where {@code a-b} goes before {@code a/b}.
+ * The prefix is not necessarily a directory: {@code logs/2026-0} lists
+ * {@code logs/2026-01.txt} and everything under {@code logs/2026-02/}.
+ * Whole directories which go before the starting key are skipped
+ * without being read.</p>
+ *
+ * @since 1.0
+ */
+final class Listing implements Iterator<String> {
+
+    /**
+     * Order of keys.
+     */
+    private static final KeyOrder ORDER = new KeyOrder();
+
+    /**
+     * Directory of the bucket.
+     */
+    private final transient Path home;
+
+    /**
+     * Key to start after, exclusive, or empty.
+     */
+    private final transient String after;
+
+    /**
+     * Keys of entries of directories being walked, the deepest on top;
+     * keys of directories end with a slash.
+     */
+    private final transient Deque<Iterator<String>> stack;
+
+    /**
+     * Next key, if it's already found.
+     */
+    private transient String ahead;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the bucket
+     * @param pfx Prefix of keys
+     * @param start Key to start after, exclusive, or empty
+     */
+    Listing(final Path dir, final String pfx, final String start) {
+        this.home = dir;
+        this.after = start;
+        this.stack = new ArrayDeque<>(0);
+        final int slash = pfx.lastIndexOf('/') + 1;
+        this.stack.push(
+            this.entries(pfx.substring(0, slash), pfx.substring(slash))
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.ahead == null && !this.stack.isEmpty()) {
+            final Iterator<String> top = this.stack.peek();
+            if (top.hasNext()) {
+                final String key = top.next();
+                if (key.endsWith("/")) {
+                    this.stack.push(this.entries(key, ""));
+                } else {
+                    this.ahead = key;
+                }
+            } else {
+                this.stack.pop();
+            }
+        }
+        return this.ahead != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more keys in this listing"
+            );
+        }
+        final String key = this.ahead;
+        this.ahead = null;
+        return key;
+    }
+
+    /**
+     * Sorted keys of entries of the directory, which start with
+     * the given name and don't go before the starting key.
+     * @param dir Key of the directory, empty or ending with a slash
+     * @param start Beginning of names of the entries
+     * @return Keys
+     */
+    private Iterator<String> entries(final String dir, final String start) {
+        final Path path = this.home.resolve(dir);
+        final List<String> keys = new ArrayList<>(0);
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> found = Files.newDirectoryStream(path)) {
+                for (final Path entry : found) {
+                    String name = entry.getFileName().toString();
+                    if (Files.isDirectory(entry)) {
+                        name = String.format("%s/", name);
+                    }
+                    final String key = String.format("%s%s", dir, name);
+                    if (name.startsWith(start) && this.wanted(key)) {
+                        keys.add(key);
+                    }
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        Collections.sort(keys, Listing.ORDER);
+        return keys.iterator();
+    }
+
+    /**
+     * Is it after the starting key, or may it contain such keys?
+     * @param key Key of a file, or of a directory, ending with a slash
+     * @return TRUE if it must be listed or walked
+     */
+    private boolean wanted(final String key) {
+        return Listing.ORDER.compare(key, this.after) > 0
+            || key.endsWith("/") && this.after.startsWith(key);
+    }
+
+}
@@ -0,0 +1,800 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * REST API of S3, over a client of S3, usually {@link FkClient}.
+ *
+ * <p>Requests are expected in path style, where the name of the bucket
+ * is the first segment of the path. They are translated into calls
+ * of the client, and its responses and errors back into headers and
+ * XML documents of S3, so the semantics of S3 live in one place, in
+ * the client. Only the operations used by this library are supported:
+ * HEAD, GET, PUT and DELETE of objects, ranges, ListObjectsV2 and
+ * multipart uploads. Everything else is answered with 501.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Rest implements HttpHandler {
+
+    /**
+     * Namespace of XML documents of S3.
+     */
+    private static final String XMLNS =
+        "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    /**
+     * Number of a part in a request to complete an upload.
+     */
+    private static final Pattern PART = Pattern.compile(
+        "<PartNumber>\\s*(\\d+)\\s*</PartNumber>"
+    );
+
+    /**
+     * The client.
+     */
+    private final transient S3Client client;
+
+    /**
+     * Counter of requests.
+     */
+    private final transient AtomicLong requests;
+
+    /**
+     * Ctor.
+     * @param aws The client
+     */
+    Rest(final S3Client aws) {
+        this.client = aws;
+        this.requests = new AtomicLong();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d requests to %s", this.requests.get(), this.client
+        );
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        try {
+            exchange.getResponseHeaders().set(
+                "x-amz-request-id",
+                Long.toHexString(this.requests.incrementAndGet())
+            );
+            this.route(exchange);
+        } catch (final Rest.Failure ex) {
+            Rest.error(exchange, ex);
+        } catch (final AwsServiceException ex) {
+            Rest.error(exchange, Rest.failure(ex));
+        } catch (final RuntimeException ex) {
+            Rest.error(
+                exchange,
+                // @checkstyle MagicNumber (1 line)
+                new Rest.Failure(500, "InternalError", ex.getMessage())
+            );
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Dispatch the request.
+     * @param exchange The exchange
+     * @throws IOException If fails
+     * @throws Rest.Failure If the request can't be served
+     */
+    private void route(final HttpExchange exchange)
+        throws IOException, Rest.Failure {
+        final String path = exchange.getRequestURI().getPath();
+        final int slash = path.indexOf('/', 1);
+        final String bucket;
+        final String key;
+        if (slash < 0) {
+            bucket = path.substring(1);
+            key = "";
+        } else {
+            bucket = path.substring(1, slash);
+            key = path.substring(slash + 1);
+        }
+        if (bucket.isEmpty()) {
+            throw new Rest.Failure(
+                // @checkstyle MagicNumber (1 line)
+                400, "InvalidBucketName", "The bucket is not specified"
+            );
+        }
+        final Map<String, String> query = Rest.query(
+            exchange.getRequestURI().getRawQuery()
+        );
+        if (key.isEmpty()) {
+            this.bucket(exchange, bucket, query);
+        } else {
+            this.object(exchange, bucket, key, query);
+        }
+    }
+
+    /**
+     * Serve a request to the bucket.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param query Parameters of the query
+     * @throws IOException If fails
+     * @throws Rest.Failure If the request can't be served
+     */
+    private void bucket(final HttpExchange exchange, final String bucket,
+        final Map<String, String> query) throws IOException, Rest.Failure {
+        final String method = exchange.getRequestMethod();
+        if (("HEAD".equals(method) || "PUT".equals(method))
+            && query.isEmpty()) {
+            // @checkstyle MagicNumber (1 line)
+            exchange.sendResponseHeaders(200, -1L);
+        } else if ("GET".equals(method) && !query.containsKey("uploads")
+            && !query.containsKey("versions")
+            && !query.containsKey("delimiter")) {
+            this.list(exchange, bucket, query);
+        } else {
+            throw Rest.unsupported(method);
+        }
+    }
+
+    /**
+     * Serve a request to an object.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @param query Parameters of the query
+     * @throws IOException If fails
+     * @throws Rest.Failure If the request can't be served
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void object(final HttpExchange exchange, final String bucket,
+        final String key, final Map<String, String> query)
+        throws IOException, Rest.Failure {
+        final String method = exchange.getRequestMethod();
+        final String upload = query.get("uploadId");
+        if ("HEAD".equals(method) && upload == null) {
+            this.head(exchange, bucket, key);
+        } else if ("GET".equals(method) && upload == null) {
+            this.get(exchange, bucket, key);
+        } else if ("PUT".equals(method) && upload != null) {
+            this.part(exchange, bucket, key, query);
+        } else if ("PUT".equals(method) && !exchange.getRequestHeaders()
+            .containsKey("x-amz-copy-source")) {
+            this.put(exchange, bucket, key);
+        } else if ("POST".equals(method) && query.containsKey("uploads")) {
+            this.initiate(exchange, bucket, key);
+        } else if ("POST".equals(method) && upload != null) {
+            this.complete(exchange, bucket, key, upload);
+        } else if ("DELETE".equals(method) && upload != null) {
+            this.client.abortMultipartUpload(
+                AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(upload).build()
+            );
+            // @checkstyle MagicNumber (1 line)
+            exchange.sendResponseHeaders(204, -1L);
+        } else if ("DELETE".equals(method)) {
+            this.client.deleteObject(
+                DeleteObjectRequest.builder().bucket(bucket).key(key).build()
+            );
+            // @checkstyle MagicNumber (1 line)
+            exchange.sendResponseHeaders(204, -1L);
+        } else {
+            throw Rest.unsupported(method);
+        }
+    }
+
+    /**
+     * Send metadata of the object.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @throws IOException If fails
+     */
+    private void head(final HttpExchange exchange, final String bucket,
+        final String key) throws IOException {
+        final HeadObjectResponse meta = this.client.headObject(
+            HeadObjectRequest.builder().bucket(bucket).key(key).build()
+        );
+        Rest.headers(exchange, meta);
+        exchange.getResponseHeaders().set(
+            "Content-Length", Long.toString(meta.contentLength())
+        );
+        // @checkstyle MagicNumber (1 line)
+        exchange.sendResponseHeaders(200, -1L);
+    }
+
+    /**
+     * Send content of the object, entirely or its range, if it's still
+     * of the version asked with {@code If-Match}.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @throws IOException If fails
+     */
+    private void get(final HttpExchange exchange, final String bucket,
+        final String key) throws IOException {
+        final ResponseBytes<GetObjectResponse> bytes = this.client.getObject(
+            GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range(exchange.getRequestHeaders().getFirst("Range"))
+                .ifMatch(exchange.getRequestHeaders().getFirst("If-Match"))
+                .build(),
+            ResponseTransformer.toBytes()
+        );
+        final GetObjectResponse response = bytes.response();
+        Rest.headers(
+            exchange,
+            HeadObjectResponse.builder()
+                .eTag(response.eTag())
+                .lastModified(response.lastModified())
+                .contentType(response.contentType())
+                .contentEncoding(response.contentEncoding())
+                .metadata(response.metadata())
+                .build()
+        );
+        // @checkstyle MagicNumber (1 line)
+        int status = 200;
+        if (response.contentRange() != null) {
+            exchange.getResponseHeaders().set(
+                "Content-Range", response.contentRange()
+            );
+            // @checkstyle MagicNumber (1 line)
+            status = 206;
+        }
+        Rest.send(exchange, status, bytes.asByteArrayUnsafe());
+    }
+
+    /**
+     * Save the object.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @throws IOException If fails
+     * @throws Rest.Failure If the content is incomplete
+     */
+    private void put(final HttpExchange exchange, final String bucket,
+        final String key) throws IOException, Rest.Failure {
+        final HeadObjectResponse meta = Rest.meta(
+            exchange.getRequestHeaders()
+        );
+        final String etag = this.client.putObject(
+            PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(meta.contentType())
+                .contentEncoding(meta.contentEncoding())
+                .metadata(meta.metadata())
+                .build(),
+            RequestBody.fromBytes(Rest.body(exchange))
+        ).eTag();
+        exchange.getResponseHeaders().set("ETag", etag);
+        // @checkstyle MagicNumber (1 line)
+        exchange.sendResponseHeaders(200, -1L);
+    }
+
+    /**
+     * Start a multipart upload.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @throws IOException If fails
+     */
+    private void initiate(final HttpExchange exchange, final String bucket,
+        final String key) throws IOException {
+        final HeadObjectResponse meta = Rest.meta(
+            exchange.getRequestHeaders()
+        );
+        final String uid = this.client.createMultipartUpload(
+            CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(meta.contentType())
+                .contentEncoding(meta.contentEncoding())
+                .metadata(meta.metadata())
+                .build()
+        ).uploadId();
+        final StringBuilder xml = Rest.open("InitiateMultipartUploadResult");
+        Rest.tag(xml, "Bucket", bucket);
+        Rest.tag(xml, "Key", key);
+        Rest.tag(xml, "UploadId", uid);
+        Rest.send(exchange, Rest.close(xml, "InitiateMultipartUploadResult"));
+    }
+
+    /**
+     * Save one part of a multipart upload.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @param query Parameters of the query
+     * @throws IOException If fails
+     * @throws Rest.Failure If the number of the part is not a number
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void part(final HttpExchange exchange, final String bucket,
+        final String key, final Map<String, String> query)
+        throws IOException, Rest.Failure {
+        final int number;
+        try {
+            number = Integer.parseInt(query.getOrDefault("partNumber", ""));
+        } catch (final NumberFormatException ex) {
+            throw new Rest.Failure(
+                // @checkstyle MagicNumber (1 line)
+                400, "InvalidArgument", "Part number must be an integer"
+            );
+        }
+        final String etag = this.client.uploadPart(
+            UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(query.get("uploadId"))
+                .partNumber(number)
+                .build(),
+            RequestBody.fromBytes(Rest.body(exchange))
+        ).eTag();
+        exchange.getResponseHeaders().set("ETag", etag);
+        // @checkstyle MagicNumber (1 line)
+        exchange.sendResponseHeaders(200, -1L);
+    }
+
+    /**
+     * Complete a multipart upload, gluing its parts into an object.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param key The key of the object
+     * @param uid ID of the upload
+     * @throws IOException If fails
+     * @throws Rest.Failure If the content is incomplete
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void complete(final HttpExchange exchange, final String bucket,
+        final String key, final String uid) throws IOException, Rest.Failure {
+        final Matcher numbers = Rest.PART.matcher(
+            new String(Rest.body(exchange), StandardCharsets.UTF_8)
+        );
+        final List<CompletedPart> parts = new ArrayList<>(0);
+        while (numbers.find()) {
+            parts.add(
+                CompletedPart.builder()
+                    .partNumber(Integer.parseInt(numbers.group(1)))
+                    .build()
+            );
+        }
+        final String etag = this.client.completeMultipartUpload(
+            CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uid)
+                .multipartUpload(
+                    CompletedMultipartUpload.builder().parts(parts).build()
+                )
+                .build()
+        ).eTag();
+        final StringBuilder xml = Rest.open("CompleteMultipartUploadResult");
+        Rest.tag(xml, "Bucket", bucket);
+        Rest.tag(xml, "Key", key);
+        Rest.tag(xml, "ETag", etag);
+        Rest.send(exchange, Rest.close(xml, "CompleteMultipartUploadResult"));
+    }
+
+    /**
+     * Send one page of keys of the bucket, as ListObjectsV2 does.
+     * @param exchange The exchange
+     * @param bucket Name of the bucket
+     * @param query Parameters of the query
+     * @throws IOException If fails
+     * @throws Rest.Failure If parameters are invalid
+     */
+    private void list(final HttpExchange exchange, final String bucket,
+        final Map<String, String> query) throws IOException, Rest.Failure {
+        final ListObjectsV2Request.Builder request =
+            ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(query.get("prefix"))
+                .continuationToken(query.get("continuation-token"))
+                .startAfter(query.get("start-after"));
+        if (query.containsKey("max-keys")) {
+            try {
+                request.maxKeys(Integer.parseInt(query.get("max-keys")));
+            } catch (final NumberFormatException ex) {
+                throw new Rest.Failure(
+                    // @checkstyle MagicNumber (1 line)
+                    400, "InvalidArgument", "Max keys must be an integer"
+                );
+            }
+        }
+        final ListObjectsV2Response response =
+            this.client.listObjectsV2(request.build());
+        final boolean url = "url".equals(query.get("encoding-type"));
+        final StringBuilder xml = Rest.open("ListBucketResult");
+        Rest.tag(xml, "Name", bucket);
+        Rest.tag(
+            xml, "Prefix", Rest.encoded(query.getOrDefault("prefix", ""), url)
+        );
+        Rest.tag(xml, "KeyCount", Integer.toString(response.keyCount()));
+        Rest.tag(xml, "MaxKeys", Integer.toString(response.maxKeys()));
+        Rest.tag(
+            xml, "IsTruncated", Boolean.toString(response.isTruncated())
+        );
+        if (response.continuationToken() != null) {
+            Rest.tag(xml, "ContinuationToken", response.continuationToken());
+        }
+        if (response.nextContinuationToken() != null) {
+            Rest.tag(
+                xml, "NextContinuationToken",
+                response.nextContinuationToken()
+            );
+        }
+        final String start = query.getOrDefault("start-after", "");
+        if (!start.isEmpty()) {
+            Rest.tag(xml, "StartAfter", Rest.encoded(start, url));
+        }
+        if (url) {
+            Rest.tag(xml, "EncodingType", "url");
+        }
+        for (final S3Object obj : response.contents()) {
+            xml.append("<Contents>");
+            Rest.tag(xml, "Key", Rest.encoded(obj.key(), url));
+            Rest.tag(
+                xml, "LastModified",
+                DateTimeFormatter.ISO_INSTANT.format(
+                    obj.lastModified().truncatedTo(ChronoUnit.MILLIS)
+                )
+            );
+            Rest.tag(xml, "ETag", obj.eTag());
+            Rest.tag(xml, "Size", Long.toString(obj.size()));
+            Rest.tag(xml, "StorageClass", obj.storageClassAsString());
+            xml.append("</Contents>");
+        }
+        Rest.send(exchange, Rest.close(xml, "ListBucketResult"));
+    }
+
+    /**
+     * Set headers with metadata of the object.
+     * @param exchange The exchange
+     * @param meta Metadata of the object
+     */
+    private static void headers(final HttpExchange exchange,
+        final HeadObjectResponse meta) {
+        final Headers headers = exchange.getResponseHeaders();
+        headers.set("ETag", meta.eTag());
+        headers.set(
+            "Last-Modified",
+            DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                meta.lastModified().atZone(ZoneOffset.UTC)
+            )
+        );
+        headers.set("Content-Type", meta.contentType());
+        headers.set("Accept-Ranges", "bytes");
+        if (meta.contentEncoding() != null) {
+            headers.set("Content-Encoding", meta.contentEncoding());
+        }
+        for (final Map.Entry<String, String> ent
+            : meta.metadata().entrySet()) {
+            headers.set(
+                String.format("x-amz-meta-%s", ent.getKey()), ent.getValue()
+            );
+        }
+    }
+
+    /**
+     * Metadata of the object, from headers of the request.
+     * @param headers Headers
+     * @return Metadata
+     */
+    private static HeadObjectResponse meta(final Headers headers) {
+        final Map<String, String> user = new HashMap<>(0);
+        for (final Map.Entry<String, List<String>> ent
+            : headers.entrySet()) {
+            final String name = ent.getKey().toLowerCase(Locale.ENGLISH);
+            if (name.startsWith("x-amz-meta-")) {
+                user.put(
+                    name.substring("x-amz-meta-".length()),
+                    ent.getValue().get(0)
+                );
+            }
+        }
+        String encoding = headers.getFirst("Content-Encoding");
+        if (encoding != null) {
+            encoding = encoding.replaceAll("\\s*aws-chunked\\s*,?\\s*", "");
+            if (encoding.isEmpty()) {
+                encoding = null;
+            }
+        }
+        return HeadObjectResponse.builder()
+            .contentType(headers.getFirst("Content-Type"))
+            .contentEncoding(encoding)
+            .metadata(user)
+            .build();
+    }
+
+    /**
+     * Content of the request, decoded if necessary.
+     * @param exchange The exchange
+     * @return Content
+     * @throws IOException If fails
+     * @throws Rest.Failure If the content is incomplete
+     */
+    private static byte[] body(final HttpExchange exchange)
+        throws IOException, Rest.Failure {
+        final Headers headers = exchange.getRequestHeaders();
+        final String encoding = headers.getFirst("Content-Encoding");
+        final String sha = headers.getFirst("x-amz-content-sha256");
+        InputStream input = exchange.getRequestBody();
+        if (encoding != null && encoding.contains("aws-chunked")
+            || sha != null && sha.startsWith("STREAMING-")) {
+            input = new Chunked(input);
+        }
+        final byte[] content = IOUtils.toByteArray(input);
+        final String expected = headers.getFirst(
+            "x-amz-decoded-content-length"
+        );
+        if (expected != null
+            && Long.parseLong(expected.trim()) != content.length) {
+            throw new Rest.Failure(
+                // @checkstyle MagicNumber (1 line)
+                400, "IncompleteBody",
+                String.format(
+                    "%s bytes expected, %d received",
+                    expected, content.length
+                )
+            );
+        }
+        return content;
+    }
+
+    /**
+     * Parameters of the query.
+     * @param raw The query, not decoded, or NULL
+     * @return Decoded parameters, by names
+     */
+    private static Map<String, String> query(final String raw) {
+        final Map<String, String> params = new HashMap<>(0);
+        if (raw != null && !raw.isEmpty()) {
+            for (final String pair : raw.split("&")) {
+                final int equals = pair.indexOf('=');
+                if (equals < 0) {
+                    params.put(Rest.decoded(pair), "");
+                } else {
+                    params.put(
+                        Rest.decoded(pair.substring(0, equals)),
+                        Rest.decoded(pair.substring(equals + 1))
+                    );
+                }
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Decode a parameter of the query.
+     * @param text Encoded text
+     * @return Decoded text
+     */
+    private static String decoded(final String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encode a key for a listing, if it was requested.
+     * @param text The key
+     * @param url TRUE if it must be URL-encoded
+     * @return Encoded key
+     */
+    private static String encoded(final String text, final boolean url) {
+        String encoded = text;
+        if (url) {
+            encoded = URLEncoder.encode(text, StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    /**
+     * Start an XML document.
+     * @param root Name of the root element
+     * @return The document
+     */
+    private static StringBuilder open(final String root) {
+        return new StringBuilder(0)
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append(String.format("<%s xmlns=\"%s\">", root, Rest.XMLNS));
+    }
+
+    /**
+     * Finish an XML document.
+     * @param xml The document
+     * @param root Name of the root element
+     * @return Bytes of the document
+     */
+    private static byte[] close(final StringBuilder xml, final String root) {
+        return xml.append(String.format("</%s>", root))
+            .toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Append an element with text to XML.
+     * @param xml The document
+     * @param name Name of the element
+     * @param text Its text
+     */
+    private static void tag(final StringBuilder xml, final String name,
+        final String text) {
+        xml.append('<').append(name).append('>')
+            .append(
+                text.replace("&", "&amp;")
+                    .replace("<", "&lt;")
+                    .replace(">", "&gt;")
+                    .replace("\"", "&quot;")
+                    .replace("'", "&apos;")
+            )
+            .append("</").append(name).append('>');
+    }
+
+    /**
+     * Send an XML document.
+     * @param exchange The exchange
+     * @param xml The document
+     * @throws IOException If fails
+     */
+    private static void send(final HttpExchange exchange, final byte[] xml)
+        throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        // @checkstyle MagicNumber (1 line)
+        Rest.send(exchange, 200, xml);
+    }
+
+    /**
+     * Send the response.
+     * @param exchange The exchange
+     * @param status HTTP status
+     * @param content Content
+     * @throws IOException If fails
+     */
+    private static void send(final HttpExchange exchange, final int status,
+        final byte[] content) throws IOException {
+        if (content.length == 0
+            || "HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1L);
+        } else {
+            exchange.sendResponseHeaders(status, content.length);
+            exchange.getResponseBody().write(content);
+        }
+    }
+
+    /**
+     * Send an error.
+     * @param exchange The exchange
+     * @param failure The failure
+     * @throws IOException If fails
+     */
+    private static void error(final HttpExchange exchange,
+        final Rest.Failure failure) throws IOException {
+        final StringBuilder xml = new StringBuilder(0)
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error>");
+        Rest.tag(xml, "Code", failure.code);
+        Rest.tag(xml, "Message", String.valueOf(failure.getMessage()));
+        Rest.tag(xml, "Resource", exchange.getRequestURI().getPath());
+        Rest.tag(
+            xml, "RequestId",
+            exchange.getResponseHeaders().getFirst("x-amz-request-id")
+        );
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        Rest.send(
+            exchange, failure.status,
+            xml.append("</Error>").toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Failure of a request, from an error of the client.
+     * @param error The error
+     * @return The failure
+     */
+    private static Rest.Failure failure(final AwsServiceException error) {
+        final AwsErrorDetails details = error.awsErrorDetails();
+        String code = "InternalError";
+        String msg = error.getMessage();
+        if (details != null && details.errorCode() != null) {
+            code = details.errorCode();
+            msg = details.errorMessage();
+        }
+        return new Rest.Failure(error.statusCode(), code, msg);
+    }
+
+    /**
+     * Failure of a request which is not supported.
+     * @param method HTTP method of the request
+     * @return The failure
+     */
+    private static Rest.Failure unsupported(final String method) {
+        return new Rest.Failure(
+            // @checkstyle MagicNumber (1 line)
+            501, "NotImplemented",
+            String.format("This %s request is not supported", method)
+        );
+    }
+
+    /**
+     * Failure of a request, to be reported as an error of S3.
+     *
+     * @since 1.0
+     */
+    private static final class Failure extends Exception {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x7b3a51e2c9d4f806L;
+
+        /**
+         * HTTP status.
+         */
+        private final int status;
+
+        /**
+         * Code of the error.
+         */
+        private final String code;
+
+        /**
+         * Ctor.
+         * @param sts HTTP status
+         * @param cde Code of the error
+         * @param msg Message
+         */
+        Failure(final int sts, final String cde, final String msg) {
+            super(msg);
+            this.status = sts;
+            this.code = cde;
+        }
+    }
+
+}
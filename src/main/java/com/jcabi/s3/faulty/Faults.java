@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Random;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Faults to inject into calls, shared by all faulty decorators it is
+ * given to.
+ *
+ * <p>Every call is delayed by a latency drawn from the distribution,
+ * and then may fail with 503 {@code SlowDown}, like S3 does when it
+ * is overloaded. Reading may break in the middle of the content, either
+ * with a connection reset or with a premature end of the content, after
+ * some of the bytes are already delivered to the output. Writing may
+ * break with a connection reset, after the input is consumed, and so may
+ * loading of the next page of a listing. Thus,
+ * retries, hedging, breakers and deadlines can be tuned against a slow
+ * and unreliable backend, without the network:</p>
+ *
+ * <pre> Region region = new ReRegion(
+ *   new FtRegion(
+ *     new FkMemRegion(),
+ *     new Faults(
+ *       new Latency.LogNormal(Duration.ofMillis(20L), 0.5d),
+ *       0.01d, 0.001d, 0.001d, 42L
+ *     )
+ *   )
+ * );</pre>
+ *
+ * <p>All random decisions are made by one generator with the given seed,
+ * so a single-threaded experiment is exactly repeatable. With many
+ * threads, the order in which they draw numbers is not determined,
+ * but the distributions stay the same.</p>
+ *
+ * @since 1.0
+ */
+public final class Faults {
+
+    /**
+     * Message of S3 when it throttles.
+     */
+    private static final String SLOW = "Please reduce your request rate.";
+
+    /**
+     * Latency of calls.
+     */
+    private final transient Latency latency;
+
+    /**
+     * Share of calls throttled.
+     */
+    private final transient double throttled;
+
+    /**
+     * Share of transfers broken by connection resets.
+     */
+    private final transient double resets;
+
+    /**
+     * Share of reads ended prematurely.
+     */
+    private final transient double partial;
+
+    /**
+     * Source of randomness.
+     */
+    private final transient Random random;
+
+    /**
+     * Public ctor, for a backend with 20ms median latency, which throttles
+     * one call in a hundred and breaks one transfer in a thousand, with
+     * a fixed seed.
+     */
+    public Faults() {
+        this(
+            // @checkstyle MagicNumber (2 lines)
+            new Latency.LogNormal(Duration.ofMillis(20L), 0.5d),
+            0.01d, 0.001d, 0.001d, 0L
+        );
+    }
+
+    /**
+     * Public ctor, for a slow backend without failures.
+     * @param lat Latency of calls
+     * @param seed Seed of randomness
+     */
+    public Faults(final Latency lat, final long seed) {
+        this(lat, 0.0d, 0.0d, 0.0d, seed);
+    }
+
+    /**
+     * Public ctor.
+     * @param lat Latency of calls
+     * @param slowdown Share of calls failing with 503 SlowDown
+     * @param reset Share of transfers broken by connection resets
+     * @param premature Share of reads ended before all content is read
+     * @param seed Seed of randomness
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Faults(final Latency lat, final double slowdown,
+        final double reset, final double premature, final long seed) {
+        if (slowdown < 0.0d || reset < 0.0d || premature < 0.0d
+            || slowdown + reset + premature > 1.0d) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Shares %f, %f and %f can't be negative, or over 1 in sum",
+                    slowdown, reset, premature
+                )
+            );
+        }
+        this.latency = lat;
+        this.throttled = slowdown;
+        this.resets = reset;
+        this.partial = premature;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s, %.2f%% throttled, %.2f%% reset, %.2f%% partial",
+            this.latency,
+            // @checkstyle MagicNumber (3 lines)
+            this.throttled * 100.0d,
+            this.resets * 100.0d,
+            this.partial * 100.0d
+        );
+    }
+
+    /**
+     * Delay the call, and maybe throttle it.
+     * @param resource What is called, for the message
+     * @throws IOException If throttled
+     */
+    void call(final String resource) throws IOException {
+        this.delay();
+        if (this.random.nextDouble() < this.throttled) {
+            throw new IOException(
+                String.format("Injected throttling of '%s'", resource),
+                S3Exception.builder()
+                    // @checkstyle MagicNumber (1 line)
+                    .statusCode(503)
+                    .message(Faults.SLOW)
+                    .awsErrorDetails(
+                        AwsErrorDetails.builder()
+                            .errorCode("SlowDown")
+                            .errorMessage(Faults.SLOW)
+                            .serviceName("S3")
+                            .build()
+                    )
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * Delay loading of the next page of a listing, and maybe throttle
+     * or break it.
+     * @param resource What is listed, for the message
+     * @throws IOException If throttled or broken
+     */
+    void page(final String resource) throws IOException {
+        this.call(resource);
+        if (this.random.nextDouble() < this.resets) {
+            throw new SocketException(
+                String.format(
+                    "Injected connection reset while listing '%s'", resource
+                )
+            );
+        }
+    }
+
+    /**
+     * Deliver the content to the output, maybe breaking in the middle.
+     * @param resource What is read, for the message
+     * @param content The content
+     * @param output Where to deliver it
+     * @throws IOException If broken
+     */
+    void deliver(final String resource, final byte[] content,
+        final OutputStream output) throws IOException {
+        final double dice = this.random.nextDouble();
+        if (dice < this.resets + this.partial) {
+            final int sent = this.random.nextInt(content.length + 1);
+            output.write(content, 0, sent);
+            if (dice < this.resets) {
+                throw new SocketException(
+                    String.format(
+                        "Injected connection reset while reading '%s'",
+                        resource
+                    )
+                );
+            }
+            throw new EOFException(
+                String.format(
+                    "Injected premature end of '%s', %d of %d bytes read",
+                    resource, sent, content.length
+                )
+            );
+        }
+        output.write(content);
+    }
+
+    /**
+     * Take the content to write, maybe breaking before it's written.
+     * @param resource What is written, for the message
+     * @param input The content
+     * @return The same content, to write
+     * @throws IOException If broken
+     */
+    InputStream upload(final String resource, final InputStream input)
+        throws IOException {
+        if (this.random.nextDouble() < this.resets) {
+            IOUtils.consume(input);
+            throw new SocketException(
+                String.format(
+                    "Injected connection reset while writing '%s'", resource
+                )
+            );
+        }
+        return input;
+    }
+
+    /**
+     * Sleep for the next latency.
+     * @throws InterruptedIOException If interrupted
+     */
+    private void delay() throws InterruptedIOException {
+        final Duration pause = this.latency.next(this.random);
+        if (!pause.isZero() && !pause.isNegative()) {
+            try {
+                // @checkstyle MagicNumber (1 line)
+                Thread.sleep(pause.toMillis(), pause.toNanosPart() % 1_000_000);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException error =
+                    new InterruptedIOException(
+                        "Interrupted during injected latency"
+                    );
+                error.initCause(ex);
+                throw error;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Bucket that injects latency and failures into its calls.
+ *
+ * <p>Checking existence, removing and listing are delayed and may be
+ * throttled. While a listing is iterated, every next thousand of keys
+ * is a page, like S3 returns them: loading of it is delayed too, and may
+ * be throttled or broken by a connection reset, in which case
+ * the iterator throws {@link java.io.UncheckedIOException} and loads
+ * the same page again on the next call.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class FtBucket implements Bucket {
+
+    /**
+     * Keys in one page of a listing.
+     */
+    private static final int PAGE = 1000;
+
+    /**
+     * Original bucket.
+     */
+    private final transient Bucket origin;
+
+    /**
+     * Faults to inject.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     */
+    public FtBucket(final Bucket bkt) {
+        this(bkt, new Faults());
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     * @param flt Faults to inject
+     */
+    public FtBucket(final Bucket bkt, final Faults flt) {
+        this.origin = bkt;
+        this.faults = flt;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Region region() {
+        return new FtRegion(this.origin.region(), this.faults);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Ocket ocket(final String key) {
+        return new FtOcket(this.origin.ocket(key), this.faults);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        this.faults.call(this.origin.name());
+        return this.origin.exists();
+    }
+
+    @Override
+    public void remove(final String key) throws IOException {
+        this.faults.call(String.format("%s/%s", this.origin.name(), key));
+        this.origin.remove(key);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx) throws IOException {
+        final String resource = String.format(
+            "%s/%s", this.origin.name(), pfx
+        );
+        this.faults.call(resource);
+        return this.paged(this.origin.list(pfx), resource);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        final String resource = String.format(
+            "%s/%s", this.origin.name(), pfx
+        );
+        this.faults.call(resource);
+        return this.paged(this.origin.list(pfx, after), resource);
+    }
+
+    @Override
+    public int compareTo(final Bucket bkt) {
+        return this.origin.name().compareTo(bkt.name());
+    }
+
+    /**
+     * Inject faults into loading of next pages of the listing.
+     * @param list The listing
+     * @param resource What is listed, for the message
+     * @return The same listing, with faults
+     */
+    private Iterable<String> paged(final Iterable<String> list,
+        final String resource) {
+        final Faults flt = this.faults;
+        // @checkstyle AnonInnerLengthCheck (50 lines)
+        return new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<String>() {
+                    private final Iterator<String> iter = list.iterator();
+
+                    private int served;
+
+                    private int loaded = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        final boolean more = this.iter.hasNext();
+                        if (more
+                            && this.served >= this.loaded * FtBucket.PAGE) {
+                            try {
+                                flt.page(resource);
+                            } catch (final IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                            ++this.loaded;
+                        }
+                        return more;
+                    }
+
+                    @Override
+                    public String next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException(
+                                "There are no more keys in the listing"
+                            );
+                        }
+                        ++this.served;
+                        return this.iter.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        this.iter.remove();
+                    }
+                };
+            }
+        };
+    }
+}
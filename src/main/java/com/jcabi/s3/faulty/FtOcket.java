@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Ocket that injects latency and failures into its calls.
+ *
+ * <p>Every call is delayed and may be throttled. Reading may also break
+ * in the middle, after a part of the content is delivered to the output,
+ * that's why the content is read from the original ocket into memory
+ * first. Writing may break after the input is consumed, but before
+ * anything is written.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class FtOcket implements Ocket {
+
+    /**
+     * Original ocket.
+     */
+    private final transient Ocket origin;
+
+    /**
+     * Faults to inject.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     */
+    public FtOcket(final Ocket okt) {
+        this(okt, new Faults());
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     * @param flt Faults to inject
+     */
+    public FtOcket(final Ocket okt, final Faults flt) {
+        this.origin = okt;
+        this.faults = flt;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket() {
+        return new FtBucket(this.origin.bucket(), this.faults);
+    }
+
+    @Override
+    public String key() {
+        return this.origin.key();
+    }
+
+    @Override
+    public HeadObjectResponse meta() throws IOException {
+        this.faults.call(this.resource());
+        return this.origin.meta();
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        this.faults.call(this.resource());
+        return this.origin.exists();
+    }
+
+    @Override
+    public void read(final OutputStream output) throws IOException {
+        this.faults.call(this.resource());
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        this.origin.read(content);
+        this.faults.deliver(this.resource(), content.toByteArray(), output);
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        this.faults.call(this.resource());
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        this.origin.read(content, offset, length);
+        this.faults.deliver(this.resource(), content.toByteArray(), output);
+    }
+
+    @Override
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        this.faults.call(this.resource());
+        this.origin.write(this.faults.upload(this.resource(), input), meta);
+    }
+
+    @Override
+    public int compareTo(final Ocket okt) {
+        return this.origin.key().compareTo(okt.key());
+    }
+
+    /**
+     * Name of the object, for messages.
+     * @return Bucket and key
+     */
+    private String resource() {
+        return String.format(
+            "%s/%s", this.origin.bucket().name(), this.origin.key()
+        );
+    }
+}
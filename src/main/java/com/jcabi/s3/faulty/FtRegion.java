@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Region;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Region that injects latency and failures into calls to its buckets,
+ * usually a fake one, for experiments.
+ *
+ * <p>All buckets and ockets of the region share the same {@link Faults},
+ * so all random decisions come from the same seeded generator.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class FtRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * Faults to inject.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     */
+    public FtRegion(final Region reg) {
+        this(reg, new Faults());
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param flt Faults to inject
+     */
+    public FtRegion(final Region reg, final Faults flt) {
+        this.origin = reg;
+        this.faults = flt;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket(final String name) {
+        return new FtBucket(this.origin.bucket(name), this.faults);
+    }
+
+    @Override
+    public S3Client aws() {
+        return this.origin.aws();
+    }
+}
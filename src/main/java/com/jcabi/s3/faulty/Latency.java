@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribution of latencies of calls.
+ *
+ * <p>Latencies are drawn from the given source of randomness, so
+ * the same seed gives the same sequence of them. For example, calls
+ * taking 20ms in the median, with one call in a hundred taking
+ * a second or so:</p>
+ *
+ * <pre> Latency latency = new Latency.LongTail(
+ *   new Latency.LogNormal(Duration.ofMillis(20L), 0.5d),
+ *   0.01d,
+ *   new Latency.LogNormal(Duration.ofSeconds(1L), 0.3d)
+ * );</pre>
+ *
+ * @since 1.0
+ */
+public interface Latency {
+
+    /**
+     * Latency of the next call.
+     * @param random Source of randomness
+     * @return Latency
+     */
+    Duration next(Random random);
+
+    /**
+     * The same latency for every call.
+     *
+     * @since 1.0
+     */
+    final class Fixed implements Latency {
+
+        /**
+         * The latency.
+         */
+        private final transient Duration latency;
+
+        /**
+         * Public ctor.
+         * @param lat The latency
+         */
+        public Fixed(final Duration lat) {
+            if (lat.isNegative()) {
+                throw new IllegalArgumentException(
+                    String.format("Latency can't be negative: %s", lat)
+                );
+            }
+            this.latency = lat;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("fixed %dms", this.latency.toMillis());
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            return this.latency;
+        }
+    }
+
+    /**
+     * Log-normal distribution, which is typical for latencies of network
+     * services: most calls are close to the median, a few are much slower.
+     *
+     * @since 1.0
+     */
+    final class LogNormal implements Latency {
+
+        /**
+         * Median, in nanoseconds.
+         */
+        private final transient double median;
+
+        /**
+         * Standard deviation of the logarithm.
+         */
+        private final transient double sigma;
+
+        /**
+         * Public ctor.
+         * @param med Median latency
+         * @param sgm Standard deviation of the logarithm of latency,
+         *  for example 0.5, the bigger the wider
+         */
+        public LogNormal(final Duration med, final double sgm) {
+            if (med.isNegative() || sgm < 0.0d) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Median %s and sigma %f can't be negative", med, sgm
+                    )
+                );
+            }
+            this.median = (double) med.toNanos();
+            this.sigma = sgm;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "log-normal %.0fms median, sigma=%.2f",
+                // @checkstyle MagicNumber (1 line)
+                this.median / 1.0e6d, this.sigma
+            );
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            return Duration.ofNanos(
+                (long) (
+                    this.median * Math.exp(this.sigma * random.nextGaussian())
+                )
+            );
+        }
+    }
+
+    /**
+     * Mix of two distributions, where a small share of calls takes
+     * latencies from the slow tail.
+     *
+     * @since 1.0
+     */
+    final class LongTail implements Latency {
+
+        /**
+         * Latency of most calls.
+         */
+        private final transient Latency body;
+
+        /**
+         * Share of slow calls, between 0 and 1.
+         */
+        private final transient double share;
+
+        /**
+         * Latency of slow calls.
+         */
+        private final transient Latency tail;
+
+        /**
+         * Public ctor.
+         * @param usual Latency of most calls
+         * @param rate Share of slow calls, between 0 and 1
+         * @param slow Latency of slow calls
+         */
+        public LongTail(final Latency usual, final double rate,
+            final Latency slow) {
+            if (rate < 0.0d || rate > 1.0d) {
+                throw new IllegalArgumentException(
+                    String.format("Share must be between 0 and 1: %f", rate)
+                );
+            }
+            this.body = usual;
+            this.share = rate;
+            this.tail = slow;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s, %.2f%% of %s",
+                // @checkstyle MagicNumber (1 line)
+                this.body, this.share * 100.0d, this.tail
+            );
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            final Duration next;
+            if (random.nextDouble() < this.share) {
+                next = this.tail.next(random);
+            } else {
+                next = this.body.next(random);
+            }
+            return next;
+        }
+    }
+}
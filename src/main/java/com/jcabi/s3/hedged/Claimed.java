@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import org.apache.commons.io.output.ProxyOutputStream;
+
+/**
+ * Output stream shared by racing readings, which belongs to the one
+ * whose first byte arrives first.
+ *
+ * <p>Any other reading fails on its first byte with {@link Claimed.Lost},
+ * which aborts its transfer.</p>
+ *
+ * @since 1.0
+ */
+final class Claimed extends ProxyOutputStream {
+
+    /**
+     * Number of the reading which owns the stream, or -1.
+     */
+    private final transient AtomicInteger owner;
+
+    /**
+     * Number of this reading.
+     */
+    private final transient int attempt;
+
+    /**
+     * Where to report the latency of the first byte.
+     */
+    private final transient LongConsumer latency;
+
+    /**
+     * When the reading started, in nanoseconds.
+     */
+    private final transient long start;
+
+    /**
+     * Ctor.
+     * @param output Original stream
+     * @param own Number of the reading which owns it, shared by readings
+     * @param number Number of this reading
+     * @param report Where to report the latency of the first byte
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Claimed(final OutputStream output, final AtomicInteger own,
+        final int number, final LongConsumer report) {
+        super(output);
+        this.owner = own;
+        this.attempt = number;
+        this.latency = report;
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    protected void beforeWrite(final int len) throws IOException {
+        if (this.owner.compareAndSet(-1, this.attempt)) {
+            this.latency.accept(System.nanoTime() - this.start);
+        } else if (this.owner.get() != this.attempt) {
+            throw new Claimed.Lost();
+        }
+    }
+
+    /**
+     * The other reading was faster.
+     *
+     * @since 1.0
+     */
+    static final class Lost extends IOException {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = -6480175322894036149L;
+
+        /**
+         * Ctor.
+         */
+        Lost() {
+            super("Another reading was faster");
+        }
+    }
+}
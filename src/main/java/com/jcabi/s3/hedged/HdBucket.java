@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Bucket that hedges slow reads of its ockets.
+ *
+ * <p>Only ockets are hedged, removing and listing go straight
+ * to the original bucket.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class HdBucket implements Bucket {
+
+    /**
+     * Original bucket.
+     */
+    private final transient Bucket origin;
+
+    /**
+     * Policy of hedging.
+     */
+    private final transient Hedge hedge;
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     */
+    public HdBucket(final Bucket bkt) {
+        this(bkt, new Hedge());
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     * @param hdg Policy of hedging
+     */
+    public HdBucket(final Bucket bkt, final Hedge hdg) {
+        this.origin = bkt;
+        this.hedge = hdg;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Region region() {
+        return new HdRegion(this.origin.region(), this.hedge);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Ocket ocket(final String key) {
+        return new HdOcket(this.origin.ocket(key), this.hedge);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.origin.exists();
+    }
+
+    @Override
+    public void remove(final String key) throws IOException {
+        this.origin.remove(key);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx) throws IOException {
+        return this.origin.list(pfx);
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        return this.origin.list(pfx, after);
+    }
+
+    @Override
+    public int compareTo(final Bucket bkt) {
+        return this.origin.name().compareTo(bkt.name());
+    }
+}
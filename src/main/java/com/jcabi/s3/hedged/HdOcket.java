@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Ocket that sends a duplicate read or HEAD request, when the first
+ * one is slow, and uses whichever answers first.
+ *
+ * <p>Both requests are made in background threads of the {@link Hedge},
+ * while the caller waits. A read is answered by its first byte, and only
+ * the winner writes to the output. Writing is never hedged, since it's
+ * not idempotent for the caller's input stream.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class HdOcket implements Ocket {
+
+    /**
+     * Original ocket.
+     */
+    private final transient Ocket origin;
+
+    /**
+     * Policy of hedging.
+     */
+    private final transient Hedge hedge;
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     */
+    public HdOcket(final Ocket okt) {
+        this(okt, new Hedge());
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     * @param hdg Policy of hedging
+     */
+    public HdOcket(final Ocket okt, final Hedge hdg) {
+        this.origin = okt;
+        this.hedge = hdg;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket() {
+        return new HdBucket(this.origin.bucket(), this.hedge);
+    }
+
+    @Override
+    public String key() {
+        return this.origin.key();
+    }
+
+    @Override
+    public HeadObjectResponse meta() throws IOException {
+        return this.hedge.call(this.origin::meta);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.hedge.call(this.origin::exists);
+    }
+
+    @Override
+    public void read(final OutputStream output) throws IOException {
+        this.hedge.read(output, this.origin::read);
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        this.hedge.read(
+            output, out -> this.origin.read(out, offset, length)
+        );
+    }
+
+    @Override
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        this.origin.write(input, meta);
+    }
+
+    @Override
+    public int compareTo(final Ocket okt) {
+        return this.origin.key().compareTo(okt.key());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Region;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Region that hedges slow reads of its ockets.
+ *
+ * <p>All buckets and ockets of the region share the same {@link Hedge},
+ * with its learned latencies and its limit of hedges.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class HdRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * Policy of hedging.
+     */
+    private final transient Hedge hedge;
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     */
+    public HdRegion(final Region reg) {
+        this(reg, new Hedge());
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param hdg Policy of hedging
+     */
+    public HdRegion(final Region reg, final Hedge hdg) {
+        this.origin = reg;
+        this.hedge = hdg;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket(final String name) {
+        return new HdBucket(this.origin.bucket(name), this.hedge);
+    }
+
+    @Override
+    public S3Client aws() {
+        return this.origin.aws();
+    }
+}
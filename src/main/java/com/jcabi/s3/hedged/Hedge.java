@@ -0,0 +1,413 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.s3.Deadline;
+import com.jcabi.s3.Version;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Policy of hedging, shared by all hedging decorators it is given to.
+ *
+ * <p>When a call doesn't answer within the delay, the same call is sent
+ * once again, and whichever of them answers first wins, while the other
+ * one is cancelled. The delay is either fixed, or learned: the 95th
+ * percentile of the latest latencies, so only the slowest 5% of calls
+ * are hedged. In order not to overload a struggling backend, hedges
+ * are limited to the given share of all calls, for example 5%, with
+ * a small reserve for bursts:</p>
+ *
+ * <pre> Region region = new HdRegion(
+ *   new Region.Simple(key, secret),
+ *   new Hedge(Duration.ofMillis(200L), 0.02d, true)
+ * );</pre>
+ *
+ * <p>A read is answered when its first byte arrives, so a read which
+ * is slow, but already streaming, is not hedged. The winner writes
+ * its content straight to the output, while the loser fails on its first
+ * byte, which aborts its transfer. Thus, the content is neither buffered
+ * nor written twice.</p>
+ *
+ * <p>Calls are made in daemon threads shared by all hedges, within
+ * the {@link Deadline} and the {@link Version} of the caller.</p>
+ *
+ * @since 1.0
+ */
+public final class Hedge {
+
+    /**
+     * How many units make one hedge.
+     */
+    private static final long UNIT = 1000L;
+
+    /**
+     * Maximum number of hedges in reserve.
+     */
+    private static final long RESERVE = 10L * Hedge.UNIT;
+
+    /**
+     * Threads making the calls, shared by all hedges.
+     *
+     * <p>They are daemons and die when idle for a minute, so the pool
+     * never needs to be shut down.</p>
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jcabi-s3-hedge-%d")
+                .build()
+        );
+
+    /**
+     * The delay, fixed or initial, in nanoseconds.
+     */
+    private final transient long delay;
+
+    /**
+     * How many units one call adds.
+     */
+    private final transient long deposit;
+
+    /**
+     * Learn the delay from latencies of calls.
+     */
+    private final transient boolean learn;
+
+    /**
+     * Latencies of calls.
+     */
+    private final transient Latencies latencies;
+
+    /**
+     * Units available for hedges.
+     */
+    private final transient AtomicLong units;
+
+    /**
+     * Public ctor, which hedges the slowest 5% of calls, but no more
+     * than 5% of all calls, with 100ms delay until enough
+     * latencies are known.
+     */
+    public Hedge() {
+        // @checkstyle MagicNumber (1 line)
+        this(Duration.ofMillis(100L), 0.05d, true);
+    }
+
+    /**
+     * Public ctor, which hedges calls after the fixed delay, but no more
+     * than 5% of them.
+     * @param pause The delay
+     */
+    public Hedge(final Duration pause) {
+        // @checkstyle MagicNumber (1 line)
+        this(pause, 0.05d, false);
+    }
+
+    /**
+     * Public ctor.
+     * @param pause The delay, fixed, or initial, if it's learned
+     * @param rate Maximum share of calls to hedge, for example 0.05 for 5%
+     * @param learned Use the 95th percentile of the latest latencies as
+     *  the delay, when enough of them are known
+     */
+    public Hedge(final Duration pause, final double rate,
+        final boolean learned) {
+        if (rate < 0.0d) {
+            throw new IllegalArgumentException(
+                String.format("Rate can't be negative: %f", rate)
+            );
+        }
+        this.delay = pause.toNanos();
+        this.deposit = (long) (rate * Hedge.UNIT);
+        this.learn = learned;
+        // @checkstyle MagicNumber (1 line)
+        this.latencies = new Latencies(1000, 0.95d);
+        this.units = new AtomicLong(Hedge.RESERVE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "hedge after %dms, %s",
+            // @checkstyle MagicNumber (1 line)
+            this.delay() / 1_000_000L, this.latencies
+        );
+    }
+
+    /**
+     * Make the call, hedging it if it's slow.
+     * @param action The call
+     * @param <T> Type of result
+     * @return Result of the call which answered first
+     * @throws IOException If both calls fail
+     */
+    <T> T call(final Hedge.Action<T> action) throws IOException {
+        return this.race(
+            attempt -> () -> {
+                final long start = System.nanoTime();
+                final T result = action.exec();
+                this.latencies.add(System.nanoTime() - start);
+                return result;
+            },
+            () -> true,
+            attempt -> false
+        );
+    }
+
+    /**
+     * Read, hedging the reading if its first byte is late.
+     * @param output Where to write the content
+     * @param reading The reading
+     * @throws IOException If fails
+     */
+    void read(final OutputStream output, final Hedge.Reading reading)
+        throws IOException {
+        final AtomicInteger owner = new AtomicInteger(-1);
+        this.race(
+            attempt -> () -> {
+                reading.read(
+                    new Claimed(output, owner, attempt, this.latencies::add)
+                );
+                return Boolean.TRUE;
+            },
+            () -> owner.get() < 0,
+            attempt -> owner.get() == attempt
+        );
+    }
+
+    /**
+     * Run the first attempt, and the second one if the first is late.
+     * @param attempts Attempts, by their numbers
+     * @param late Is the first attempt still not answered, when
+     *  the delay is over
+     * @param last Is the failure of this attempt final, even if
+     *  the other one is still running
+     * @param <T> Type of result
+     * @return Result of the attempt which succeeded first
+     * @throws IOException If all attempts fail
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> T race(final IntFunction<Hedge.Action<T>> attempts,
+        final BooleanSupplier late, final IntPredicate last)
+        throws IOException {
+        final CompletionService<T> service =
+            new ExecutorCompletionService<>(Hedge.THREADS);
+        final List<Future<T>> futures = new ArrayList<>(2);
+        final long start = System.nanoTime();
+        final Hedge.Scope scope = new Hedge.Scope(
+            start, new Deadline.Current().remaining(),
+            new Version.Current().version()
+        );
+        futures.add(Hedge.submit(service, attempts.apply(0), scope));
+        this.units.accumulateAndGet(
+            this.deposit,
+            (now, add) -> Math.min(Hedge.RESERVE, now + add)
+        );
+        try {
+            Future<T> done = service.poll(this.delay(), TimeUnit.NANOSECONDS);
+            if (done == null && late.getAsBoolean() && this.withdraw()) {
+                futures.add(Hedge.submit(service, attempts.apply(1), scope));
+            }
+            int pending = futures.size();
+            Throwable error = null;
+            T result = null;
+            boolean success = false;
+            while (!success && pending > 0) {
+                if (done == null) {
+                    done = service.take();
+                }
+                --pending;
+                try {
+                    result = done.get();
+                    success = true;
+                } catch (final ExecutionException ex) {
+                    if (last.test(futures.indexOf(done))) {
+                        error = ex.getCause();
+                        pending = 0;
+                    } else if (error == null
+                        && !(ex.getCause() instanceof Claimed.Lost)) {
+                        error = ex.getCause();
+                    }
+                }
+                done = null;
+            }
+            if (!success) {
+                throw Hedge.rethrow(error);
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        } finally {
+            for (final Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Current delay.
+     * @return Nanoseconds
+     */
+    private long delay() {
+        long nanos = this.delay;
+        if (this.learn) {
+            nanos = this.latencies.percentile(nanos);
+        }
+        return nanos;
+    }
+
+    /**
+     * Take one hedge from the reserve, if it's there.
+     * @return TRUE if the hedge is allowed
+     */
+    private boolean withdraw() {
+        return this.units.getAndUpdate(
+            now -> {
+                long left = now;
+                if (now >= Hedge.UNIT) {
+                    left = now - Hedge.UNIT;
+                }
+                return left;
+            }
+        ) >= Hedge.UNIT;
+    }
+
+    /**
+     * Submit the attempt, within the scope of the caller.
+     * @param service Where to submit
+     * @param action The attempt
+     * @param scope Scope of the caller
+     * @param <T> Type of result
+     * @return Its future
+     */
+    private static <T> Future<T> submit(final CompletionService<T> service,
+        final Hedge.Action<T> action, final Hedge.Scope scope) {
+        return service.submit(
+            () -> {
+                try (Version version = new Version(scope.version)) {
+                    final T result;
+                    if (scope.left.isPresent()) {
+                        try (Deadline deadline = new Deadline(
+                            scope.left.get().minusNanos(
+                                System.nanoTime() - scope.start
+                            )
+                        )) {
+                            result = action.exec();
+                        }
+                    } else {
+                        result = action.exec();
+                    }
+                    return result;
+                }
+            }
+        );
+    }
+
+    /**
+     * Exception to throw, when all attempts failed.
+     * @param error The first failure
+     * @return Exception
+     */
+    private static IOException rethrow(final Throwable error) {
+        final IOException exception;
+        if (error instanceof IOException) {
+            exception = (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else {
+            exception = new IOException(error);
+        }
+        return exception;
+    }
+
+    /**
+     * Scope of the caller, which attempts are made in: its
+     * {@link Deadline} and {@link Version}, if there are any.
+     *
+     * @since 1.0
+     */
+    private static final class Scope {
+        /**
+         * When the caller started the race, in nanoseconds.
+         */
+        private final long start;
+
+        /**
+         * Time the caller had left at the start, if any.
+         */
+        private final Optional<Duration> left;
+
+        /**
+         * Version of the caller, if any.
+         */
+        private final Optional<Version> version;
+
+        /**
+         * Ctor.
+         * @param when When the caller started the race, in nanoseconds
+         * @param time Time the caller had left at the start, if any
+         * @param pinned Version of the caller, if any
+         */
+        Scope(final long when, final Optional<Duration> time,
+            final Optional<Version> pinned) {
+            this.start = when;
+            this.left = time;
+            this.version = pinned;
+        }
+    }
+
+    /**
+     * Call to hedge.
+     *
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Action<T> {
+        /**
+         * Execute it.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T exec() throws IOException;
+    }
+
+    /**
+     * Reading to hedge.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Reading {
+        /**
+         * Read the content.
+         * @param output Where to write it
+         * @throws IOException If fails
+         */
+        void read(OutputStream output) throws IOException;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the latest calls, and their percentile.
+ *
+ * <p>The percentile is recalculated after every few new latencies,
+ * not on every request for it, since sorting is not cheap.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Latencies {
+
+    /**
+     * How many new latencies make the percentile stale.
+     */
+    private static final int STALE = 32;
+
+    /**
+     * Latest latencies, in nanoseconds.
+     */
+    private final transient long[] ring;
+
+    /**
+     * The percentile to calculate, between zero and one.
+     */
+    private final transient double rank;
+
+    /**
+     * Position of the next latency in the ring.
+     */
+    private transient int cursor;
+
+    /**
+     * Number of latencies in the ring.
+     */
+    private transient int size;
+
+    /**
+     * Number of latencies added since the last calculation.
+     */
+    private transient int fresh;
+
+    /**
+     * The percentile, calculated last time.
+     */
+    private transient long value;
+
+    /**
+     * Ctor.
+     * @param window How many latest latencies to remember
+     * @param pct The percentile to calculate, between zero and one
+     */
+    Latencies(final int window, final double pct) {
+        this.ring = new long[window];
+        this.rank = pct;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(
+            "%.0f%% of %d calls under %dms",
+            // @checkstyle MagicNumber (1 line)
+            this.rank * 100.0d, this.size, this.value / 1_000_000L
+        );
+    }
+
+    /**
+     * Add the latency of a call.
+     * @param nanos Latency, in nanoseconds
+     */
+    synchronized void add(final long nanos) {
+        this.ring[this.cursor] = nanos;
+        this.cursor = (this.cursor + 1) % this.ring.length;
+        if (this.size < this.ring.length) {
+            ++this.size;
+        }
+        ++this.fresh;
+    }
+
+    /**
+     * The percentile, or the default, if there are too few latencies yet.
+     * @param dflt The default, in nanoseconds
+     * @return The percentile, in nanoseconds
+     */
+    synchronized long percentile(final long dflt) {
+        long pct = dflt;
+        if (this.size >= Math.min(Latencies.STALE, this.ring.length)) {
+            if (this.fresh >= Latencies.STALE || this.value == 0L) {
+                final long[] sorted = Arrays.copyOf(this.ring, this.size);
+                Arrays.sort(sorted);
+                this.value = sorted[
+                    Math.max(0, (int) Math.ceil(this.rank * this.size) - 1)
+                ];
+                this.fresh = 0;
+            }
+            pct = this.value;
+        }
+        return pct;
+    }
+
+}
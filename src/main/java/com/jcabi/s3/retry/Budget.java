@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget of retries, shared by all calls of one {@link Policy}.
+ *
+ * <p>It is a token bucket: every successful call adds a fraction of
+ * a token to it, while every retry takes one whole token away. When
+ * the bucket is empty, failed calls are not retried any more and fail
+ * immediately. Thus, retries never exceed the given share of recent
+ * successful calls, and a struggling backend doesn't get even more
+ * load during an outage. The bucket is never filled above its capacity,
+ * which is also its initial level, so old successes don't pay for
+ * retries forever:</p>
+ *
+ * <pre> Region region = new ReRegion(
+ *   new Region.Simple(key, secret),
+ *   new Policy(
+ *     3, Duration.ofMillis(50L), Duration.ofSeconds(5L),
+ *     Policy.Jitter.FULL, Duration.ZERO, new Budget(0.2d, 50)
+ *   )
+ * );</pre>
+ *
+ * @since 1.0
+ */
+public final class Budget {
+
+    /**
+     * How many units make one token.
+     */
+    private static final long UNIT = 1000L;
+
+    /**
+     * How many units one success adds.
+     */
+    private final transient long deposit;
+
+    /**
+     * Maximum number of units.
+     */
+    private final transient long capacity;
+
+    /**
+     * Units available.
+     */
+    private final transient AtomicLong units;
+
+    /**
+     * Public ctor, for retries up to 10% of successful calls, with
+     * ten retries at most in reserve.
+     */
+    public Budget() {
+        // @checkstyle MagicNumber (1 line)
+        this(0.1d, 10);
+    }
+
+    /**
+     * Public ctor.
+     * @param ratio How many retries are allowed per one successful call,
+     *  for example 0.1 for 10%
+     * @param max Maximum number of retries in reserve
+     */
+    public Budget(final double ratio, final int max) {
+        if (ratio < 0.0d) {
+            throw new IllegalArgumentException(
+                String.format("Ratio can't be negative: %f", ratio)
+            );
+        }
+        this.deposit = (long) (ratio * Budget.UNIT);
+        this.capacity = max * Budget.UNIT;
+        this.units = new AtomicLong(this.capacity);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%.1f of %d retries available",
+            (double) this.units.get() / Budget.UNIT,
+            this.capacity / Budget.UNIT
+        );
+    }
+
+    /**
+     * Register one successful call.
+     */
+    void success() {
+        this.units.accumulateAndGet(
+            this.deposit, (now, add) -> Math.min(this.capacity, now + add)
+        );
+    }
+
+    /**
+     * Take one retry from the budget, if it's there.
+     * @return TRUE if the retry is allowed
+     */
+    boolean withdraw() {
+        return this.units.getAndUpdate(
+            now -> {
+                long left = now;
+                if (now >= Budget.UNIT) {
+                    left = now - Budget.UNIT;
+                }
+                return left;
+            }
+        ) >= Budget.UNIT;
+    }
+
+}
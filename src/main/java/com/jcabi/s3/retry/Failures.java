@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Classification of failures, into retryable and terminal ones.
+ *
+ * <p>Throttling, server errors of S3, connection resets and timeouts
+ * are retryable, since the next attempt will most probably succeed.
+ * Missing objects, denied access, invalid requests and other client
+ * errors are terminal, retrying them only adds latency. The chain
+ * of causes is inspected, so, for example, {@link OcketNotFoundException}
+ * caused by a 503 from S3 is still retryable.</p>
+ *
+ * @since 1.0
+ */
+@Immutable
+final class Failures {
+
+    /**
+     * Codes of S3 errors which are worth retrying, even though
+     * their HTTP statuses are below 500.
+     */
+    private static final Collection<String> CODES = new HashSet<>(
+        Arrays.asList(
+            "SlowDown", "Throttling", "ThrottlingException",
+            "RequestTimeout", "RequestTimeTooSkewed", "InternalError"
+        )
+    );
+
+    @Override
+    public String toString() {
+        return "retryable failures";
+    }
+
+    /**
+     * Is it worth retrying after this failure?
+     * @param error The failure
+     * @return TRUE if the next attempt may succeed
+     */
+    boolean retryable(final Throwable error) {
+        Optional<Boolean> verdict = Optional.empty();
+        Throwable cause = error;
+        while (!verdict.isPresent() && cause != null) {
+            verdict = Failures.verdict(cause);
+            cause = cause.getCause();
+        }
+        return verdict.orElseGet(() -> Failures.unknown(error));
+    }
+
+    /**
+     * Verdict about one exception of the chain, if it is known.
+     * @param error The exception
+     * @return TRUE if retryable, FALSE if terminal, nothing if unknown
+     */
+    private static Optional<Boolean> verdict(final Throwable error) {
+        final Optional<Boolean> verdict;
+        if (error instanceof Modified) {
+            verdict = Optional.of(false);
+        } else if (error instanceof AwsServiceException) {
+            verdict = Optional.of(
+                Failures.retryable((AwsServiceException) error)
+            );
+        } else if (error instanceof SdkClientException
+            || error instanceof SocketException
+            || error instanceof SocketTimeoutException
+            || error instanceof EOFException) {
+            verdict = Optional.of(true);
+        } else {
+            verdict = Optional.empty();
+        }
+        return verdict;
+    }
+
+    /**
+     * Is it worth retrying after this error of S3?
+     * @param error The error
+     * @return TRUE if it's throttling or a server error
+     */
+    private static boolean retryable(final AwsServiceException error) {
+        // @checkstyle MagicNumber (1 line)
+        return error.statusCode() >= 500
+            || error.isThrottlingException()
+            || error.awsErrorDetails() != null
+            && Failures.CODES.contains(error.awsErrorDetails().errorCode());
+    }
+
+    /**
+     * Is it worth retrying after a failure without known causes?
+     *
+     * <p>I/O problems are retryable, unless the object is not found or
+     * the thread is interrupted. Runtime exceptions are bugs or invalid
+     * arguments, they are terminal.</p>
+     *
+     * @param error The failure
+     * @return TRUE if retryable
+     */
+    private static boolean unknown(final Throwable error) {
+        Throwable cause = error;
+        while (cause != null && !(cause instanceof IOException)) {
+            cause = cause.getCause();
+        }
+        return cause != null
+            && !(cause instanceof OcketNotFoundException)
+            && !(cause instanceof InterruptedIOException);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import java.io.IOException;
+
+/**
+ * When the object was modified in the middle of reading, and
+ * the reading can't be resumed.
+ *
+ * <p>It is terminal, see {@link Failures}: no further attempts will help,
+ * since the part of the old version was already written.</p>
+ *
+ * @since 1.0
+ */
+final class Modified extends IOException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 4171845211453318520L;
+
+    /**
+     * Ctor.
+     * @param msg Message to show
+     */
+    Modified(final String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.log.Logger;
+import com.jcabi.s3.Attempts;
+import com.jcabi.s3.Deadline;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Policy of retrying, with exponential backoff and jitter.
+ *
+ * <p>Every failed attempt is followed by a pause, which grows
+ * exponentially with the number of attempts, up to the maximum delay,
+ * and is randomized, in order not to let many threads retry
+ * in lockstep and make throttling of S3 even worse. Two kinds
+ * of randomization are supported, see {@link Policy.Jitter}. All
+ * attempts together, including pauses, never take longer than
+ * the deadline, if it's set, and an attempt is not made if it doesn't fit
+ * into the {@link Deadline} of the current thread, judging by
+ * the duration of the previous one. Only transient failures are retried,
+ * like throttling, server errors and connection resets, while missing
+ * objects and other client errors fail immediately. Retries are also
+ * limited by the {@link Budget}, shared by all calls made with the same
+ * policy, so during an outage they don't multiply the load. The policy
+ * also retries parts of multipart uploads, given to them through
+ * {@link com.jcabi.s3.Parts}:</p>
+ *
+ * <pre> Region region = new ReRegion(
+ *   new Region.Simple(key, secret),
+ *   new Policy(
+ *     5, Duration.ofMillis(100L), Duration.ofSeconds(5L),
+ *     Policy.Jitter.DECORRELATED, Duration.ofSeconds(30L)
+ *   )
+ * );</pre>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(exclude = "budget")
+public final class Policy implements Attempts {
+
+    /**
+     * Classification of failures.
+     */
+    private static final Failures FAILURES = new Failures();
+
+    /**
+     * Default policy, shared by decorators made without a policy.
+     */
+    static final Policy SHARED = new Policy();
+
+    /**
+     * Maximum number of attempts, including the first one.
+     */
+    private final transient int attempts;
+
+    /**
+     * Base delay, in milliseconds.
+     */
+    private final transient long base;
+
+    /**
+     * Maximum delay, in milliseconds.
+     */
+    private final transient long max;
+
+    /**
+     * Randomization of delays.
+     */
+    private final transient Policy.Jitter jitter;
+
+    /**
+     * Maximum total time of all attempts, in milliseconds, or zero.
+     */
+    private final transient long deadline;
+
+    /**
+     * Budget of retries.
+     */
+    private final transient Budget budget;
+
+    /**
+     * Public ctor, with three attempts, 50ms base delay and full jitter.
+     */
+    public Policy() {
+        // @checkstyle MagicNumber (1 line)
+        this(3, Duration.ofMillis(50L), Duration.ofSeconds(5L));
+    }
+
+    /**
+     * Public ctor, with full jitter and no deadline.
+     * @param total Maximum number of attempts, including the first one
+     * @param delay Base delay
+     * @param longest Maximum delay
+     */
+    public Policy(final int total, final Duration delay,
+        final Duration longest) {
+        this(total, delay, longest, Policy.Jitter.FULL, Duration.ZERO);
+    }
+
+    /**
+     * Public ctor.
+     * @param total Maximum number of attempts, including the first one
+     * @param delay Base delay
+     * @param longest Maximum delay
+     * @param rnd Randomization of delays
+     * @param limit Maximum total time of all attempts, zero for no limit
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Policy(final int total, final Duration delay,
+        final Duration longest, final Policy.Jitter rnd,
+        final Duration limit) {
+        this(total, delay, longest, rnd, limit, new Budget());
+    }
+
+    /**
+     * Public ctor.
+     * @param total Maximum number of attempts, including the first one
+     * @param delay Base delay
+     * @param longest Maximum delay
+     * @param rnd Randomization of delays
+     * @param limit Maximum total time of all attempts, zero for no limit
+     * @param retries Budget of retries
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Policy(final int total, final Duration delay,
+        final Duration longest, final Policy.Jitter rnd,
+        final Duration limit, final Budget retries) {
+        if (total < 1) {
+            throw new IllegalArgumentException(
+                String.format("At least one attempt is required: %d", total)
+            );
+        }
+        this.attempts = total;
+        this.base = delay.toMillis();
+        this.max = Math.max(longest.toMillis(), this.base);
+        this.jitter = rnd;
+        this.deadline = limit.toMillis();
+        this.budget = retries;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d attempts, %dms..%dms, %s jitter, %dms deadline, %s",
+            this.attempts, this.base, this.max, this.jitter, this.deadline,
+            this.budget
+        );
+    }
+
+    @Override
+    public <T> T call(final Attempts.Action<T> action) throws IOException {
+        final long start = System.nanoTime();
+        long sleep = this.base;
+        int attempt = 0;
+        boolean done = false;
+        T result = null;
+        while (!done) {
+            final long attempted = System.nanoTime();
+            try {
+                result = action.exec();
+                this.budget.success();
+                done = true;
+            } catch (final IOException | RuntimeException ex) {
+                ++attempt;
+                sleep = this.delay(attempt, sleep);
+                if (attempt >= this.attempts
+                    || !Policy.FAILURES.retryable(ex)
+                    || this.expired(start, sleep)
+                    || !Policy.fits(sleep, attempted)) {
+                    throw ex;
+                }
+                if (!this.budget.withdraw()) {
+                    Logger.warn(
+                        this, "Budget of retries is exhausted, giving up: %s",
+                        ex.getMessage()
+                    );
+                    throw ex;
+                }
+                Logger.warn(
+                    this, "Attempt #%d of %d failed, retrying in %dms: %s",
+                    attempt, this.attempts, sleep, ex.getMessage()
+                );
+                Policy.pause(sleep);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run the task, retrying it if it fails.
+     * @param task The task
+     * @throws IOException If all attempts fail or the failure is terminal
+     */
+    public void run(final Policy.Task task) throws IOException {
+        this.call(
+            () -> {
+                task.exec();
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    /**
+     * Delay before the next attempt.
+     * @param attempt How many attempts failed so far
+     * @param previous Previous delay, in milliseconds
+     * @return Delay, in milliseconds
+     */
+    long delay(final int attempt, final long previous) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long delay;
+        // @checkstyle MagicNumber (10 lines)
+        if (this.jitter == Policy.Jitter.DECORRELATED) {
+            delay = Math.min(
+                this.max,
+                random.nextLong(
+                    this.base, Math.max(this.base, previous) * 3L + 1L
+                )
+            );
+        } else {
+            final long ceiling = Math.min(
+                this.max, this.base << Math.min(attempt - 1, 30)
+            );
+            delay = random.nextLong(ceiling + 1L);
+        }
+        return delay;
+    }
+
+    /**
+     * Will the deadline pass after this delay?
+     * @param start When the first attempt started, in nanoseconds
+     * @param sleep The delay, in milliseconds
+     * @return TRUE if there is no time for one more attempt
+     */
+    private boolean expired(final long start, final long sleep) {
+        return this.deadline > 0L
+            && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                + sleep >= this.deadline;
+    }
+
+    /**
+     * Does one more attempt fit into the {@link Deadline} of the thread?
+     * @param sleep The delay before it, in milliseconds
+     * @param attempted When the previous attempt started, in nanoseconds
+     * @return TRUE if it fits, or there is no deadline
+     */
+    private static boolean fits(final long sleep, final long attempted) {
+        final long took = TimeUnit.NANOSECONDS.toMillis(
+            System.nanoTime() - attempted
+        );
+        return new Deadline.Current().remaining()
+            .map(left -> left.toMillis() > sleep + took)
+            .orElse(true);
+    }
+
+    /**
+     * Sleep.
+     * @param millis How long, in milliseconds
+     * @throws InterruptedIOException If interrupted
+     */
+    private static void pause(final long millis)
+        throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                "Interrupted while waiting for the next attempt"
+            );
+        }
+    }
+
+    /**
+     * Randomization of delays between attempts.
+     *
+     * @since 1.0
+     */
+    public enum Jitter {
+        /**
+         * Random delay between zero and the exponentially growing ceiling.
+         */
+        FULL,
+
+        /**
+         * Random delay between the base one and three times the previous
+         * one, so delays of different threads drift apart quickly.
+         */
+        DECORRELATED
+    }
+
+    /**
+     * Task to retry, without result.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Execute it.
+         * @throws IOException If fails
+         */
+        void exec() throws IOException;
+    }
+
+}
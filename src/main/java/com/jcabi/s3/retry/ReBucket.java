@@ -4,22 +4,23 @@
  */
 package com.jcabi.s3.retry;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.s3.Attempts;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.Region;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import lombok.EqualsAndHashCode;
 
 /**
- * Region that retries a few times before giving up.
+ * Bucket that retries a few times before giving up.
+ *
+ * <p>The bucket and its ockets share one {@link Policy}.</p>
  *
  * @since 0.5
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class ReBucket implements Bucket {
@@ -30,11 +31,27 @@ public final class ReBucket implements Bucket {
     private final transient Bucket origin;
 
     /**
-     * Public ctor.
+     * Policy of retrying.
+     */
+    private final transient Policy policy;
+
+    /**
+     * Public ctor, with the default policy, shared by all decorators.
      * @param bkt Bucket we're in
      */
     public ReBucket(final Bucket bkt) {
+        this(bkt, Policy.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     * @param plc Policy of retrying
+     * @since 1.0
+     */
+    public ReBucket(final Bucket bkt, final Policy plc) {
         this.origin = bkt;
+        this.policy = plc;
     }
 
     @Override
@@ -44,7 +61,7 @@ public final class ReBucket implements Bucket {
 
     @Override
     public Region region() {
-        return new ReRegion(this.origin.region());
+        return new ReRegion(this.origin.region(), this.policy);
     }
 
     @Override
@@ -54,7 +71,7 @@ public final class ReBucket implements Bucket {
 
     @Override
     public Ocket ocket(final String key) {
-        return new ReOcket(this.origin.ocket(key));
+        return new ReOcket(this.origin.ocket(key), this.policy);
     }
 
     @Override
@@ -63,40 +80,87 @@ public final class ReBucket implements Bucket {
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public void remove(final String key) throws IOException {
-        this.origin.remove(key);
+        this.policy.run(() -> this.origin.remove(key));
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public Iterable<String> list(final String pfx) throws IOException {
-        final Iterable<String> list = this.origin.list(pfx);
-        // @checkstyle AnonInnerLengthCheck (50 lines)
+        return this.list(pfx, "");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The iteration is resumed after a failure from the last name it
+     * returned: the original listing is started again after that name,
+     * so a transient failure in a long listing costs one page, not all
+     * of them.</p>
+     */
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        final Iterable<String> list = this.policy.call(
+            () -> this.origin.list(pfx, after)
+        );
+        final Bucket bucket = this.origin;
+        final Policy plc = this.policy;
+        // @checkstyle AnonInnerLengthCheck (70 lines)
         return new Iterable<String>() {
             @Override
             public Iterator<String> iterator() {
                 return new Iterator<String>() {
-                    private final Iterator<String> iter =
-                        list.iterator();
+                    private Iterator<String> iter = list.iterator();
+
+                    private String last = after;
+
+                    private boolean broken;
 
                     @Override
-                    @RetryOnFailure(verbose = false)
                     public boolean hasNext() {
-                        return this.iter.hasNext();
+                        return this.retry(() -> this.current().hasNext());
                     }
 
                     @Override
-                    @RetryOnFailure(verbose = false)
                     public String next() {
-                        return this.iter.next();
+                        final String name = this.retry(
+                            () -> this.current().next()
+                        );
+                        this.last = name;
+                        return name;
                     }
 
                     @Override
-                    @RetryOnFailure(verbose = false)
                     public void remove() {
                         this.iter.remove();
                     }
+
+                    private Iterator<String> current() throws IOException {
+                        if (this.broken) {
+                            this.iter = bucket.list(pfx, this.last)
+                                .iterator();
+                            this.broken = false;
+                        }
+                        return this.iter;
+                    }
+
+                    private <T> T retry(final Attempts.Action<T> action) {
+                        try {
+                            return plc.call(
+                                () -> {
+                                    try {
+                                        return action.exec();
+                                    } catch (final IOException
+                                        | RuntimeException ex) {
+                                        this.broken = true;
+                                        throw ex;
+                                    }
+                                }
+                            );
+                        } catch (final IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }
                 };
             }
         };
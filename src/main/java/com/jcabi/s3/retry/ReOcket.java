@@ -4,23 +4,40 @@
  */
 package com.jcabi.s3.retry;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Version;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.io.output.CountingOutputStream;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 /**
  * Ocket that retries a few times before giving up.
  *
+ * <p>Reading is resumed from the first byte which didn't reach
+ * the output, with a ranged read, so bytes are never written twice.
+ * The reading runs in a {@link Version}, so every ranged read asks S3
+ * for the ETag returned by the first read, with {@code If-Match}, and
+ * fails with 412 if the object was overwritten. Before resuming,
+ * the object is also checked with HEAD, for origins which ignore
+ * {@code If-Match}: its ETag must be the one seen before, or, if it's
+ * not known, the object must not be modified after the reading started.
+ * Otherwise, {@code IOException} is thrown and the reading is not retried
+ * any more.</p>
+ *
+ * <p>Writing sends exactly the same bytes in every attempt: the content
+ * is buffered in memory, unless the input stream can be reset. Content
+ * bigger than that is written once, while the policy is handed down
+ * to the {@link com.jcabi.s3.Multipart} upload through
+ * {@link com.jcabi.s3.Parts}, to retry only the parts which fail.</p>
+ *
  * @since 0.5
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class ReOcket implements Ocket {
@@ -31,11 +48,27 @@ public final class ReOcket implements Ocket {
     private final transient Ocket origin;
 
     /**
-     * Public ctor.
+     * Policy of retrying.
+     */
+    private final transient Policy policy;
+
+    /**
+     * Public ctor, with the default policy, shared by all decorators.
      * @param okt Ocket we're in
      */
     public ReOcket(final Ocket okt) {
+        this(okt, Policy.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     * @param plc Policy of retrying
+     * @since 1.0
+     */
+    public ReOcket(final Ocket okt, final Policy plc) {
         this.origin = okt;
+        this.policy = plc;
     }
 
     @Override
@@ -45,7 +78,7 @@ public final class ReOcket implements Ocket {
 
     @Override
     public Bucket bucket() {
-        return new ReBucket(this.origin.bucket());
+        return new ReBucket(this.origin.bucket(), this.policy);
     }
 
     @Override
@@ -54,32 +87,114 @@ public final class ReOcket implements Ocket {
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public HeadObjectResponse meta() throws IOException {
-        return this.origin.meta();
+        return this.policy.call(this.origin::meta);
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public boolean exists() throws IOException {
-        return this.origin.exists();
+        return this.policy.call(this.origin::exists);
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public void read(final OutputStream output) throws IOException {
-        this.origin.read(output);
+        this.resume(output, 0L, -1L);
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        this.resume(output, offset, length);
     }
 
     @Override
-    @RetryOnFailure(verbose = false)
     public void write(final InputStream input, final HeadObjectResponse meta)
         throws IOException {
-        this.origin.write(input, meta);
+        new Replay(this.policy).write(this.origin, input, meta);
     }
 
     @Override
     public int compareTo(final Ocket okt) {
         return this.origin.key().compareTo(okt.key());
     }
+
+    /**
+     * Read, resuming from the last written byte after failures.
+     * @param output Where to write
+     * @param offset Position of the first byte to read
+     * @param length Maximum number of bytes to read, negative for all
+     * @throws IOException If fails
+     */
+    private void resume(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        final CountingOutputStream counter = new CountingOutputStream(output);
+        final long start = System.currentTimeMillis();
+        final AtomicReference<String> version = new AtomicReference<>();
+        try (Version pinned = new Version()) {
+            this.policy.run(
+                () -> {
+                    final long done = counter.getByteCount();
+                    if (done == 0L && length < 0L) {
+                        this.origin.read(counter);
+                    } else if (done == 0L) {
+                        this.origin.read(counter, offset, length);
+                    } else {
+                        pinned.etag(this.origin).ifPresent(
+                            etag -> version.compareAndSet(null, etag)
+                        );
+                        final HeadObjectResponse meta = this.origin.meta();
+                        this.verify(meta, version, start);
+                        long total = length;
+                        if (total < 0L) {
+                            total = meta.contentLength() - offset;
+                        }
+                        this.origin.read(
+                            counter, offset + done, total - done
+                        );
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Make sure the object was not modified since the reading started.
+     * @param meta Its current metadata
+     * @param version ETag seen by the first read or at the first resume,
+     *  if any
+     * @param start When the reading started, in milliseconds
+     * @throws Modified If it was modified
+     */
+    private void verify(final HeadObjectResponse meta,
+        final AtomicReference<String> version, final long start)
+        throws Modified {
+        if (meta.eTag() == null || meta.contentLength() == null) {
+            throw new Modified(
+                String.format(
+                    "Can't resume reading of '%s' without ETag and length",
+                    this.origin.key()
+                )
+            );
+        }
+        if (version.get() == null) {
+            // @checkstyle MagicNumber (2 lines)
+            if (meta.lastModified() != null
+                && meta.lastModified().toEpochMilli() >= start - 1000L) {
+                throw new Modified(
+                    String.format(
+                        "Ocket '%s' was modified at %s, while reading it",
+                        this.origin.key(), meta.lastModified()
+                    )
+                );
+            }
+            version.set(meta.eTag());
+        } else if (!version.get().equals(meta.eTag())) {
+            throw new Modified(
+                String.format(
+                    "ETag of '%s' changed from %s to %s, while reading it",
+                    this.origin.key(), version.get(), meta.eTag()
+                )
+            );
+        }
+    }
 }
@@ -4,7 +4,6 @@
  */
 package com.jcabi.s3.retry;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Region;
@@ -14,9 +13,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 /**
  * Region that retries a few times before giving up.
  *
+ * <p>All buckets and ockets of the region retry according to the same
+ * {@link Policy} and share its {@link Budget} of retries.</p>
+ *
  * @since 0.5
  */
-@Immutable
 @EqualsAndHashCode(of = "origin")
 @Loggable(Loggable.DEBUG)
 public final class ReRegion implements Region {
@@ -27,11 +28,27 @@ public final class ReRegion implements Region {
     private final transient Region origin;
 
     /**
-     * Public ctor.
+     * Policy of retrying.
+     */
+    private final transient Policy policy;
+
+    /**
+     * Public ctor, with the default policy, shared by all decorators.
      * @param reg Region we're in
      */
     public ReRegion(final Region reg) {
+        this(reg, Policy.SHARED);
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param plc Policy of retrying
+     * @since 1.0
+     */
+    public ReRegion(final Region reg, final Policy plc) {
         this.origin = reg;
+        this.policy = plc;
     }
 
     @Override
@@ -41,7 +58,7 @@ public final class ReRegion implements Region {
 
     @Override
     public Bucket bucket(final String name) {
-        return new ReBucket(this.origin.bucket(name));
+        return new ReBucket(this.origin.bucket(name), this.policy);
     }
 
     @Override
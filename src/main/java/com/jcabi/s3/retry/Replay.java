@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Parts;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Writing with retries, which sends exactly the same bytes in every
+ * attempt.
+ *
+ * <p>The input stream can be read only once, that's why it is either
+ * marked and reset before every attempt, if it supports that and its
+ * length is known, or copied into memory first. This is done only for
+ * content which fits into the threshold. Bigger content is written once,
+ * in the {@link Parts} scope with the policy, so that the origin retries
+ * only the failed parts of a multipart upload, instead of uploading
+ * the entire content again.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode
+final class Replay {
+
+    /**
+     * Policy of retrying.
+     */
+    private final transient Policy policy;
+
+    /**
+     * Maximum size of content to keep in memory, in bytes.
+     */
+    private final transient long threshold;
+
+    /**
+     * Ctor, keeping up to 8Mb in memory.
+     * @param plc Policy of retrying
+     */
+    Replay(final Policy plc) {
+        // @checkstyle MagicNumber (1 line)
+        this(plc, 8L << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param plc Policy of retrying
+     * @param max Maximum size of content to keep in memory, in bytes
+     */
+    Replay(final Policy plc, final long max) {
+        this.policy = plc;
+        this.threshold = max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("replay up to %d bytes in memory", this.threshold);
+    }
+
+    /**
+     * Write content to the ocket, retrying if necessary, and close
+     * the input when it's over, no matter whether it succeeded.
+     * @param ocket The ocket
+     * @param input Content
+     * @param meta Metadata
+     * @throws IOException If fails
+     */
+    void write(final Ocket ocket, final InputStream input,
+        final HeadObjectResponse meta) throws IOException {
+        try (InputStream source = input) {
+            if (meta.contentLength() != null
+                && meta.contentLength() > this.threshold) {
+                this.once(ocket, source, meta);
+            } else if (source.markSupported() && meta.contentLength() != null) {
+                source.mark((int) (meta.contentLength() + 1L));
+                this.policy.run(
+                    () -> {
+                        source.reset();
+                        ocket.write(CloseShieldInputStream.wrap(source), meta);
+                    }
+                );
+            } else {
+                final ByteArrayOutputStream head = new ByteArrayOutputStream();
+                if (IOUtils.copyLarge(source, head, 0L, this.threshold + 1L)
+                    <= this.threshold) {
+                    final byte[] bytes = head.toByteArray();
+                    this.policy.run(
+                        () -> ocket.write(
+                            new ByteArrayInputStream(bytes), meta
+                        )
+                    );
+                } else {
+                    this.once(
+                        ocket,
+                        new SequenceInputStream(
+                            new ByteArrayInputStream(head.toByteArray()),
+                            source
+                        ),
+                        meta
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Write big content once, retrying its parts with the policy.
+     * @param ocket The ocket
+     * @param input Content
+     * @param meta Metadata
+     * @throws IOException If fails
+     */
+    private void once(final Ocket ocket, final InputStream input,
+        final HeadObjectResponse meta) throws IOException {
+        try (Parts parts = new Parts(this.policy)) {
+            ocket.write(CloseShieldInputStream.wrap(input), meta);
+        }
+    }
+
+}
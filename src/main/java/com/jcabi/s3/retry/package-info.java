@@ -6,6 +6,13 @@
 /**
  * Auto-retry classes.
  *
+ * <p>Decorators made without a {@link com.jcabi.s3.retry.Policy} share
+ * one default policy, and its {@link com.jcabi.s3.retry.Budget}
+ * of retries, so ockets and buckets wrapped one by one don't get
+ * a budget each. Since 1.0 the decorators are not {@code @Immutable}:
+ * their fields are final, but the budget changes with every retry.
+ * They are thread-safe.</p>
+ *
  * @since 0.5
  */
 package com.jcabi.s3.retry;
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.log.Logger;
+import com.jcabi.s3.Deadline;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limiter of the rate of requests to one prefix.
+ *
+ * <p>Requests are paced evenly: every request reserves its own moment,
+ * one interval after the previous one, and waits until it comes.
+ * If the moment comes after the {@link Deadline} of the current thread,
+ * the request fails immediately, without reserving it.
+ * When S3 throttles, the rate is halved, but no more than once a second,
+ * since one burst of throttling usually means one overload. While there
+ * is no throttling, the rate grows by the same step every second, up to
+ * the maximum.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Limiter {
+
+    /**
+     * Nanoseconds in a second.
+     */
+    private static final double SECOND = 1_000_000_000.0d;
+
+    /**
+     * Minimum rate, per second.
+     */
+    private static final double MIN = 1.0d;
+
+    /**
+     * The prefix.
+     */
+    private final transient String prefix;
+
+    /**
+     * Maximum rate, per second.
+     */
+    private final transient double max;
+
+    /**
+     * How much the rate grows every second, per second.
+     */
+    private final transient double step;
+
+    /**
+     * Current rate, per second.
+     */
+    private transient double rate;
+
+    /**
+     * Moment reserved for the next request, in nanoseconds.
+     */
+    private transient long next;
+
+    /**
+     * When the rate was changed last time, in nanoseconds.
+     */
+    private transient long updated;
+
+    /**
+     * When the rate was decreased last time, in nanoseconds.
+     */
+    private transient long decreased;
+
+    /**
+     * Ctor.
+     * @param pfx The prefix
+     * @param limit Maximum rate, per second, also the initial one
+     * @param growth How much the rate grows every second, per second
+     */
+    Limiter(final String pfx, final double limit, final double growth) {
+        this.prefix = pfx;
+        this.max = limit;
+        this.step = growth;
+        this.rate = limit;
+        this.next = System.nanoTime();
+        this.updated = this.next;
+        this.decreased = this.next - (long) Limiter.SECOND;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s at %.1f/s", this.prefix, this.rate);
+    }
+
+    /**
+     * Wait until the next request is allowed.
+     * @throws InterruptedIOException If interrupted while waiting, or
+     *  the wait would not fit into the deadline
+     */
+    void acquire() throws InterruptedIOException {
+        final Optional<Duration> left = new Deadline.Current().remaining();
+        long limit = Long.MAX_VALUE;
+        if (left.isPresent()) {
+            limit = left.get().toNanos();
+        }
+        final long wait = this.reserve(limit);
+        if (wait < 0L) {
+            throw new InterruptedIOException(
+                String.format(
+                    "Pacing of %s doesn't fit into %dms left until deadline",
+                    this.prefix, TimeUnit.NANOSECONDS.toMillis(limit)
+                )
+            );
+        }
+        if (wait > 0L) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Register a request which was not throttled.
+     */
+    synchronized void success() {
+        final long now = System.nanoTime();
+        if (now - this.decreased >= Limiter.SECOND) {
+            this.rate = Math.min(
+                this.max,
+                this.rate + this.step * (now - this.updated) / Limiter.SECOND
+            );
+            this.updated = now;
+        }
+    }
+
+    /**
+     * Register a request which was throttled.
+     */
+    synchronized void throttled() {
+        final long now = System.nanoTime();
+        if (now - this.decreased >= Limiter.SECOND) {
+            this.rate = Math.max(Limiter.MIN, this.rate / 2.0d);
+            this.decreased = now;
+            this.updated = now;
+            Logger.warn(
+                this, "Throttled by S3, slowing down %s to %.1f/s",
+                this.prefix, this.rate
+            );
+        }
+    }
+
+    /**
+     * Current rate.
+     * @return Requests per second
+     */
+    synchronized double current() {
+        return this.rate;
+    }
+
+    /**
+     * Reserve the moment for the next request, if it's not too late.
+     * @param limit Maximum wait, in nanoseconds
+     * @return How long to wait for it, in nanoseconds, or a negative
+     *  number if it's too late and nothing was reserved
+     */
+    private synchronized long reserve(final long limit) {
+        final long now = System.nanoTime();
+        final long start = Math.max(now, this.next);
+        long wait = start - now;
+        if (wait > limit || limit <= 0L) {
+            wait = -1L;
+        } else {
+            this.next = start + (long) (Limiter.SECOND / this.rate);
+        }
+        return wait;
+    }
+
+}
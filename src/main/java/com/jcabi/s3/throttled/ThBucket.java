@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Bucket that paces requests, under the rates S3 can sustain
+ * for prefixes of its keys.
+ *
+ * <p>Removing is paced under the prefix of the key, listing under
+ * the prefix it lists. Next pages of a listing are not paced.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class ThBucket implements Bucket {
+
+    /**
+     * Original bucket.
+     */
+    private final transient Bucket origin;
+
+    /**
+     * Limits of request rates.
+     */
+    private final transient Throttle throttle;
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     */
+    public ThBucket(final Bucket bkt) {
+        this(bkt, new Throttle());
+    }
+
+    /**
+     * Public ctor.
+     * @param bkt Bucket we're in
+     * @param thr Limits of request rates
+     */
+    public ThBucket(final Bucket bkt, final Throttle thr) {
+        this.origin = bkt;
+        this.throttle = thr;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Region region() {
+        return new ThRegion(this.origin.region(), this.throttle);
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Ocket ocket(final String key) {
+        return new ThOcket(this.origin.ocket(key), this.throttle);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.throttle.call(
+            this.origin.name(), "", this.origin::exists
+        );
+    }
+
+    @Override
+    public void remove(final String key) throws IOException {
+        this.throttle.call(
+            this.origin.name(), key,
+            () -> {
+                this.origin.remove(key);
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx) throws IOException {
+        return this.throttle.call(
+            this.origin.name(), pfx, () -> this.origin.list(pfx)
+        );
+    }
+
+    @Override
+    public Iterable<String> list(final String pfx, final String after)
+        throws IOException {
+        return this.throttle.call(
+            this.origin.name(), pfx, () -> this.origin.list(pfx, after)
+        );
+    }
+
+    @Override
+    public int compareTo(final Bucket bkt) {
+        return this.origin.name().compareTo(bkt.name());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Ocket that paces its requests, under the rate S3 can sustain
+ * for the prefix of its key.
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class ThOcket implements Ocket {
+
+    /**
+     * Original ocket.
+     */
+    private final transient Ocket origin;
+
+    /**
+     * Limits of request rates.
+     */
+    private final transient Throttle throttle;
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     */
+    public ThOcket(final Ocket okt) {
+        this(okt, new Throttle());
+    }
+
+    /**
+     * Public ctor.
+     * @param okt Ocket we're in
+     * @param thr Limits of request rates
+     */
+    public ThOcket(final Ocket okt, final Throttle thr) {
+        this.origin = okt;
+        this.throttle = thr;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket() {
+        return new ThBucket(this.origin.bucket(), this.throttle);
+    }
+
+    @Override
+    public String key() {
+        return this.origin.key();
+    }
+
+    @Override
+    public HeadObjectResponse meta() throws IOException {
+        return this.pace(this.origin::meta);
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.pace(this.origin::exists);
+    }
+
+    @Override
+    public void read(final OutputStream output) throws IOException {
+        this.pace(
+            () -> {
+                this.origin.read(output);
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    @Override
+    public void read(final OutputStream output, final long offset,
+        final long length) throws IOException {
+        this.pace(
+            () -> {
+                this.origin.read(output, offset, length);
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    @Override
+    public void write(final InputStream input, final HeadObjectResponse meta)
+        throws IOException {
+        this.pace(
+            () -> {
+                this.origin.write(input, meta);
+                return Boolean.TRUE;
+            }
+        );
+    }
+
+    @Override
+    public int compareTo(final Ocket okt) {
+        return this.origin.key().compareTo(okt.key());
+    }
+
+    /**
+     * Make the call, pacing it under the rate of the prefix.
+     * @param action The call
+     * @param <T> Type of result
+     * @return Its result
+     * @throws IOException If fails
+     */
+    private <T> T pace(final Throttle.Action<T> action) throws IOException {
+        return this.throttle.call(
+            this.origin.bucket().name(), this.origin.key(), action
+        );
+    }
+}
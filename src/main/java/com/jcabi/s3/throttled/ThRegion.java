@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Region;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Region that paces requests to its buckets, under the rates
+ * S3 can sustain.
+ *
+ * <p>All buckets and ockets of the region share the same
+ * {@link Throttle}, so every prefix of keys has exactly one limiter.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = "origin")
+@Loggable(Loggable.DEBUG)
+public final class ThRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * Limits of request rates.
+     */
+    private final transient Throttle throttle;
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     */
+    public ThRegion(final Region reg) {
+        this(reg, new Throttle());
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region we're in
+     * @param thr Limits of request rates
+     */
+    public ThRegion(final Region reg, final Throttle thr) {
+        this.origin = reg;
+        this.throttle = thr;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Bucket bucket(final String name) {
+        return new ThBucket(this.origin.bucket(name), this.throttle);
+    }
+
+    @Override
+    public S3Client aws() {
+        return this.origin.aws();
+    }
+}
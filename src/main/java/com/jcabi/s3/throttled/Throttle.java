@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * Adaptive limits of request rates, per key prefix, shared by all
+ * throttled decorators it is given to.
+ *
+ * <p>S3 limits the rate of requests per prefix of keys and answers with
+ * 503 {@code SlowDown} when it is exceeded. Every prefix gets its own
+ * limiter, which learns the rate S3 can sustain: it halves the rate on
+ * throttling and raises it by a fixed step every second while there is
+ * no throttling (AIMD). Callers are paced to stay under the rate,
+ * instead of being rejected:</p>
+ *
+ * <pre> Region region = new ReRegion(
+ *   new ThRegion(
+ *     new Region.Simple(key, secret),
+ *     new Throttle(3500.0d, 50.0d, 2)
+ *   )
+ * );</pre>
+ *
+ * <p>The prefix of a key is its first segments, separated by slashes,
+ * one by default: keys {@code logs/2026/a.txt} and
+ * {@code logs/2025/b.txt} share the prefix {@code logs/}.
+ * Limiters of prefixes which get no requests for a minute are
+ * forgotten, and there are no more than ten thousand of them, so keys
+ * with random or ever-growing prefixes don't leak memory; in a minute
+ * without requests a limiter recovers most of its rate anyway.
+ * Throttling is only reported by this class, retrying is the job
+ * of {@link com.jcabi.s3.retry.ReRegion}, which should wrap it, so every
+ * retry is paced too.</p>
+ *
+ * @since 1.0
+ */
+public final class Throttle {
+
+    /**
+     * Maximum rate, per second, also the initial one.
+     */
+    private final transient double max;
+
+    /**
+     * How much the rate grows every second, per second.
+     */
+    private final transient double step;
+
+    /**
+     * How many segments of a key make its prefix.
+     */
+    private final transient int depth;
+
+    /**
+     * Limiters, by buckets and prefixes.
+     */
+    private final transient Cache<String, Limiter> limiters;
+
+    /**
+     * Public ctor, starting from 3500 requests per second per prefix,
+     * the documented limit of S3 for writing, and recovering by
+     * 50 requests per second every second.
+     */
+    public Throttle() {
+        // @checkstyle MagicNumber (1 line)
+        this(3500.0d, 50.0d, 1);
+    }
+
+    /**
+     * Public ctor.
+     * @param rate Maximum rate per prefix, per second, also the initial one
+     * @param growth How much the rate grows every second, per second
+     * @param segments How many segments of a key make its prefix
+     */
+    public Throttle(final double rate, final double growth,
+        final int segments) {
+        if (rate <= 0.0d) {
+            throw new IllegalArgumentException(
+                String.format("Rate must be positive: %f", rate)
+            );
+        }
+        this.max = rate;
+        this.step = growth;
+        this.depth = segments;
+        this.limiters = CacheBuilder.newBuilder()
+            .expireAfterAccess(1L, TimeUnit.MINUTES)
+            // @checkstyle MagicNumber (1 line)
+            .maximumSize(10_000L)
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return this.limiters.asMap().values().toString();
+    }
+
+    /**
+     * Make the call, pacing it under the rate of the prefix.
+     * @param bucket Name of the bucket
+     * @param key The key, or the prefix of keys
+     * @param action The call
+     * @param <T> Type of result
+     * @return Its result
+     * @throws IOException If fails
+     */
+    <T> T call(final String bucket, final String key,
+        final Throttle.Action<T> action) throws IOException {
+        final Limiter limiter = this.limiter(bucket, key);
+        limiter.acquire();
+        try {
+            final T result = action.exec();
+            limiter.success();
+            return result;
+        } catch (final IOException | RuntimeException ex) {
+            if (Throttle.throttling(ex)) {
+                limiter.throttled();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Limiter of the prefix of the key.
+     * @param bucket Name of the bucket
+     * @param key The key
+     * @return Limiter
+     */
+    Limiter limiter(final String bucket, final String key) {
+        int end = 0;
+        int slash = key.indexOf('/');
+        for (int seg = 0; seg < this.depth && slash >= 0; ++seg) {
+            end = slash + 1;
+            slash = key.indexOf('/', end);
+        }
+        final String prefix = key.substring(0, end);
+        return this.limiters.asMap().computeIfAbsent(
+            String.format("%s/%s", bucket, prefix),
+            name -> new Limiter(name, this.max, this.step)
+        );
+    }
+
+    /**
+     * Is it throttling by S3?
+     * @param error The error
+     * @return TRUE if it is
+     */
+    private static boolean throttling(final Throwable error) {
+        boolean throttling = false;
+        Throwable cause = error;
+        while (!throttling && cause != null) {
+            if (cause instanceof AwsServiceException) {
+                final AwsServiceException aws = (AwsServiceException) cause;
+                // @checkstyle MagicNumber (1 line)
+                throttling = aws.statusCode() == 503
+                    || aws.isThrottlingException()
+                    || aws.awsErrorDetails() != null
+                    && "SlowDown".equals(aws.awsErrorDetails().errorCode());
+            }
+            cause = cause.getCause();
+        }
+        return throttling;
+    }
+
+    /**
+     * Call to pace.
+     *
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Action<T> {
+        /**
+         * Execute it.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T exec() throws IOException;
+    }
+
+}
@@ -4,6 +4,9 @@
  */
 package com.jcabi.s3;
 
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -11,10 +14,13 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
@@ -138,4 +144,123 @@ final class AwsListIteratorTest {
         );
     }
 
+    @Test
+    void skipsEmptyTruncatedPages() {
+        final Region region = Mockito.mock(Region.class);
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.when(region.aws()).thenReturn(aws);
+        final String key = UUID.randomUUID().toString();
+        Mockito.when(
+            aws.listObjectsV2(Mockito.any(ListObjectsV2Request.class))
+        ).thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(Collections.emptyList())
+                .isTruncated(true)
+                .nextContinuationToken("token-empty")
+                .build()
+        ).thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key(key).build())
+                .isTruncated(false)
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "listing stopped at an empty page",
+            new AwsListIterator(
+                region, UUID.randomUUID().toString(), ""
+            ).next(),
+            Matchers.equalTo(key)
+        );
+    }
+
+    @Test
+    void reloadsSamePageAfterFailure() {
+        final Region region = Mockito.mock(Region.class);
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.when(region.aws()).thenReturn(aws);
+        Mockito.when(
+            aws.listObjectsV2(Mockito.any(ListObjectsV2Request.class))
+        ).thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("a").build())
+                .isTruncated(true)
+                .nextContinuationToken("token-b")
+                .build()
+        ).thenThrow(
+            S3Exception.builder().statusCode(503).build()
+        ).thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("b").build())
+                .isTruncated(false)
+                .build()
+        );
+        final AwsListIterator iterator = new AwsListIterator(
+            region, UUID.randomUUID().toString(), ""
+        );
+        iterator.next();
+        Assertions.assertThrows(IllegalStateException.class, iterator::next);
+        MatcherAssert.assertThat(
+            "failed page was not loaded again",
+            iterator.next(),
+            Matchers.equalTo("b")
+        );
+        final ArgumentCaptor<ListObjectsV2Request> captor =
+            ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        Mockito.verify(aws, Mockito.times(3)).listObjectsV2(captor.capture());
+        MatcherAssert.assertThat(
+            "continuation token was lost after failure",
+            captor.getAllValues().get(2).continuationToken(),
+            Matchers.equalTo("token-b")
+        );
+    }
+
+    @Test
+    void startsAfterGivenKey() {
+        final Region region = Mockito.mock(Region.class);
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.when(region.aws()).thenReturn(aws);
+        Mockito.when(
+            aws.listObjectsV2(Mockito.any(ListObjectsV2Request.class))
+        ).thenReturn(
+            ListObjectsV2Response.builder()
+                .contents(Collections.emptyList())
+                .isTruncated(false)
+                .build()
+        );
+        new AwsListIterator(
+            region, UUID.randomUUID().toString(), "a/", "a/b.txt"
+        ).hasNext();
+        Mockito.verify(aws).listObjectsV2(
+            Mockito.argThat(
+                (ListObjectsV2Request req) -> "a/b.txt".equals(
+                    req.startAfter()
+                )
+            )
+        );
+    }
+
+    @Test
+    void failsWhenDeadlineIsOverDuringListing() {
+        final Region region = Mockito.mock(Region.class);
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.when(region.aws()).thenReturn(aws);
+        // @checkstyle MagicNumber (3 lines)
+        Mockito.when(
+            aws.listObjectsV2(Mockito.any(ListObjectsV2Request.class))
+        ).thenThrow(ApiCallTimeoutException.create(50L));
+        // @checkstyle MagicNumber (1 line)
+        try (Deadline deadline = new Deadline(Duration.ofMillis(50L))) {
+            final AwsListIterator iterator = new AwsListIterator(
+                region, UUID.randomUUID().toString(), ""
+            );
+            MatcherAssert.assertThat(
+                "timeout of the call was not reported as interruption",
+                Assertions.assertThrows(
+                    UncheckedIOException.class, iterator::hasNext
+                ).getCause(),
+                Matchers.instanceOf(InterruptedIOException.class)
+            );
+        }
+    }
+
 }
@@ -7,7 +7,9 @@ package com.jcabi.s3;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -257,4 +260,70 @@ final class AwsOcketTest {
         );
     }
 
+    @Test
+    void readsRangeWithRangeHeader() throws Exception {
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.doReturn(
+            new ResponseInputStream<>(
+                GetObjectResponse.builder().build(),
+                AbortableInputStream.create(
+                    new ByteArrayInputStream(
+                        "cde".getBytes(StandardCharsets.UTF_8)
+                    )
+                )
+            )
+        ).when(aws).getObject(Mockito.any(GetObjectRequest.class));
+        final Region region = Mockito.mock(Region.class);
+        Mockito.doReturn(aws).when(region).aws();
+        final Bucket bucket = Mockito.mock(Bucket.class);
+        Mockito.doReturn(region).when(bucket).region();
+        Mockito.doReturn(UUID.randomUUID().toString()).when(bucket).name();
+        // @checkstyle MagicNumber (1 line)
+        new AwsOcket(bucket, "range.txt").read(
+            new ByteArrayOutputStream(), 2L, 3L
+        );
+        Mockito.verify(aws).getObject(
+            Mockito.argThat(
+                (GetObjectRequest req) -> "bytes=2-4".equals(req.range())
+            )
+        );
+    }
+
+    @Test
+    void failsWhenDeadlineIsOverDuringCall() {
+        final S3Client aws = Mockito.mock(S3Client.class);
+        // @checkstyle MagicNumber (1 line)
+        Mockito.doThrow(ApiCallTimeoutException.create(50L))
+            .when(aws).headObject(Mockito.any(HeadObjectRequest.class));
+        final Region region = Mockito.mock(Region.class);
+        Mockito.doReturn(aws).when(region).aws();
+        final Bucket bucket = Mockito.mock(Bucket.class);
+        Mockito.doReturn(region).when(bucket).region();
+        Mockito.doReturn(UUID.randomUUID().toString()).when(bucket).name();
+        // @checkstyle MagicNumber (1 line)
+        try (Deadline deadline = new Deadline(Duration.ofMillis(50L))) {
+            Assertions.assertThrows(
+                InterruptedIOException.class,
+                () -> new AwsOcket(bucket, "slow.txt").meta()
+            );
+        }
+    }
+
+    @Test
+    void rethrowsTimeoutOfClientWithoutDeadline() {
+        final S3Client aws = Mockito.mock(S3Client.class);
+        // @checkstyle MagicNumber (1 line)
+        Mockito.doThrow(ApiCallTimeoutException.create(50L))
+            .when(aws).headObject(Mockito.any(HeadObjectRequest.class));
+        final Region region = Mockito.mock(Region.class);
+        Mockito.doReturn(aws).when(region).aws();
+        final Bucket bucket = Mockito.mock(Bucket.class);
+        Mockito.doReturn(region).when(bucket).region();
+        Mockito.doReturn(UUID.randomUUID().toString()).when(bucket).name();
+        Assertions.assertThrows(
+            ApiCallTimeoutException.class,
+            () -> new AwsOcket(bucket, "timed.txt").meta()
+        );
+    }
+
 }
@@ -11,6 +11,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
 
 /**
  * Test case for {@link Bucket.Prefixed}.
@@ -104,4 +105,22 @@ final class BucketPrefixedTest {
         );
     }
 
+    @Test
+    void listsAfterNameThroughOrigin(@TempDir final File temp)
+        throws Exception {
+        final Bucket bucket = Mockito.spy(
+            new FkRegion(temp).bucket(UUID.randomUUID().toString())
+        );
+        for (final String key : new String[] {"y/a.txt", "y/b.txt"}) {
+            new Ocket.Text(bucket.ocket(key)).write("");
+        }
+        MatcherAssert.assertThat(
+            "names after the given one were not listed",
+            new Bucket.Prefixed(bucket, "y/").list("", "a.txt"),
+            Matchers.contains("b.txt")
+        );
+        Mockito.verify(bucket).list("y/", "y/a.txt");
+        Mockito.verify(bucket, Mockito.never()).list(Mockito.anyString());
+    }
+
 }
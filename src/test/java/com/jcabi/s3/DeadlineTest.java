@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+
+/**
+ * Test case for {@link Deadline}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class DeadlineTest {
+
+    @Test
+    void hasNoDeadlineOutsideOfScope() {
+        try (Deadline deadline = new Deadline(Duration.ofSeconds(1L))) {
+            MatcherAssert.assertThat(
+                "deadline was not set",
+                new Deadline.Current().remaining().isPresent(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "deadline was not removed when closed",
+            new Deadline.Current().remaining().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void doesNotExtendOuterDeadline() {
+        try (Deadline outer = new Deadline(Duration.ofMillis(500L))) {
+            try (Deadline inner = new Deadline(Duration.ofMinutes(1L))) {
+                MatcherAssert.assertThat(
+                    "nested deadline extended the outer one",
+                    new Deadline.Current().remaining().get(),
+                    Matchers.lessThanOrEqualTo(Duration.ofMillis(500L))
+                );
+            }
+            MatcherAssert.assertThat(
+                "outer deadline was not restored",
+                new Deadline.Current().remaining().get(),
+                Matchers.greaterThan(Duration.ZERO)
+            );
+        }
+    }
+
+    @Test
+    void failsWhenDeadlineIsOver() {
+        try (Deadline deadline = new Deadline(Duration.ofMillis(-1L))) {
+            Assertions.assertThrows(
+                InterruptedIOException.class,
+                () -> new Deadline.Current().check(),
+                "deadline which is over didn't fail"
+            );
+        }
+    }
+
+    @Test
+    void limitsRequestsToS3() throws Exception {
+        try (Deadline deadline = new Deadline(Duration.ofSeconds(3L))) {
+            MatcherAssert.assertThat(
+                "API call timeout was not set",
+                new Deadline.Current()
+                    .limit(HeadObjectRequest.builder())
+                    .build()
+                    .overrideConfiguration().get()
+                    .apiCallTimeout().get(),
+                Matchers.lessThanOrEqualTo(Duration.ofSeconds(3L))
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link KeyOrder}.
+ *
+ * @since 1.0
+ */
+final class KeyOrderTest {
+
+    @Test
+    void sortsLikeUtfEightBytes() {
+        final List<String> keys = Arrays.asList(
+            "b", "\uD83D\uDE00", "a/b", "\uFF21", "a", "ab"
+        );
+        keys.sort(new KeyOrder());
+        MatcherAssert.assertThat(
+            "keys were not sorted by code points",
+            keys,
+            Matchers.contains(
+                "a", "a/b", "ab", "b", "\uFF21", "\uD83D\uDE00"
+            )
+        );
+    }
+
+    @Test
+    void resumesDefaultListingInOrderOfS3() throws Exception {
+        final Bucket bucket = Mockito.mock(
+            Bucket.class, Mockito.CALLS_REAL_METHODS
+        );
+        Mockito.doReturn(Arrays.asList("a", "\uFF21", "\uD83D\uDE00"))
+            .when(bucket).list("");
+        MatcherAssert.assertThat(
+            "listing was not resumed after the key in order of S3",
+            bucket.list("", "\uFF21"),
+            Matchers.contains("\uD83D\uDE00")
+        );
+    }
+}
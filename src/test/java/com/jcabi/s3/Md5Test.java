@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Md5}.
+ *
+ * @since 1.0
+ */
+final class Md5Test {
+
+    @Test
+    void makesEtagOfBytes() {
+        MatcherAssert.assertThat(
+            "wrong ETag of bytes",
+            new Md5("hello".getBytes(StandardCharsets.UTF_8)).etag(),
+            Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void digestsPrefixOfBuffer() {
+        MatcherAssert.assertThat(
+            "wrong digest of the beginning of the buffer",
+            new Md5("hello, world".getBytes(StandardCharsets.UTF_8), 5).hex(),
+            Matchers.equalTo("5d41402abc4b2a76b9719d911017c592")
+        );
+    }
+
+    @Test
+    void digestsStreamWhileItIsRead() throws Exception {
+        final Md5 md5 = new Md5();
+        try (InputStream input = md5.stream(
+            new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8))
+        )) {
+            IOUtils.toByteArray(input);
+        }
+        MatcherAssert.assertThat(
+            "wrong digest of the stream",
+            md5.hex(),
+            Matchers.equalTo("5d41402abc4b2a76b9719d911017c592")
+        );
+    }
+
+}
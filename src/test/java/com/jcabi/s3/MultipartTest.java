@@ -0,0 +1,296 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Test case for {@link Multipart}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class MultipartTest {
+
+    @Test
+    void uploadsContentInParts() throws Exception {
+        final S3Client aws = MultipartTest.aws();
+        new Multipart(
+            MultipartTest.ocket(aws), Optional.empty(), 4, 3
+        ).write(
+            MultipartTest.input("abcdefghij"),
+            HeadObjectResponse.builder().build()
+        );
+        final ArgumentCaptor<CompleteMultipartUploadRequest> done =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        Mockito.verify(aws).completeMultipartUpload(done.capture());
+        MatcherAssert.assertThat(
+            "wrong number of parts",
+            done.getValue().multipartUpload().parts(),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void retriesOnlyFailedPart() throws Exception {
+        final S3Client aws = MultipartTest.aws();
+        Mockito.doThrow(
+            S3Exception.builder().statusCode(503).message("slow down").build()
+        ).doReturn(
+            UploadPartResponse.builder().eTag("\"second\"").build()
+        ).when(aws).uploadPart(
+            Mockito.argThat(
+                (UploadPartRequest req) -> req != null && req.partNumber() == 2
+            ),
+            Mockito.any(RequestBody.class)
+        );
+        new Multipart(
+            MultipartTest.ocket(aws), Optional.empty(), 4, 3
+        ).write(
+            MultipartTest.input("abcdefghij"),
+            HeadObjectResponse.builder().build()
+        );
+        Mockito.verify(aws, Mockito.times(4)).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+    }
+
+    @Test
+    void abortsFailedUploadWithoutJournal() throws Exception {
+        final S3Client aws = MultipartTest.aws();
+        Mockito.doThrow(
+            S3Exception.builder().statusCode(403).message("denied").build()
+        ).when(aws).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Multipart(
+                MultipartTest.ocket(aws), Optional.empty(), 4, 3
+            ).write(
+                MultipartTest.input("abcdefghij"),
+                HeadObjectResponse.builder().build()
+            )
+        );
+        Mockito.verify(aws).abortMultipartUpload(
+            Mockito.any(AbortMultipartUploadRequest.class)
+        );
+    }
+
+    @Test
+    void resumesInterruptedUpload(@TempDir final File temp)
+        throws Exception {
+        final Path journal = temp.toPath().resolve("upload.txt");
+        final S3Client broken = MultipartTest.aws();
+        Mockito.doThrow(
+            S3Exception.builder().statusCode(403).message("expired").build()
+        ).when(broken).uploadPart(
+            Mockito.argThat(
+                (UploadPartRequest req) -> req != null && req.partNumber() > 1
+            ),
+            Mockito.any(RequestBody.class)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Multipart(
+                MultipartTest.ocket(broken), Optional.of(journal), 4, 3
+            ).write(
+                MultipartTest.input("abcdefghij"),
+                HeadObjectResponse.builder().build()
+            )
+        );
+        final S3Client aws = MultipartTest.aws();
+        new Multipart(
+            MultipartTest.ocket(aws), Optional.of(journal), 4, 3
+        ).write(
+            MultipartTest.input("abcdefghij"),
+            HeadObjectResponse.builder().build()
+        );
+        Mockito.verify(aws, Mockito.never()).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+        Mockito.verify(aws, Mockito.times(2)).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+        MatcherAssert.assertThat(
+            "journal was not deleted",
+            Files.exists(journal),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void startsOverWhenUploadIsGone(@TempDir final File temp)
+        throws Exception {
+        final Path journal = temp.toPath().resolve("gone.txt");
+        MultipartTest.interrupt(journal);
+        final S3Client aws = MultipartTest.aws();
+        Mockito.doThrow(
+            NoSuchUploadException.builder().statusCode(404).build()
+        ).when(aws).listParts(Mockito.any(ListPartsRequest.class));
+        new Multipart(
+            MultipartTest.ocket(aws), Optional.of(journal), 4, 3
+        ).write(
+            MultipartTest.input("abcdefghij"),
+            HeadObjectResponse.builder().build()
+        );
+        Mockito.verify(aws).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+        Mockito.verify(aws, Mockito.times(3)).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+    }
+
+    @Test
+    void forgetsJournalOfVanishedUpload(@TempDir final File temp)
+        throws Exception {
+        final Path journal = temp.toPath().resolve("vanished.txt");
+        MultipartTest.interrupt(journal);
+        final S3Client aws = MultipartTest.aws();
+        Mockito.doThrow(
+            NoSuchUploadException.builder().statusCode(404).build()
+        ).when(aws).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Multipart(
+                MultipartTest.ocket(aws), Optional.of(journal), 4, 3
+            ).write(
+                MultipartTest.input("abcdefghij"),
+                HeadObjectResponse.builder().build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "journal of the vanished upload was kept",
+            Files.exists(journal),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void writesSmallContentAtOnce() throws Exception {
+        final S3Client aws = MultipartTest.aws();
+        final Ocket ocket = MultipartTest.ocket(aws);
+        new Multipart(ocket, Optional.empty(), 1024, 3).write(
+            MultipartTest.input("small"),
+            HeadObjectResponse.builder().build()
+        );
+        Mockito.verify(ocket).write(
+            Mockito.any(InputStream.class),
+            Mockito.argThat(
+                (HeadObjectResponse meta) -> meta != null
+                    && meta.contentLength() == 5L
+            )
+        );
+        Mockito.verify(aws, Mockito.never()).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+    }
+
+    /**
+     * Make a journal of an upload interrupted after the first part.
+     * @param journal The journal
+     */
+    private static void interrupt(final Path journal) {
+        final S3Client broken = MultipartTest.aws();
+        Mockito.doThrow(
+            S3Exception.builder().statusCode(403).message("expired").build()
+        ).when(broken).uploadPart(
+            Mockito.argThat(
+                (UploadPartRequest req) -> req != null && req.partNumber() > 1
+            ),
+            Mockito.any(RequestBody.class)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Multipart(
+                MultipartTest.ocket(broken), Optional.of(journal), 4, 3
+            ).write(
+                MultipartTest.input("abcdefghij"),
+                HeadObjectResponse.builder().build()
+            )
+        );
+    }
+
+    /**
+     * Client which accepts all parts.
+     * @return Client
+     */
+    private static S3Client aws() {
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.doReturn(
+            CreateMultipartUploadResponse.builder().uploadId("up").build()
+        ).when(aws).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+        Mockito.doReturn(
+            UploadPartResponse.builder().eTag("\"part\"").build()
+        ).when(aws).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+        return aws;
+    }
+
+    /**
+     * Ocket with the client.
+     * @param aws The client
+     * @return Ocket
+     */
+    private static Ocket ocket(final S3Client aws) {
+        final Region region = Mockito.mock(Region.class);
+        Mockito.doReturn(aws).when(region).aws();
+        final Bucket bucket = Mockito.mock(Bucket.class);
+        Mockito.doReturn(region).when(bucket).region();
+        Mockito.doReturn("bucket").when(bucket).name();
+        final Ocket ocket = Mockito.mock(Ocket.class);
+        Mockito.doReturn(bucket).when(ocket).bucket();
+        Mockito.doReturn("key").when(ocket).key();
+        return ocket;
+    }
+
+    /**
+     * Input stream.
+     * @param text Its content
+     * @return Stream
+     */
+    private static InputStream input(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Ocket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class OcketTest {
+
+    @Test
+    void readsRangeOfFullContentByDefault() throws Exception {
+        final Ocket ocket = Mockito.mock(
+            Ocket.class, Mockito.CALLS_REAL_METHODS
+        );
+        Mockito.doAnswer(
+            inv -> {
+                inv.getArgument(0, OutputStream.class).write(
+                    "hello, world".getBytes(StandardCharsets.UTF_8)
+                );
+                return null;
+            }
+        ).when(ocket).read(Mockito.any(OutputStream.class));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ocket.read(output, 7L, 100L);
+        MatcherAssert.assertThat(
+            "range was not sliced from full content",
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("world")
+        );
+    }
+
+    @Test
+    void readsNothingBeyondEndByDefault() throws Exception {
+        final Ocket ocket = Mockito.mock(
+            Ocket.class, Mockito.CALLS_REAL_METHODS
+        );
+        Mockito.doAnswer(
+            inv -> {
+                inv.getArgument(0, OutputStream.class).write(
+                    "abc".getBytes(StandardCharsets.UTF_8)
+                );
+                return null;
+            }
+        ).when(ocket).read(Mockito.any(OutputStream.class));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ocket.read(output, 5L, 2L);
+        MatcherAssert.assertThat(
+            "bytes were written for offset beyond the end",
+            output.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+}
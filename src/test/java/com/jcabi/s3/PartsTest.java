@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import com.jcabi.s3.fake.FkClient;
+import java.io.File;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Parts}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class PartsTest {
+
+    @Test
+    void keepsJournalsInDirectory(@TempDir final File temp) {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("journaled").ocket("huge.bin");
+        try (Parts parts = new Parts(temp.toPath())) {
+            MatcherAssert.assertThat(
+                "journal was not in the directory of the scope",
+                new Parts.Current().journal(ocket).get().getParent(),
+                Matchers.equalTo(temp.toPath())
+            );
+        }
+    }
+
+    @Test
+    void takesJournalsFromOuterScope(@TempDir final File temp) {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("nested").ocket("huge.bin");
+        final Attempts attempts = new Attempts.Backoff(7);
+        try (Parts outer = new Parts(temp.toPath())) {
+            try (Parts inner = new Parts(attempts)) {
+                MatcherAssert.assertThat(
+                    "journal of the outer scope was lost",
+                    new Parts.Current().journal(ocket).isPresent(),
+                    Matchers.is(true)
+                );
+                MatcherAssert.assertThat(
+                    "attempts of the nested scope were not used",
+                    new Parts.Current().attempts(),
+                    Matchers.sameInstance(attempts)
+                );
+            }
+        }
+    }
+
+    @Test
+    void forgetsSettingsWhenClosed(@TempDir final File temp) {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("closed").ocket("huge.bin");
+        try (Parts parts = new Parts(
+            Optional.of(new Attempts.Backoff(5)), Optional.of(temp.toPath())
+        )) {
+            new Parts.Current().journal(ocket);
+        }
+        MatcherAssert.assertThat(
+            "journal was kept after the scope was closed",
+            new Parts.Current().journal(ocket),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3;
+
+import com.jcabi.s3.fake.FkClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Version}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class VersionTest {
+
+    @Test
+    void remembersEtagOfFirstRead() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("pinned").ocket("a.txt");
+        new Ocket.Text(ocket).write("hello");
+        try (Version version = new Version()) {
+            ocket.read(new ByteArrayOutputStream());
+            MatcherAssert.assertThat(
+                "ETag of the first read was not remembered",
+                version.etag(ocket).get(),
+                Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+            );
+        }
+    }
+
+    @Test
+    void readsRangeOfTheSameVersion() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("same").ocket("b.txt");
+        new Ocket.Text(ocket).write("hello, world");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (Version version = new Version()) {
+            ocket.read(output, 0L, 5L);
+            ocket.read(output, 5L, 7L);
+        }
+        MatcherAssert.assertThat(
+            "ranges of the same version were not read",
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("hello, world")
+        );
+    }
+
+    @Test
+    void refusesRangeOfAnotherVersion() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("other").ocket("c.txt");
+        new Ocket.Text(ocket).write("first version");
+        try (Version version = new Version()) {
+            ocket.read(new ByteArrayOutputStream(), 0L, 5L);
+            new Ocket.Text(ocket).write("second version");
+            Assertions.assertThrows(
+                IOException.class,
+                () -> ocket.read(new ByteArrayOutputStream(), 5L, 8L)
+            );
+        }
+    }
+
+    @Test
+    void forgetsEtagsWhenClosed() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("closed").ocket("d.txt");
+        new Ocket.Text(ocket).write("old");
+        try (Version version = new Version()) {
+            ocket.read(new ByteArrayOutputStream());
+        }
+        new Ocket.Text(ocket).write("new");
+        MatcherAssert.assertThat(
+            "ETag was remembered after the version was closed",
+            new Ocket.Text(ocket).read(),
+            Matchers.equalTo("new")
+        );
+    }
+
+    @Test
+    void sharesEtagsWithOuterVersion() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("nested").ocket("e.txt");
+        new Ocket.Text(ocket).write("hello");
+        try (Version outer = new Version()) {
+            try (Version inner = new Version()) {
+                ocket.read(new ByteArrayOutputStream());
+            }
+            MatcherAssert.assertThat(
+                "ETag seen by the nested version was lost",
+                outer.etag(ocket).get(),
+                Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+            );
+        }
+    }
+
+}
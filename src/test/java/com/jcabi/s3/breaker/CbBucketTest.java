@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import com.jcabi.s3.fake.FkBucket;
+import com.jcabi.s3.fake.FkClient;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link CbBucket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class CbBucketTest {
+
+    @Test
+    void listsThroughClosedCircuit(@TempDir final File temp)
+        throws Exception {
+        final Bucket bucket = new FkBucket(temp, "listed");
+        new Ocket.Text(bucket.ocket("a/first.txt")).write("");
+        new Ocket.Text(bucket.ocket("a/second.txt")).write("");
+        MatcherAssert.assertThat(
+            "keys were not listed through the circuit",
+            new CbBucket(bucket).list("a/"),
+            Matchers.containsInAnyOrder("a/first.txt", "a/second.txt")
+        );
+    }
+
+    @Test
+    void countsOnlyLoadedPagesOfListing() throws Exception {
+        final Bucket bucket = new Region.Simple(new FkClient())
+            .bucket("paged");
+        for (int idx = 0; idx < 5; ++idx) {
+            new Ocket.Text(bucket.ocket(String.format("k/%d", idx)))
+                .write("");
+        }
+        final Circuits circuits = new Circuits();
+        MatcherAssert.assertThat(
+            "keys were not listed",
+            new CbBucket(bucket, circuits).list("k/"),
+            Matchers.iterableWithSize(5)
+        );
+        MatcherAssert.assertThat(
+            "outcomes were counted per key, not per page",
+            circuits.circuit("paged").toString(),
+            Matchers.containsString("of 2 calls")
+        );
+    }
+
+    @Test
+    void failsFastRemovingWhenBucketIsDown(@TempDir final File temp)
+        throws Exception {
+        final Bucket bucket = Mockito.spy(new FkBucket(temp, "removed"));
+        Mockito.doThrow(S3Exception.builder().statusCode(500).build())
+            .when(bucket).remove(Mockito.anyString());
+        final Bucket cbb = new CbBucket(
+            bucket,
+            new Circuits(
+                1, 0.5d, Duration.ofMinutes(1L), Duration.ofMinutes(1L), 1
+            )
+        );
+        Assertions.assertThrows(S3Exception.class, () -> cbb.remove("x"));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> cbb.remove("y"),
+            "open circuit didn't fail fast"
+        );
+        Mockito.verify(bucket, Mockito.times(1)).remove(Mockito.anyString());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link CbOcket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class CbOcketTest {
+
+    @Test
+    void readsThroughClosedCircuit(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new FkBucket(temp, "bucket").ocket("a.txt");
+        new Ocket.Text(ocket).write("hello");
+        MatcherAssert.assertThat(
+            "content was not read through the circuit",
+            new Ocket.Text(new CbOcket(ocket)).read(),
+            Matchers.equalTo("hello")
+        );
+    }
+
+    @Test
+    void failsFastWhenBucketIsDown(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = Mockito.spy(
+            new FkBucket(temp, "down").ocket("b.txt")
+        );
+        Mockito.doThrow(S3Exception.builder().statusCode(503).build())
+            .when(ocket).read(Mockito.any(OutputStream.class));
+        final Circuits circuits = new Circuits(
+            2, 0.5d, Duration.ofMinutes(1L), Duration.ofMinutes(1L), 1
+        );
+        final Ocket cbo = new CbOcket(ocket, circuits);
+        for (int idx = 0; idx < 3; ++idx) {
+            Assertions.assertThrows(
+                Exception.class,
+                () -> cbo.read(new ByteArrayOutputStream())
+            );
+        }
+        Mockito.verify(ocket, Mockito.times(1))
+            .read(Mockito.any(OutputStream.class));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new CbOcket(
+                new FkBucket(temp, "down").ocket(UUID.randomUUID().toString()),
+                circuits
+            ).meta(),
+            "circuit was not shared by ockets of the bucket"
+        );
+    }
+
+    @Test
+    void measuresReadingUntilFirstByte(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = Mockito.spy(
+            new FkBucket(temp, "slow").ocket("c.txt")
+        );
+        Mockito.doAnswer(
+            inv -> {
+                final OutputStream output = inv.getArgument(0);
+                output.write(1);
+                Thread.sleep(50L);
+                output.write(2);
+                return null;
+            }
+        ).when(ocket).read(Mockito.any(OutputStream.class));
+        final Ocket cbo = new CbOcket(
+            ocket,
+            new Circuits(
+                1, 0.5d, Duration.ofMillis(40L), Duration.ofMinutes(1L), 1
+            )
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            cbo.read(new ByteArrayOutputStream());
+        }
+        Mockito.verify(ocket, Mockito.times(3))
+            .read(Mockito.any(OutputStream.class));
+    }
+}
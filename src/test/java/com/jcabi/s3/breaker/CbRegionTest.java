@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.s3.fake.FkRegion;
+import java.io.File;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link CbRegion}.
+ *
+ * @since 1.0
+ */
+final class CbRegionTest {
+
+    @Test
+    void sharesCircuitOfBucket(@TempDir final File temp) {
+        final Circuits circuits = new Circuits();
+        final CbRegion region = new CbRegion(new FkRegion(temp), circuits);
+        region.bucket("shared").ocket("a.txt");
+        region.bucket("shared").ocket("b.txt");
+        MatcherAssert.assertThat(
+            "circuit of the bucket was not shared",
+            circuits.circuit("shared"),
+            Matchers.sameInstance(circuits.circuit("shared"))
+        );
+    }
+
+    @Test
+    void wrapsBucketsOfRegion(@TempDir final File temp) {
+        MatcherAssert.assertThat(
+            "bucket was not wrapped",
+            new CbRegion(new FkRegion(temp)).bucket("test"),
+            Matchers.instanceOf(CbBucket.class)
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.breaker;
+
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link Circuit}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class CircuitTest {
+
+    @Test
+    void opensAfterTooManyFailures() throws Exception {
+        final Circuit circuit = new Circuits(
+            4, 0.5d, Duration.ofMinutes(1L), Duration.ofMinutes(1L), 1
+        ).circuit("test");
+        for (int idx = 0; idx < 2; ++idx) {
+            CircuitTest.fail(circuit, 503);
+        }
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> circuit.call(calls::incrementAndGet),
+            "open circuit didn't fail fast"
+        );
+        MatcherAssert.assertThat(
+            "action was called while circuit is open",
+            calls.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void ignoresClientErrors() throws Exception {
+        final Circuit circuit = new Circuits(
+            4, 0.5d, Duration.ofMinutes(1L), Duration.ofMinutes(1L), 1
+        ).circuit("client");
+        for (int idx = 0; idx < 10; ++idx) {
+            CircuitTest.fail(circuit, 404);
+        }
+        MatcherAssert.assertThat(
+            "client errors opened the circuit",
+            circuit.call(() -> "done"),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void ignoresMissingObjects() throws Exception {
+        final Circuit circuit = new Circuits(
+            4, 0.5d, Duration.ofMinutes(1L), Duration.ofMinutes(1L), 1
+        ).circuit("missing");
+        for (int idx = 0; idx < 10; ++idx) {
+            Assertions.assertThrows(
+                OcketNotFoundException.class,
+                () -> circuit.call(
+                    () -> {
+                        throw new OcketNotFoundException("no object", null);
+                    }
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "missing objects counted as failures",
+            circuit.toString(),
+            Matchers.containsString("0 failures of 10 calls")
+        );
+    }
+
+    @Test
+    void opensAfterSlowCalls() throws Exception {
+        final Circuit circuit = new Circuits(
+            2, 0.5d, Duration.ZERO, Duration.ofMinutes(1L), 1
+        ).circuit("slow");
+        circuit.call(
+            () -> {
+                Thread.sleep(5L);
+                return Boolean.TRUE;
+            }
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> circuit.call(() -> Boolean.TRUE),
+            "slow calls didn't open the circuit"
+        );
+    }
+
+    @Test
+    void closesAfterSuccessfulProbes() throws Exception {
+        final Circuit circuit = new Circuits(
+            2, 0.5d, Duration.ofMinutes(1L), Duration.ZERO, 2
+        ).circuit("probes");
+        CircuitTest.fail(circuit, 500);
+        circuit.call(() -> Boolean.TRUE);
+        circuit.call(() -> Boolean.TRUE);
+        MatcherAssert.assertThat(
+            "circuit was not closed after probes",
+            circuit.toString(),
+            Matchers.containsString("is CLOSED")
+        );
+    }
+
+    @Test
+    void reopensAfterFailedProbe() throws Exception {
+        final Circuit circuit = new Circuits(
+            2, 0.5d, Duration.ofMinutes(1L), Duration.ofMillis(1L), 3
+        ).circuit("failed");
+        CircuitTest.fail(circuit, 500);
+        Thread.sleep(5L);
+        CircuitTest.fail(circuit, 500);
+        MatcherAssert.assertThat(
+            "circuit was not opened after failed probe",
+            circuit.toString(),
+            Matchers.containsString("is OPEN")
+        );
+    }
+
+    /**
+     * Make a call which fails with the given status of S3.
+     * @param circuit The circuit
+     * @param status HTTP status
+     */
+    private static void fail(final Circuit circuit, final int status) {
+        Assertions.assertThrows(
+            S3Exception.class,
+            () -> circuit.call(
+                () -> {
+                    throw S3Exception.builder().statusCode(status).build();
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link Blocks}.
+ *
+ * @since 1.0
+ */
+final class BlocksTest {
+
+    @Test
+    void readsRangeSpanningManyBlocks(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        new Ocket.Text(ocket).write("the quick brown fox jumps over");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        new Blocks(4, 1024L).read(ocket, ocket.meta(), output, 5L, 14L);
+        MatcherAssert.assertThat(
+            "range spanning many blocks was not read",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("uick brown fox")
+        );
+    }
+
+    @Test
+    void servesBlocksFromCache(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final Ocket ocket = bucket.ocket(
+            String.format("%s.bin", UUID.randomUUID())
+        );
+        new Ocket.Text(ocket).write("0123456789");
+        final HeadObjectResponse meta = ocket.meta();
+        // @checkstyle MagicNumber (1 line)
+        final Blocks blocks = new Blocks(3, 1024L);
+        blocks.read(ocket, meta, new ByteArrayOutputStream(), 0L, 10L);
+        bucket.remove(ocket.key());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        blocks.read(ocket, meta, output, 4L, 5L);
+        MatcherAssert.assertThat(
+            "blocks were not taken from cache",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("45678")
+        );
+    }
+
+    @Test
+    void readsNothingBeyondEnd(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        new Ocket.Text(ocket).write("short");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        new Blocks(2, 1024L).read(ocket, ocket.meta(), output, 20L, 10L);
+        MatcherAssert.assertThat(
+            "something was read beyond the end",
+            output.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+}
@@ -7,11 +7,13 @@ package com.jcabi.s3.cached;
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.fake.FkBucket;
 import java.io.File;
+import java.util.Arrays;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
 
 /**
  * Test case for {@link CdBucket}.
@@ -129,4 +131,57 @@ final class CdBucketTest {
         );
     }
 
+    @Test
+    void warmsUpObjectsByPrefix(@TempDir final File temp) throws Exception {
+        final FkBucket origin = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final String key = String.format("conf/%s.txt", UUID.randomUUID());
+        final String content = UUID.randomUUID().toString();
+        new Ocket.Text(origin.ocket(key)).write(content);
+        new Ocket.Text(origin.ocket("conf/other.txt")).write("other");
+        final CdBucket bucket = new CdBucket(origin);
+        bucket.warm("conf", 2);
+        origin.remove(key);
+        MatcherAssert.assertThat(
+            "content was not warmed up",
+            new Ocket.Text(bucket.ocket(key)).read(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void countsWarmedObjects(@TempDir final File temp) throws Exception {
+        final FkBucket origin = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        new Ocket.Text(origin.ocket("a.txt")).write("first");
+        new Ocket.Text(origin.ocket("b.txt")).write("second");
+        MatcherAssert.assertThat(
+            "wrong number of objects warmed up",
+            new CdBucket(origin).warm(
+                Arrays.asList("a.txt", "b.txt", "absent.txt"), 2
+            ),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void skipsObjectsFailingWithRuntimeErrors(@TempDir final File temp)
+        throws Exception {
+        final FkBucket origin = Mockito.spy(
+            new FkBucket(temp, UUID.randomUUID().toString())
+        );
+        new Ocket.Text(origin.ocket("good.txt")).write("good");
+        Mockito.doThrow(new IllegalStateException("broken"))
+            .when(origin).ocket("broken.txt");
+        MatcherAssert.assertThat(
+            "runtime failure was not skipped",
+            new CdBucket(origin, new Memory()).warm(
+                Arrays.asList("broken.txt", "good.txt"), 1
+            ),
+            Matchers.equalTo(1)
+        );
+    }
+
 }
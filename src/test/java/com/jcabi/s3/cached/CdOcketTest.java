@@ -6,12 +6,18 @@ package com.jcabi.s3.cached;
 
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.fake.FkBucket;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 /**
  * Test case for {@link CdOcket}.
@@ -157,4 +163,169 @@ final class CdOcketTest {
         );
     }
 
+    @Test
+    void readsRangeThroughBlocks(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final Ocket ocket = bucket.ocket(
+            String.format("%s.txt", UUID.randomUUID())
+        );
+        new Ocket.Text(ocket).write("0123456789abcdef");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        new CdOcket(ocket, new Blocks(4, 1024L)).read(output, 2L, 9L);
+        MatcherAssert.assertThat(
+            "range was not read through blocks",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("23456789a")
+        );
+    }
+
+    @Test
+    void readsContentFromCache(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final String key = String.format("%s.txt", UUID.randomUUID());
+        final String content = UUID.randomUUID().toString();
+        new Ocket.Text(bucket.ocket(key)).write(content);
+        final Ocket ocket = new CdOcket(bucket.ocket(key));
+        new Ocket.Text(ocket).read();
+        bucket.remove(key);
+        MatcherAssert.assertThat(
+            "content was not taken from cache",
+            new Ocket.Text(ocket).read(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void sharesCacheAmongWrappers(@TempDir final File temp)
+        throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final String key = String.format("%s.txt", UUID.randomUUID());
+        new Ocket.Text(bucket.ocket(key)).write("shared");
+        final Ocket origin = Mockito.spy(bucket.ocket(key));
+        new Ocket.Text(new CdOcket(origin)).read();
+        new CdOcket(origin).meta();
+        MatcherAssert.assertThat(
+            "content was not taken from the shared cache",
+            new Ocket.Text(new CdOcket(origin)).read(),
+            Matchers.equalTo("shared")
+        );
+        new CdOcket(origin).meta();
+        Mockito.verify(origin, Mockito.times(1))
+            .read(Mockito.any(OutputStream.class));
+        Mockito.verify(origin, Mockito.times(1)).meta();
+    }
+
+    @Test
+    void forgetsContentAfterWrite(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final Ocket.Text ocket = new Ocket.Text(
+            new CdOcket(
+                bucket.ocket(String.format("%s.txt", UUID.randomUUID()))
+            )
+        );
+        ocket.write("first");
+        ocket.read();
+        ocket.write("second");
+        MatcherAssert.assertThat(
+            "stale content was taken from cache",
+            ocket.read(),
+            Matchers.equalTo("second")
+        );
+    }
+
+    @Test
+    void cachesWrittenContent(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final String key = String.format("%s.txt", UUID.randomUUID());
+        final String content = UUID.randomUUID().toString();
+        final Ocket.Text ocket = new Ocket.Text(
+            new CdOcket(bucket.ocket(key))
+        );
+        ocket.write(content);
+        bucket.remove(key);
+        MatcherAssert.assertThat(
+            "written content was not put into cache",
+            ocket.read(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void cachesMetaOfWrittenContent(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new CdOcket(
+            new FkBucket(temp, UUID.randomUUID().toString()).ocket(
+                String.format("%s.txt", UUID.randomUUID())
+            )
+        );
+        new Ocket.Text(ocket).write("hello");
+        MatcherAssert.assertThat(
+            "meta of written content has wrong ETag",
+            ocket.meta().eTag(),
+            Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void takesMetaOfWrittenContentFromOrigin(@TempDir final File temp)
+        throws Exception {
+        final Ocket origin = Mockito.spy(
+            new FkBucket(temp, UUID.randomUUID().toString()).ocket(
+                String.format("%s.txt", UUID.randomUUID())
+            )
+        );
+        Mockito.doReturn(
+            HeadObjectResponse.builder().eTag("\"abc-2\"").build()
+        ).when(origin).meta();
+        final Ocket ocket = new CdOcket(origin, new Memory());
+        new Ocket.Text(ocket).write("hello");
+        MatcherAssert.assertThat(
+            "meta of written content was not taken from origin",
+            ocket.meta().eTag(),
+            Matchers.equalTo("\"abc-2\"")
+        );
+    }
+
+    @Test
+    void writesBackLater(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        );
+        final String key = String.format("%s.txt", UUID.randomUUID());
+        try (Flusher flusher = new Flusher(Duration.ofHours(1L))) {
+            final Ocket.Text ocket = new Ocket.Text(
+                new CdOcket(bucket.ocket(key), new Memory(flusher))
+            );
+            ocket.write("draft");
+            ocket.write("final");
+            MatcherAssert.assertThat(
+                "content was written to origin too early",
+                bucket.ocket(key).exists(),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "content was not taken from cache",
+                ocket.read(),
+                Matchers.equalTo("final")
+            );
+            flusher.flush();
+            MatcherAssert.assertThat(
+                "content was not flushed to origin",
+                new Ocket.Text(bucket.ocket(key)).read(),
+                Matchers.equalTo("final")
+            );
+        }
+    }
+
 }
@@ -57,4 +57,21 @@ final class CdRegionTest {
         );
     }
 
+    @Test
+    void reportsCacheStatistics(@TempDir final File temp) throws Exception {
+        final CdRegion region = new CdRegion(
+            new FkRegion(temp), new Memory()
+        );
+        final Bucket bucket = region.bucket(UUID.randomUUID().toString());
+        final String key = String.format("%s.txt", UUID.randomUUID());
+        new Ocket.Text(bucket.ocket(key)).write("hello, stats!");
+        new Ocket.Text(bucket.ocket(key)).read();
+        new Ocket.Text(bucket.ocket(key)).read();
+        MatcherAssert.assertThat(
+            "statistics didn't show one hit",
+            region.stats().hits(),
+            Matchers.equalTo(1L)
+        );
+    }
+
 }
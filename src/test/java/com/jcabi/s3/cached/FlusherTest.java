@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link Flusher}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FlusherTest {
+
+    @Test
+    void writesThroughByDefault(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        try (Flusher flusher = new Flusher()) {
+            flusher.submit(
+                ocket, "now".getBytes(StandardCharsets.UTF_8),
+                HeadObjectResponse.builder().build()
+            );
+            MatcherAssert.assertThat(
+                "content was not written through",
+                new Ocket.Text(ocket).read(),
+                Matchers.equalTo("now")
+            );
+        }
+    }
+
+    @Test
+    void coalescesPendingWrites(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        try (Flusher flusher = new Flusher(Duration.ofHours(1L))) {
+            for (final String text : new String[] {"one", "two", "three"}) {
+                flusher.submit(
+                    ocket, text.getBytes(StandardCharsets.UTF_8),
+                    HeadObjectResponse.builder().build()
+                );
+            }
+            MatcherAssert.assertThat(
+                "content was written before flushing",
+                ocket.exists(),
+                Matchers.is(false)
+            );
+            flusher.flush();
+            MatcherAssert.assertThat(
+                "the latest content was not flushed",
+                new Ocket.Text(ocket).read(),
+                Matchers.equalTo("three")
+            );
+        }
+    }
+
+    @Test
+    void flushesOnClose(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        final Flusher flusher = new Flusher(Duration.ofHours(1L));
+        flusher.submit(
+            ocket, "later".getBytes(StandardCharsets.UTF_8),
+            HeadObjectResponse.builder().build()
+        );
+        flusher.close();
+        MatcherAssert.assertThat(
+            "pending content was not flushed on close",
+            new Ocket.Text(ocket).read(),
+            Matchers.equalTo("later")
+        );
+    }
+
+    @Test
+    void forgetsWritesGivenUp(@TempDir final File temp) throws Exception {
+        final Ocket origin = Mockito.spy(
+            new FkBucket(temp, UUID.randomUUID().toString()).ocket(
+                String.format("%s.txt", UUID.randomUUID())
+            )
+        );
+        Mockito.doThrow(new IOException("broken")).when(origin).write(
+            Mockito.any(InputStream.class),
+            Mockito.any(HeadObjectResponse.class)
+        );
+        try (Flusher flusher = new Flusher(Duration.ofMillis(10L))) {
+            final Memory memory = new Memory(flusher);
+            new Ocket.Text(new CdOcket(origin, memory)).write("lost");
+            final String key = Memory.key(origin);
+            int idx = 0;
+            while (memory.cached(key).isPresent() && idx < 100) {
+                Thread.sleep(50L);
+                ++idx;
+            }
+            MatcherAssert.assertThat(
+                "content of the write given up was kept in cache",
+                memory.cached(key).isPresent(),
+                Matchers.is(false)
+            );
+            Assertions.assertThrows(IOException.class, flusher::flush);
+        }
+    }
+
+    @Test
+    void reportsWritesGivenUpOnClose(@TempDir final File temp)
+        throws Exception {
+        final Ocket origin = Mockito.spy(
+            new FkBucket(temp, UUID.randomUUID().toString()).ocket(
+                String.format("%s.txt", UUID.randomUUID())
+            )
+        );
+        Mockito.doThrow(new IOException("down")).when(origin).write(
+            Mockito.any(InputStream.class),
+            Mockito.any(HeadObjectResponse.class)
+        );
+        final Flusher flusher = new Flusher(Duration.ofHours(1L));
+        final Memory memory = new Memory(flusher);
+        new Ocket.Text(new CdOcket(origin, memory)).write("gone");
+        Assertions.assertThrows(IOException.class, flusher::close);
+        MatcherAssert.assertThat(
+            "content of the write given up on close was kept in cache",
+            memory.cached(Memory.key(origin)).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+}
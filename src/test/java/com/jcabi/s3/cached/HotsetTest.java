@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import com.jcabi.s3.fake.FkBucket;
+import com.jcabi.s3.fake.FkClient;
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Hotset}.
+ *
+ * @since 1.0
+ */
+final class HotsetTest {
+
+    @Test
+    void restoresSavedContent(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkBucket(temp, UUID.randomUUID().toString());
+        final Ocket ocket = bucket.ocket(UUID.randomUUID().toString());
+        new Ocket.Text(ocket).write("hot");
+        final Path file = temp.toPath().resolve("hot.bin");
+        final Memory before = new Memory();
+        final Ocket cached = new CdOcket(ocket, before);
+        cached.meta();
+        new Ocket.Text(cached).read();
+        new Hotset(before, file, Duration.ZERO, true).save();
+        final Memory after = new Memory();
+        try (Hotset hotset = new Hotset(after, file, Duration.ZERO, true)) {
+            MatcherAssert.assertThat(
+                "entry was not restored",
+                hotset.restore().get(1L, TimeUnit.MINUTES),
+                Matchers.equalTo(1)
+            );
+        }
+        MatcherAssert.assertThat(
+            "restored content was not served",
+            new Ocket.Text(new CdOcket(ocket, after)).read(),
+            Matchers.equalTo("hot")
+        );
+        MatcherAssert.assertThat(
+            "restored content was loaded again",
+            after.stats().hits(),
+            Matchers.greaterThan(0L)
+        );
+    }
+
+    @Test
+    void dropsModifiedEntries(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkBucket(temp, UUID.randomUUID().toString());
+        final Ocket ocket = bucket.ocket(UUID.randomUUID().toString());
+        new Ocket.Text(ocket).write("old");
+        final Path file = temp.toPath().resolve("hot.bin");
+        final Memory before = new Memory();
+        final Ocket cached = new CdOcket(ocket, before);
+        cached.meta();
+        new Ocket.Text(cached).read();
+        new Hotset(before, file, Duration.ZERO, true).save();
+        new Ocket.Text(ocket).write("new");
+        final Memory after = new Memory();
+        new Hotset(after, file, Duration.ZERO, true).load();
+        MatcherAssert.assertThat(
+            "stale content was served",
+            new Ocket.Text(new CdOcket(ocket, after)).read(),
+            Matchers.equalTo("new")
+        );
+    }
+
+    @Test
+    void restoresNothingWithoutFile(@TempDir final File temp)
+        throws Exception {
+        MatcherAssert.assertThat(
+            "something was restored from nowhere",
+            new Hotset(
+                new Memory(), temp.toPath().resolve("absent.bin")
+            ).load(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void savesContentWhichWasOnlyRead(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("read").ocket("only.txt");
+        new Ocket.Text(ocket).write("hot");
+        final Memory memory = new Memory();
+        new Ocket.Text(new CdOcket(ocket, memory)).read();
+        MatcherAssert.assertThat(
+            "content which was only read was not saved",
+            new Hotset(
+                memory, temp.toPath().resolve("hot.bin"), Duration.ZERO, true
+            ).save(),
+            Matchers.equalTo(1)
+        );
+    }
+
+}
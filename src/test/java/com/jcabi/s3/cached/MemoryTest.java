@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Memory}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class MemoryTest {
+
+    @Test
+    void loadsContentOnlyOnce(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory();
+        final AtomicInteger loads = new AtomicInteger();
+        for (int idx = 0; idx < 3; ++idx) {
+            memory.body(
+                ocket,
+                () -> {
+                    loads.incrementAndGet();
+                    return "hello".getBytes(StandardCharsets.UTF_8);
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            "content was loaded more than once",
+            loads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void countsHitsAndMisses(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory();
+        memory.exists(ocket, () -> true);
+        memory.exists(ocket, () -> true);
+        memory.exists(ocket, () -> true);
+        final Stats stats = memory.stats();
+        MatcherAssert.assertThat(
+            "hits and misses were not counted",
+            new long[] {stats.hits(), stats.misses(), stats.loads()},
+            Matchers.equalTo(new long[] {2L, 1L, 1L})
+        );
+    }
+
+    @Test
+    void skipsContentBiggerThanLimit(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory(4L, 1024L, new Blocks());
+        memory.body(ocket, () -> new byte[16]);
+        MatcherAssert.assertThat(
+            "big content was cached",
+            memory.stats().bytes(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void forgetsInvalidatedOcket(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory();
+        memory.body(ocket, () -> new byte[10]);
+        memory.invalidate(ocket);
+        MatcherAssert.assertThat(
+            "invalidated content stayed in memory",
+            memory.stats().entries(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void keepsTextCompressed(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory(
+            1024L, 1024L, new Blocks(), new Flusher(), true
+        );
+        final byte[] text = String.join(
+            ",", Collections.nCopies(100, "{\"name\":\"value\"}")
+        ).getBytes(StandardCharsets.UTF_8);
+        memory.body(ocket, () -> text);
+        MatcherAssert.assertThat(
+            "content was not decompressed",
+            memory.body(ocket, () -> new byte[0]),
+            Matchers.equalTo(text)
+        );
+        MatcherAssert.assertThat(
+            "content was not compressed",
+            memory.stats().bytes(),
+            Matchers.lessThan((long) text.length / 5L)
+        );
+    }
+
+    @Test
+    void keepsWriteMadeWhileLoading(@TempDir final File temp)
+        throws Exception {
+        final Ocket ocket = new FkBucket(
+            temp, UUID.randomUUID().toString()
+        ).ocket(UUID.randomUUID().toString());
+        final Memory memory = new Memory();
+        memory.body(
+            ocket,
+            () -> {
+                memory.put(ocket, "fresh".getBytes(StandardCharsets.UTF_8));
+                return "stale".getBytes(StandardCharsets.UTF_8);
+            }
+        );
+        MatcherAssert.assertThat(
+            "slow load replaced content written in the meantime",
+            new String(
+                memory.body(ocket, () -> new byte[0]),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("fresh")
+        );
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Packed}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class PackedTest {
+
+    @Test
+    void compressesText() {
+        final byte[] text = String.join(
+            "", Collections.nCopies(50, "<item>hello</item>")
+        ).getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "text was not compressed",
+            new Packed(text, true).weight(),
+            Matchers.lessThan(text.length)
+        );
+    }
+
+    @Test
+    void decompressesIntoOutput() throws Exception {
+        final byte[] text = String.join(
+            "", Collections.nCopies(50, "<item>world</item>")
+        ).getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new Packed(text, true).write(baos);
+        MatcherAssert.assertThat(
+            "content was broken",
+            baos.toByteArray(),
+            Matchers.equalTo(text)
+        );
+    }
+
+    @Test
+    void keepsIncompressibleContentAsIs() {
+        final byte[] noise = new byte[1024];
+        new Random(42L).nextBytes(noise);
+        final Packed packed = new Packed(noise, true);
+        MatcherAssert.assertThat(
+            "noise was compressed",
+            packed.weight(),
+            Matchers.equalTo(noise.length)
+        );
+        MatcherAssert.assertThat(
+            "noise was broken",
+            packed.bytes(),
+            Matchers.equalTo(noise)
+        );
+    }
+
+    @Test
+    void keepsEmptyContent() {
+        MatcherAssert.assertThat(
+            "empty content was broken",
+            new Packed(new byte[0], true).bytes().length,
+            Matchers.equalTo(0)
+        );
+    }
+
+}
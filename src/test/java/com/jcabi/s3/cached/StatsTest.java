@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.cached;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Stats}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class StatsTest {
+
+    @Test
+    void calculatesHitRatio() {
+        MatcherAssert.assertThat(
+            "hit ratio was not calculated",
+            new Stats(3L, 1L, 1L, 0L, 0L, 0L, 0L).ratio(),
+            Matchers.closeTo(0.75d, 0.001d)
+        );
+    }
+
+    @Test
+    void calculatesZeroRatioWithoutRequests() {
+        MatcherAssert.assertThat(
+            "hit ratio of empty stats was not zero",
+            new Stats().ratio(),
+            Matchers.closeTo(0.0d, 0.001d)
+        );
+    }
+
+    @Test
+    void calculatesAverageLatency() {
+        MatcherAssert.assertThat(
+            "average latency was not calculated",
+            new Stats(0L, 4L, 4L, 8_000_000L, 0L, 0L, 0L).latency(),
+            Matchers.equalTo(Duration.ofMillis(2L))
+        );
+    }
+
+    @Test
+    void sumsTwoSnapshots() {
+        MatcherAssert.assertThat(
+            "snapshots were not summed",
+            new Stats(1L, 2L, 3L, 4L, 5L, 6L, 7L).plus(
+                new Stats(1L, 1L, 1L, 1L, 1L, 1L, 1L)
+            ),
+            Matchers.equalTo(new Stats(2L, 3L, 4L, 5L, 6L, 7L, 8L))
+        );
+    }
+
+}
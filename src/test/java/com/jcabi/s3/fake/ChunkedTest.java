@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Chunked}.
+ *
+ * @since 1.0
+ */
+final class ChunkedTest {
+
+    @Test
+    void decodesSignedChunks() throws Exception {
+        MatcherAssert.assertThat(
+            "signed chunks were not decoded",
+            ChunkedTest.decode(
+                String.join(
+                    "\r\n",
+                    "5;chunk-signature=aaaa",
+                    "hello",
+                    "7;chunk-signature=bbbb",
+                    ", world",
+                    "0;chunk-signature=cccc",
+                    "",
+                    ""
+                )
+            ),
+            Matchers.equalTo("hello, world")
+        );
+    }
+
+    @Test
+    void skipsTrailers() throws Exception {
+        MatcherAssert.assertThat(
+            "trailing checksum was not skipped",
+            ChunkedTest.decode(
+                String.join(
+                    "\r\n",
+                    "b",
+                    "hello\r\nbye!",
+                    "0",
+                    "x-amz-checksum-crc32:AAAAAA==",
+                    "x-amz-trailer-signature:dddd",
+                    "",
+                    ""
+                )
+            ),
+            Matchers.equalTo("hello\r\nbye!")
+        );
+    }
+
+    @Test
+    void decodesEmptyContent() throws Exception {
+        MatcherAssert.assertThat(
+            "empty content was not decoded",
+            ChunkedTest.decode("0\r\n\r\n"),
+            Matchers.emptyString()
+        );
+    }
+
+    @Test
+    void failsOnTruncatedChunk() {
+        Assertions.assertThrows(
+            EOFException.class,
+            () -> ChunkedTest.decode("a\r\nhello")
+        );
+    }
+
+    @Test
+    void failsOnBrokenHeader() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> ChunkedTest.decode("hello\r\nworld\r\n")
+        );
+    }
+
+    /**
+     * Decode the content.
+     * @param encoded Encoded content
+     * @return Decoded content
+     * @throws IOException If fails
+     */
+    private static String decode(final String encoded) throws IOException {
+        return new String(
+            IOUtils.toByteArray(
+                new Chunked(
+                    new ByteArrayInputStream(
+                        encoded.getBytes(StandardCharsets.US_ASCII)
+                    )
+                )
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+}
@@ -151,4 +151,57 @@ final class FkBucketTest {
         );
     }
 
+    @Test
+    void listsKeysInOrderOfS3(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkRegion(temp).bucket("order");
+        new Ocket.Text(bucket.ocket("a/b")).write("");
+        new Ocket.Text(bucket.ocket("a-c")).write("");
+        new Ocket.Text(bucket.ocket("a/a/z")).write("");
+        new Ocket.Text(bucket.ocket("B")).write("");
+        MatcherAssert.assertThat(
+            "keys were not listed in lexicographic order",
+            bucket.list(""),
+            Matchers.contains("B", "a-c", "a/a/z", "a/b")
+        );
+    }
+
+    @Test
+    void listsByPartialName(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkRegion(temp).bucket("partial");
+        new Ocket.Text(bucket.ocket("logs/2026-01.txt")).write("");
+        new Ocket.Text(bucket.ocket("logs/2026-02/x.txt")).write("");
+        new Ocket.Text(bucket.ocket("logs/2025-12.txt")).write("");
+        MatcherAssert.assertThat(
+            "prefix was not treated as a beginning of keys",
+            bucket.list("logs/2026-0"),
+            Matchers.contains("logs/2026-01.txt", "logs/2026-02/x.txt")
+        );
+    }
+
+    @Test
+    void listsNothingByAbsentPrefix(@TempDir final File temp)
+        throws Exception {
+        final Bucket bucket = new FkRegion(temp).bucket("absent");
+        new Ocket.Text(bucket.ocket("x/y.txt")).write("");
+        MatcherAssert.assertThat(
+            "absent prefix was not listed as empty",
+            bucket.list("z/w"),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @Test
+    void listsKeysAfterGivenOne(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkRegion(temp).bucket("after");
+        new Ocket.Text(bucket.ocket("a/1")).write("");
+        new Ocket.Text(bucket.ocket("a/2")).write("");
+        new Ocket.Text(bucket.ocket("b/1")).write("");
+        new Ocket.Text(bucket.ocket("c")).write("");
+        MatcherAssert.assertThat(
+            "listing did not start after the given key",
+            bucket.list("", "a/1"),
+            Matchers.contains("a/2", "b/1", "c")
+        );
+    }
+
 }
@@ -0,0 +1,201 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Multipart;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.OcketNotFoundException;
+import com.jcabi.s3.Region;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link FkClient}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FkClientTest {
+
+    @Test
+    void writesAndReadsThroughRealOcket() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Region region = new Region.Simple(new FkClient(memory));
+        new Ocket.Text(region.bucket("test").ocket("a/b.txt")).write(
+            "hello, world!", "text/plain"
+        );
+        MatcherAssert.assertThat(
+            "content was not read back",
+            new Ocket.Text(region.bucket("test").ocket("a/b.txt")).read(),
+            Matchers.equalTo("hello, world!")
+        );
+        MatcherAssert.assertThat(
+            "content was not stored in memory",
+            new Ocket.Text(memory.bucket("test").ocket("a/b.txt")).read(),
+            Matchers.equalTo("hello, world!")
+        );
+    }
+
+    @Test
+    void returnsMetadata() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("meta").ocket("c.txt");
+        new Ocket.Text(ocket).write("hello", "text/plain");
+        final HeadObjectResponse meta = ocket.meta();
+        MatcherAssert.assertThat(
+            "length was not returned",
+            meta.contentLength(),
+            Matchers.equalTo(5L)
+        );
+        MatcherAssert.assertThat(
+            "ETag was not returned",
+            meta.eTag(),
+            Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void readsRange() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        new Ocket.Text(memory.bucket("range").ocket("d.txt")).write(
+            "0123456789"
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Region.Simple(new FkClient(memory))
+            .bucket("range").ocket("d.txt").read(output, 2L, 3L);
+        MatcherAssert.assertThat(
+            "range was not read",
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("234")
+        );
+    }
+
+    @Test
+    void refusesUnsatisfiableRange() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        new Ocket.Text(memory.bucket("short").ocket("s.txt")).write("hello");
+        final S3Exception error = Assertions.assertThrows(
+            S3Exception.class,
+            () -> new FkClient(memory).getObject(
+                GetObjectRequest.builder()
+                    .bucket("short").key("s.txt").range("bytes=7-").build(),
+                ResponseTransformer.toBytes()
+            )
+        );
+        MatcherAssert.assertThat(
+            "wrong status of unsatisfiable range",
+            error.statusCode(),
+            Matchers.equalTo(416)
+        );
+    }
+
+    @Test
+    void throwsWhenObjectIsAbsent() {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("absent").ocket("e.txt");
+        Assertions.assertThrows(
+            OcketNotFoundException.class,
+            () -> ocket.read(new ByteArrayOutputStream())
+        );
+    }
+
+    @Test
+    void listsManyPages() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Bucket bucket = memory.bucket("pages");
+        for (int idx = 0; idx < 2500; ++idx) {
+            new Ocket.Text(
+                bucket.ocket(String.format("k/%05d", idx))
+            ).write("");
+        }
+        new Ocket.Text(bucket.ocket("other")).write("");
+        MatcherAssert.assertThat(
+            "keys were not listed through all pages",
+            new Region.Simple(new FkClient(memory))
+                .bucket("pages").list("k/"),
+            Matchers.<String>iterableWithSize(2500)
+        );
+    }
+
+    @Test
+    void rejectsBrokenContinuationToken() {
+        final S3Exception error = Assertions.assertThrows(
+            S3Exception.class,
+            () -> new FkClient().listObjectsV2(
+                ListObjectsV2Request.builder()
+                    .bucket("broken").continuationToken("#!").build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "wrong status of broken token",
+            error.statusCode(),
+            Matchers.equalTo(400)
+        );
+    }
+
+    @Test
+    void deletesManyObjects() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Bucket bucket = memory.bucket("batch");
+        new Ocket.Text(bucket.ocket("x")).write("");
+        new Ocket.Text(bucket.ocket("y")).write("");
+        new Ocket.Text(bucket.ocket("z")).write("");
+        new FkClient(memory).deleteObjects(
+            DeleteObjectsRequest.builder()
+                .bucket("batch")
+                .delete(
+                    Delete.builder().objects(
+                        ObjectIdentifier.builder().key("x").build(),
+                        ObjectIdentifier.builder().key("z").build()
+                    ).build()
+                )
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "objects were not deleted",
+            bucket.list(""),
+            Matchers.contains("y")
+        );
+    }
+
+    @Test
+    void uploadsInParts() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final byte[] content = new byte[3000];
+        new Random(42L).nextBytes(content);
+        new Multipart(
+            new Region.Simple(new FkClient(memory))
+                .bucket("parts").ocket("g.bin"),
+            Optional.empty(), 1024, 1
+        ).write(
+            new ByteArrayInputStream(content),
+            HeadObjectResponse.builder().build()
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        memory.bucket("parts").ocket("g.bin").read(output);
+        MatcherAssert.assertThat(
+            "parts were not glued together",
+            output.toByteArray(),
+            Matchers.equalTo(content)
+        );
+    }
+
+}
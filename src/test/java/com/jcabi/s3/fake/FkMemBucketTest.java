@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FkMemBucket}.
+ *
+ * @since 1.0
+ */
+final class FkMemBucketTest {
+
+    @Test
+    void listsKeysInOrder() throws Exception {
+        final Bucket bucket = new FkMemBucket("sorted");
+        for (final String key : new String[] {"b/2", "a/1", "b/1", "c"}) {
+            new Ocket.Text(bucket.ocket(key)).write(key);
+        }
+        MatcherAssert.assertThat(
+            "keys were not listed in order",
+            bucket.list(""),
+            Matchers.contains("a/1", "b/1", "b/2", "c")
+        );
+    }
+
+    @Test
+    void listsKeysWithPartialPrefix() throws Exception {
+        final Bucket bucket = new FkMemBucket("prefixed");
+        for (final String key : new String[] {"log-1", "log-2", "lot", "l"}) {
+            new Ocket.Text(bucket.ocket(key)).write(key);
+        }
+        MatcherAssert.assertThat(
+            "keys with prefix were not listed",
+            bucket.list("log-"),
+            Matchers.contains("log-1", "log-2")
+        );
+    }
+
+    @Test
+    void listsKeysAfterGivenOne() throws Exception {
+        final Bucket bucket = new FkMemBucket("resumed");
+        for (final String key : new String[] {"x/1", "x/2", "x/3", "y"}) {
+            new Ocket.Text(bucket.ocket(key)).write(key);
+        }
+        MatcherAssert.assertThat(
+            "keys after the given one were not listed",
+            bucket.list("x/", "x/1"),
+            Matchers.contains("x/2", "x/3")
+        );
+    }
+
+    @Test
+    void removesObjects() throws Exception {
+        final FkMemRegion region = new FkMemRegion();
+        final Bucket bucket = region.bucket("removed");
+        new Ocket.Text(bucket.ocket("a.txt")).write("gone");
+        bucket.remove("a.txt");
+        MatcherAssert.assertThat(
+            "object was not removed",
+            region.bucket("removed").ocket("a.txt").exists(),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link FkMemOcket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FkMemOcketTest {
+
+    @Test
+    void readsWrittenContent() throws Exception {
+        final Ocket.Text ocket = new Ocket.Text(
+            new FkMemBucket("text").ocket("a.txt")
+        );
+        ocket.write("hello, world!");
+        MatcherAssert.assertThat(
+            "content was not read back",
+            ocket.read(),
+            Matchers.equalTo("hello, world!")
+        );
+    }
+
+    @Test
+    void completesMetadata() throws Exception {
+        final Ocket ocket = new FkMemBucket("meta").ocket("b.txt");
+        new Ocket.Text(ocket).write("hello", "text/plain");
+        final HeadObjectResponse meta = ocket.meta();
+        MatcherAssert.assertThat(
+            "length was not set",
+            meta.contentLength(),
+            Matchers.equalTo(5L)
+        );
+        MatcherAssert.assertThat(
+            "type was not kept",
+            meta.contentType(),
+            Matchers.equalTo("text/plain")
+        );
+        MatcherAssert.assertThat(
+            "ETag was not set",
+            meta.eTag(),
+            Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void readsRangeOfContent() throws Exception {
+        final Ocket ocket = new FkMemBucket("range").ocket("c.txt");
+        new Ocket.Text(ocket).write("0123456789");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ocket.read(output, 7L, 10L);
+        MatcherAssert.assertThat(
+            "range was not read",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("789")
+        );
+    }
+
+    @Test
+    void throwsOnMissingObject() {
+        Assertions.assertThrows(
+            OcketNotFoundException.class,
+            () -> new FkMemBucket("missing").ocket("d.txt").meta()
+        );
+    }
+
+    @Test
+    void writesConcurrently() throws Exception {
+        final Bucket bucket = new FkMemRegion().bucket("busy");
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int idx = 0; idx < 1000; ++idx) {
+            final String key = String.format("k/%04d", idx);
+            threads.submit(
+                () -> {
+                    new Ocket.Text(bucket.ocket(key)).write(key);
+                    return null;
+                }
+            );
+        }
+        threads.shutdown();
+        threads.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "not all objects were written",
+            bucket.list("k/"),
+            Matchers.iterableWithSize(1000)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Ocket;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+/**
+ * Test case for {@link FkMemRegion}.
+ *
+ * @since 1.0
+ */
+final class FkMemRegionTest {
+
+    @Test
+    void restoresSnapshot() throws Exception {
+        final FkMemRegion region = new FkMemRegion();
+        new Ocket.Text(region.bucket("seed").ocket("a.txt")).write("first");
+        new Ocket.Text(region.bucket("seed").ocket("b.txt")).write("kept");
+        final FkMemRegion snapshot = region.snapshot();
+        new Ocket.Text(region.bucket("seed").ocket("a.txt")).write("second");
+        region.bucket("seed").remove("b.txt");
+        new Ocket.Text(region.bucket("other").ocket("c.txt")).write("new");
+        region.restore(snapshot);
+        MatcherAssert.assertThat(
+            "keys were not restored",
+            region.bucket("seed").list(""),
+            Matchers.contains("a.txt", "b.txt")
+        );
+        MatcherAssert.assertThat(
+            "overwritten object was not restored",
+            new Ocket.Text(region.bucket("seed").ocket("a.txt")).read(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            "new object was not forgotten",
+            region.bucket("other").ocket("c.txt").exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsSnapshotIntact() throws Exception {
+        final FkMemRegion region = new FkMemRegion();
+        new Ocket.Text(region.bucket("b").ocket("x.txt")).write("original");
+        final FkMemRegion snapshot = region.snapshot();
+        region.restore(snapshot);
+        new Ocket.Text(region.bucket("b").ocket("x.txt")).write("changed");
+        region.bucket("b").remove("x.txt");
+        MatcherAssert.assertThat(
+            "snapshot was modified",
+            new Ocket.Text(snapshot.bucket("b").ocket("x.txt")).read(),
+            Matchers.equalTo("original")
+        );
+    }
+
+    @Test
+    void readsObjectsThroughClient() throws Exception {
+        final FkMemRegion region = new FkMemRegion();
+        new Ocket.Text(region.bucket("shared").ocket("a.txt")).write("hi");
+        MatcherAssert.assertThat(
+            "client didn't see objects of the region",
+            new String(
+                region.aws().getObjectAsBytes(
+                    GetObjectRequest.builder()
+                        .bucket("shared").key("a.txt").build()
+                ).asByteArray(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("hi")
+        );
+    }
+
+    @Test
+    void doesNotCreateBucketsWhenReading() throws Exception {
+        final FkMemRegion region = new FkMemRegion();
+        region.bucket("ghost").exists();
+        region.bucket("ghost").ocket("a.txt").exists();
+        region.bucket("ghost").remove("a.txt");
+        region.bucket("ghost").list("").iterator().hasNext();
+        MatcherAssert.assertThat(
+            "bucket was created by reading it",
+            region.toString(),
+            Matchers.equalTo("0 buckets in memory")
+        );
+    }
+
+}
@@ -9,12 +9,21 @@ import com.jcabi.s3.Ocket;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
@@ -23,6 +32,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
  * Test case for {@link FkOcket}.
  *
  * @since 0.10.1
+ * @checkstyle MagicNumber (500 lines)
  */
 @SuppressWarnings("PMD.TooManyMethods")
 final class FkOcketTest {
@@ -44,6 +54,59 @@ final class FkOcketTest {
         );
     }
 
+    @Test
+    void readsEtagFromMetadata(@TempDir final File temp) throws Exception {
+        final Bucket bucket = new FkRegion(temp).bucket(
+            UUID.randomUUID().toString()
+        );
+        final Ocket ocket = bucket.ocket(UUID.randomUUID().toString());
+        new Ocket.Text(ocket).write("hello");
+        MatcherAssert.assertThat(
+            "should be MD5 of the content",
+            bucket.ocket(ocket.key()).meta().eTag(),
+            Matchers.is("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void keepsEtagOfWrittenContent(@TempDir final File temp)
+        throws Exception {
+        final FkOcket ocket = new FkOcket(temp, "kept", "k.txt");
+        new Ocket.Text(ocket).write("hello");
+        final Path path = ocket.file().toPath();
+        final UserDefinedFileAttributeView view = Files.getFileAttributeView(
+            path, UserDefinedFileAttributeView.class
+        );
+        Assumptions.assumeTrue(
+            view != null && view.list().contains("jcabi-s3.etag"),
+            "extended attributes are not supported"
+        );
+        final FileTime time = Files.getLastModifiedTime(path);
+        Files.write(path, "world".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, time);
+        MatcherAssert.assertThat(
+            "ETag was calculated again, instead of being kept",
+            ocket.meta().eTag(),
+            Matchers.is("\"5d41402abc4b2a76b9719d911017c592\"")
+        );
+    }
+
+    @Test
+    void recalculatesEtagOfChangedFile(@TempDir final File temp)
+        throws Exception {
+        final FkOcket ocket = new FkOcket(temp, "changed", "c.txt");
+        new Ocket.Text(ocket).write("hello");
+        Files.write(
+            ocket.file().toPath(),
+            "hello, world".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "ETag of the file changed outside was not recalculated",
+            ocket.meta().eTag(),
+            Matchers.is("\"e4d7f1b4ed2e42d15898f4b27b019da4\"")
+        );
+    }
+
     @Test
     void readsContentLengthFromMetadata(@TempDir final File temp)
         throws Exception {
@@ -245,4 +308,91 @@ final class FkOcketTest {
         );
     }
 
+    @Test
+    void readsRangeOfContent(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkRegion(temp).bucket(
+            UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        new Ocket.Text(ocket).write("abcdefghij");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        ocket.read(output, 3L, 4L);
+        MatcherAssert.assertThat(
+            "range of content was not read correctly",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("defg")
+        );
+    }
+
+    @Test
+    void readsNothingBeyondEnd(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkRegion(temp).bucket(
+            UUID.randomUUID().toString()
+        ).ocket(String.format("%s.txt", UUID.randomUUID()));
+        new Ocket.Text(ocket).write("abc");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // @checkstyle MagicNumber (1 line)
+        ocket.read(output, 10L, 4L);
+        MatcherAssert.assertThat(
+            "something was read beyond the end of content",
+            output.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void writesStreamWithoutAvailableBytes(@TempDir final File temp)
+        throws Exception {
+        final byte[] data = new byte[100_000];
+        new Random(42L).nextBytes(data);
+        final Ocket ocket = new FkBucket(temp, "lazy").ocket("a.bin");
+        ocket.write(
+            new FilterInputStream(new ByteArrayInputStream(data)) {
+                @Override
+                public int available() {
+                    return 0;
+                }
+            },
+            HeadObjectResponse.builder().build()
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ocket.read(output);
+        MatcherAssert.assertThat(
+            "content was truncated",
+            output.toByteArray(),
+            Matchers.equalTo(data)
+        );
+    }
+
+    @Test
+    void keepsOutputOpen(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(temp, "open").ocket("b.txt");
+        new Ocket.Text(ocket).write("first");
+        final AtomicBoolean closed = new AtomicBoolean();
+        ocket.read(
+            new FilterOutputStream(new ByteArrayOutputStream()) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "output of the caller was closed",
+            closed.get(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void leavesNoTemporaryFiles(@TempDir final File temp) throws Exception {
+        final FkBucket bucket = new FkBucket(temp, "clean");
+        new Ocket.Text(bucket.ocket("c.txt")).write("content");
+        MatcherAssert.assertThat(
+            "temporary files were left",
+            temp.list(),
+            Matchers.arrayContaining("clean")
+        );
+    }
+
 }
@@ -8,6 +8,8 @@ import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.Region;
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -76,4 +78,59 @@ final class FkRegionTest {
         );
     }
 
+    @Test
+    void restoresSnapshot(@TempDir final Path temp) throws Exception {
+        final FkRegion region = new FkRegion(
+            Files.createDirectory(temp.resolve("live"))
+        );
+        new Ocket.Text(region.bucket("seed").ocket("a/b.txt")).write("first");
+        new Ocket.Text(region.bucket("seed").ocket("c.txt")).write("kept");
+        final FkRegion snapshot = region.snapshot(temp.resolve("snapshot"));
+        new Ocket.Text(region.bucket("seed").ocket("a/b.txt")).write("second");
+        region.bucket("seed").remove("c.txt");
+        new Ocket.Text(region.bucket("other").ocket("d.txt")).write("new");
+        region.restore(snapshot);
+        MatcherAssert.assertThat(
+            "overwritten object was not restored",
+            new Ocket.Text(region.bucket("seed").ocket("a/b.txt")).read(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            "removed object was not restored",
+            region.bucket("seed").ocket("c.txt").exists(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "new object was not forgotten",
+            region.bucket("other").ocket("d.txt").exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsSnapshotIntactAfterRestore(@TempDir final Path temp)
+        throws Exception {
+        final FkRegion region = new FkRegion(
+            Files.createDirectory(temp.resolve("region"))
+        );
+        new Ocket.Text(region.bucket("b").ocket("x.txt")).write("original");
+        final FkRegion snapshot = region.snapshot(temp.resolve("saved"));
+        region.restore(snapshot);
+        new Ocket.Text(region.bucket("b").ocket("x.txt")).write("changed");
+        MatcherAssert.assertThat(
+            "snapshot was modified through a link",
+            new Ocket.Text(snapshot.bucket("b").ocket("x.txt")).read(),
+            Matchers.equalTo("original")
+        );
+    }
+
+    @Test
+    void rejectsSnapshotInsideItself(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FkRegion(temp).snapshot(temp.resolve("inner")),
+            "snapshot inside the region was not rejected"
+        );
+    }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.fake;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Multipart;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.OcketNotFoundException;
+import com.jcabi.s3.Region;
+import com.jcabi.s3.Version;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link FkServer}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FkServerTest {
+
+    @Test
+    void writesAndReadsThroughHttp() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        try (FkServer server = new FkServer(memory)) {
+            final Region region = new Region.Simple(
+                "key", "secret", server.start()
+            );
+            new Ocket.Text(region.bucket("test").ocket("a/b.txt")).write(
+                "hello, world!", "text/plain"
+            );
+            MatcherAssert.assertThat(
+                "content was not read back",
+                new Ocket.Text(region.bucket("test").ocket("a/b.txt")).read(),
+                Matchers.equalTo("hello, world!")
+            );
+            MatcherAssert.assertThat(
+                "content was not stored in memory",
+                new Ocket.Text(memory.bucket("test").ocket("a/b.txt")).read(),
+                Matchers.equalTo("hello, world!")
+            );
+        }
+    }
+
+    @Test
+    void returnsMetadata() throws Exception {
+        try (FkServer server = new FkServer()) {
+            final Ocket ocket = new Region.Simple(
+                "key", "secret", server.start()
+            ).bucket("meta").ocket("c.txt");
+            new Ocket.Text(ocket).write("hello", "text/plain");
+            final HeadObjectResponse meta = ocket.meta();
+            MatcherAssert.assertThat(
+                "length was not returned",
+                meta.contentLength(),
+                Matchers.equalTo(5L)
+            );
+            MatcherAssert.assertThat(
+                "type was not returned",
+                meta.contentType(),
+                Matchers.equalTo("text/plain")
+            );
+            MatcherAssert.assertThat(
+                "ETag was not returned",
+                meta.eTag(),
+                Matchers.equalTo("\"5d41402abc4b2a76b9719d911017c592\"")
+            );
+        }
+    }
+
+    @Test
+    void readsRange() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        new Ocket.Text(memory.bucket("range").ocket("d.txt")).write(
+            "0123456789"
+        );
+        try (FkServer server = new FkServer(memory)) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new Region.Simple("key", "secret", server.start())
+                .bucket("range").ocket("d.txt").read(output, 2L, 3L);
+            MatcherAssert.assertThat(
+                "range was not read",
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                Matchers.equalTo("234")
+            );
+        }
+    }
+
+    @Test
+    void refusesRangeOfAnotherVersion() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Ocket origin = memory.bucket("version").ocket("f.txt");
+        new Ocket.Text(origin).write("first version");
+        try (FkServer server = new FkServer(memory)) {
+            final Ocket ocket = new Region.Simple(
+                "key", "secret", server.start()
+            ).bucket("version").ocket("f.txt");
+            try (Version version = new Version()) {
+                ocket.read(new ByteArrayOutputStream(), 0L, 5L);
+                new Ocket.Text(origin).write("second version");
+                Assertions.assertThrows(
+                    IOException.class,
+                    () -> ocket.read(new ByteArrayOutputStream(), 5L, 8L)
+                );
+            }
+        }
+    }
+
+    @Test
+    void throwsWhenObjectIsAbsent() throws Exception {
+        try (FkServer server = new FkServer()) {
+            final Ocket ocket = new Region.Simple(
+                "key", "secret", server.start()
+            ).bucket("absent").ocket("e.txt");
+            Assertions.assertThrows(
+                OcketNotFoundException.class,
+                () -> ocket.read(new ByteArrayOutputStream())
+            );
+        }
+    }
+
+    @Test
+    void removesObject() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        new Ocket.Text(memory.bucket("remove").ocket("f.txt")).write("");
+        try (FkServer server = new FkServer(memory)) {
+            new Region.Simple("key", "secret", server.start())
+                .bucket("remove").remove("f.txt");
+            MatcherAssert.assertThat(
+                "object was not removed",
+                memory.bucket("remove").ocket("f.txt").exists(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void listsManyPages() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Bucket bucket = memory.bucket("pages");
+        for (int idx = 0; idx < 2500; ++idx) {
+            new Ocket.Text(
+                bucket.ocket(String.format("k/%05d", idx))
+            ).write("");
+        }
+        new Ocket.Text(bucket.ocket("other")).write("");
+        try (FkServer server = new FkServer(memory)) {
+            MatcherAssert.assertThat(
+                "keys were not listed through all pages",
+                new Region.Simple("key", "secret", server.start())
+                    .bucket("pages").list("k/"),
+                Matchers.<String>iterableWithSize(2500)
+            );
+        }
+    }
+
+    @Test
+    void listsKeysWithSpecialCharacters() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final Bucket bucket = memory.bucket("special");
+        new Ocket.Text(bucket.ocket("a b+c&d.txt")).write("");
+        new Ocket.Text(bucket.ocket("\u00e9t\u00e9/<x>.txt")).write("");
+        try (FkServer server = new FkServer(memory)) {
+            MatcherAssert.assertThat(
+                "special keys were not listed",
+                new Region.Simple("key", "secret", server.start())
+                    .bucket("special").list(""),
+                Matchers.contains("a b+c&d.txt", "\u00e9t\u00e9/<x>.txt")
+            );
+        }
+    }
+
+    @Test
+    void uploadsInParts() throws Exception {
+        final FkMemRegion memory = new FkMemRegion();
+        final byte[] content = new byte[3000];
+        new Random(42L).nextBytes(content);
+        try (FkServer server = new FkServer(memory)) {
+            new Multipart(
+                new Region.Simple("key", "secret", server.start())
+                    .bucket("parts").ocket("g.bin"),
+                Optional.empty(), 1024, 1
+            ).write(
+                new ByteArrayInputStream(content),
+                HeadObjectResponse.builder().build()
+            );
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        memory.bucket("parts").ocket("g.bin").read(output);
+        MatcherAssert.assertThat(
+            "parts were not glued together",
+            output.toByteArray(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void listensOnLoopback() throws Exception {
+        try (FkServer server = new FkServer()) {
+            MatcherAssert.assertThat(
+                "endpoint is not on loopback interface",
+                InetAddress.getByName(server.start().getHost())
+                    .isLoopbackAddress(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+}
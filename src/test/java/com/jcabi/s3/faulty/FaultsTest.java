@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link Faults}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FaultsTest {
+
+    @Test
+    void throttlesWithSlowDown() {
+        final IOException error = Assertions.assertThrows(
+            IOException.class,
+            () -> new Faults(
+                new Latency.Fixed(Duration.ZERO), 1.0d, 0.0d, 0.0d, 1L
+            ).call("test/a.txt")
+        );
+        final S3Exception cause = (S3Exception) error.getCause();
+        MatcherAssert.assertThat(
+            "status is not 503",
+            cause.statusCode(),
+            Matchers.equalTo(503)
+        );
+        MatcherAssert.assertThat(
+            "code is not SlowDown",
+            cause.awsErrorDetails().errorCode(),
+            Matchers.equalTo("SlowDown")
+        );
+    }
+
+    @Test
+    void repeatsFailuresWithSameSeed() {
+        MatcherAssert.assertThat(
+            "failures are not repeatable",
+            FaultsTest.outcomes(7L),
+            Matchers.equalTo(FaultsTest.outcomes(7L))
+        );
+        MatcherAssert.assertThat(
+            "some calls must fail and some must succeed",
+            FaultsTest.outcomes(7L),
+            Matchers.hasItems(true, false)
+        );
+    }
+
+    @Test
+    void resetsConnectionWhileReading() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Assertions.assertThrows(
+            SocketException.class,
+            () -> new Faults(
+                new Latency.Fixed(Duration.ZERO), 0.0d, 1.0d, 0.0d, 1L
+            ).deliver("test/b.txt", new byte[1000], output)
+        );
+        MatcherAssert.assertThat(
+            "too much content was delivered",
+            output.size(),
+            Matchers.lessThanOrEqualTo(1000)
+        );
+    }
+
+    @Test
+    void endsReadingPrematurely() {
+        Assertions.assertThrows(
+            EOFException.class,
+            () -> new Faults(
+                new Latency.Fixed(Duration.ZERO), 0.0d, 0.0d, 1.0d, 1L
+            ).deliver("test/c.txt", new byte[10], new ByteArrayOutputStream())
+        );
+    }
+
+    @Test
+    void resetsConnectionWhileWriting() {
+        final ByteArrayInputStream input = new ByteArrayInputStream(
+            new byte[100]
+        );
+        Assertions.assertThrows(
+            SocketException.class,
+            () -> new Faults(
+                new Latency.Fixed(Duration.ZERO), 0.0d, 1.0d, 0.0d, 1L
+            ).upload("test/d.txt", input)
+        );
+        MatcherAssert.assertThat(
+            "input was not consumed",
+            input.available(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void delaysCalls() throws Exception {
+        final long start = System.nanoTime();
+        new Faults(new Latency.Fixed(Duration.ofMillis(50L)), 1L)
+            .call("test/e.txt");
+        MatcherAssert.assertThat(
+            "call was not delayed",
+            Duration.ofNanos(System.nanoTime() - start).toMillis(),
+            Matchers.greaterThanOrEqualTo(50L)
+        );
+    }
+
+    @Test
+    void rejectsTooManyFailures() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Faults(
+                new Latency.Fixed(Duration.ZERO), 0.6d, 0.5d, 0.0d, 1L
+            )
+        );
+    }
+
+    /**
+     * Outcomes of calls, TRUE for throttled ones.
+     * @param seed Seed of randomness
+     * @return Outcomes
+     */
+    private static List<Boolean> outcomes(final long seed) {
+        final Faults faults = new Faults(
+            new Latency.Fixed(Duration.ZERO), 0.3d, 0.0d, 0.0d, seed
+        );
+        final List<Boolean> outcomes = new ArrayList<>(100);
+        for (int idx = 0; idx < 100; ++idx) {
+            boolean failed = false;
+            try {
+                faults.call("test/f.txt");
+            } catch (final IOException ex) {
+                failed = true;
+            }
+            outcomes.add(failed);
+        }
+        return outcomes;
+    }
+
+}
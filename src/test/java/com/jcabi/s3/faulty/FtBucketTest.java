@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkMemBucket;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FtBucket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FtBucketTest {
+
+    @Test
+    void breaksLoadingOfNextPage() throws Exception {
+        final Bucket origin = new FkMemBucket("paged");
+        for (int idx = 0; idx < 1001; ++idx) {
+            new Ocket.Text(origin.ocket(String.format("k/%04d", idx)))
+                .write("");
+        }
+        final Iterator<String> keys = new FtBucket(
+            origin,
+            new Faults(new Latency.Fixed(Duration.ZERO), 0.0d, 1.0d, 0.0d, 1L)
+        ).list("k/").iterator();
+        int seen = 0;
+        while (seen < 1000 && keys.hasNext()) {
+            keys.next();
+            ++seen;
+        }
+        MatcherAssert.assertThat(
+            "first page was not listed",
+            seen,
+            Matchers.equalTo(1000)
+        );
+        MatcherAssert.assertThat(
+            "next page was not broken",
+            Assertions.assertThrows(
+                UncheckedIOException.class, keys::hasNext
+            ).getCause(),
+            Matchers.instanceOf(SocketException.class)
+        );
+    }
+
+}
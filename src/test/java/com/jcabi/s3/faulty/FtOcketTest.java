@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkMemBucket;
+import com.jcabi.s3.retry.Budget;
+import com.jcabi.s3.retry.Policy;
+import com.jcabi.s3.retry.ReOcket;
+import java.net.SocketException;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FtOcket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FtOcketTest {
+
+    @Test
+    void readsContentWithoutFailures() throws Exception {
+        final Ocket.Text ocket = new Ocket.Text(
+            new FtOcket(
+                new FkMemBucket("calm").ocket("a.txt"),
+                new Faults(new Latency.Fixed(Duration.ofMillis(1L)), 1L)
+            )
+        );
+        ocket.write("hello, world!");
+        MatcherAssert.assertThat(
+            "content was not read back",
+            ocket.read(),
+            Matchers.equalTo("hello, world!")
+        );
+    }
+
+    @Test
+    void breaksWritingWithoutStoring() {
+        final Ocket origin = new FkMemBucket("broken").ocket("b.txt");
+        Assertions.assertThrows(
+            SocketException.class,
+            () -> new Ocket.Text(
+                new FtOcket(
+                    origin,
+                    new Faults(
+                        new Latency.Fixed(Duration.ZERO),
+                        0.0d, 1.0d, 0.0d, 1L
+                    )
+                )
+            ).write("lost")
+        );
+        MatcherAssert.assertThat(
+            "content was stored",
+            origin.exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void survivesThrottlingWithRetries() throws Exception {
+        final Ocket.Text ocket = new Ocket.Text(
+            new ReOcket(
+                new FtOcket(
+                    new FkMemBucket("retried").ocket("c.txt"),
+                    new Faults(
+                        new Latency.Fixed(Duration.ZERO),
+                        0.3d, 0.0d, 0.0d, 42L
+                    )
+                ),
+                new Policy(
+                    10, Duration.ofMillis(1L), Duration.ofMillis(5L),
+                    Policy.Jitter.FULL, Duration.ZERO, new Budget(1.0d, 100)
+                )
+            )
+        );
+        for (int idx = 0; idx < 20; ++idx) {
+            ocket.write(String.format("attempt #%d", idx));
+            MatcherAssert.assertThat(
+                "content was not read back through throttling",
+                ocket.read(),
+                Matchers.equalTo(String.format("attempt #%d", idx))
+            );
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.faulty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Latency}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class LatencyTest {
+
+    @Test
+    void returnsFixedLatency() {
+        MatcherAssert.assertThat(
+            "fixed latency was changed",
+            new Latency.Fixed(Duration.ofMillis(7L)).next(new Random(1L)),
+            Matchers.equalTo(Duration.ofMillis(7L))
+        );
+    }
+
+    @Test
+    void keepsMedianOfLogNormal() {
+        final Latency latency = new Latency.LogNormal(
+            Duration.ofMillis(100L), 0.8d
+        );
+        final Random random = new Random(1L);
+        final List<Duration> all = new ArrayList<>(10_001);
+        for (int idx = 0; idx < 10_001; ++idx) {
+            all.add(latency.next(random));
+        }
+        Collections.sort(all);
+        MatcherAssert.assertThat(
+            "median is far from the expected one",
+            (double) all.get(5000).toMillis(),
+            Matchers.closeTo(100.0d, 10.0d)
+        );
+        MatcherAssert.assertThat(
+            "distribution is not wide",
+            all.get(9900).toMillis(),
+            Matchers.greaterThan(300L)
+        );
+    }
+
+    @Test
+    void mixesShareOfTail() {
+        final Latency latency = new Latency.LongTail(
+            new Latency.Fixed(Duration.ofMillis(1L)),
+            0.1d,
+            new Latency.Fixed(Duration.ofSeconds(1L))
+        );
+        final Random random = new Random(1L);
+        int slow = 0;
+        for (int idx = 0; idx < 10_000; ++idx) {
+            if (latency.next(random).getSeconds() > 0L) {
+                ++slow;
+            }
+        }
+        MatcherAssert.assertThat(
+            "share of slow calls is wrong",
+            slow,
+            Matchers.allOf(
+                Matchers.greaterThan(800),
+                Matchers.lessThan(1200)
+            )
+        );
+    }
+
+    @Test
+    void repeatsLatenciesWithSameSeed() {
+        final Latency latency = new Latency.LogNormal(
+            Duration.ofMillis(20L), 0.5d
+        );
+        final Random first = new Random(42L);
+        final Random second = new Random(42L);
+        for (int idx = 0; idx < 100; ++idx) {
+            MatcherAssert.assertThat(
+                "latencies are not repeatable",
+                latency.next(first),
+                Matchers.equalTo(latency.next(second))
+            );
+        }
+    }
+
+    @Test
+    void rejectsInvalidShare() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Latency.LongTail(
+                new Latency.Fixed(Duration.ZERO),
+                1.5d,
+                new Latency.Fixed(Duration.ZERO)
+            )
+        );
+    }
+
+}
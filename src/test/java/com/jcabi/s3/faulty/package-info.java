@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Faulty objects, tests.
+ *
+ * @since 1.0
+ */
+package com.jcabi.s3.faulty;
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.File;
+import java.io.OutputStream;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link HdOcket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class HdOcketTest {
+
+    @Test
+    void readsContent(@TempDir final File temp) throws Exception {
+        final Ocket ocket = new FkBucket(temp, "bucket").ocket("a.txt");
+        new Ocket.Text(ocket).write("hello, world!");
+        MatcherAssert.assertThat(
+            "content was not read",
+            new Ocket.Text(
+                new HdOcket(ocket, new Hedge(Duration.ZERO))
+            ).read(),
+            Matchers.equalTo("hello, world!")
+        );
+    }
+
+    @Test
+    void hedgesSlowRead(@TempDir final File temp) throws Exception {
+        final Ocket ocket = Mockito.spy(
+            new FkBucket(temp, "slow").ocket("b.txt")
+        );
+        new Ocket.Text(ocket).write("fast");
+        Mockito.doAnswer(
+            inv -> {
+                Thread.sleep(5000L);
+                return inv.callRealMethod();
+            }
+        ).doCallRealMethod().when(ocket).read(Mockito.any(OutputStream.class));
+        final long start = System.currentTimeMillis();
+        MatcherAssert.assertThat(
+            "content of the hedge was not used",
+            new Ocket.Text(
+                new HdOcket(ocket, new Hedge(Duration.ofMillis(50L)))
+            ).read(),
+            Matchers.equalTo("fast")
+        );
+        MatcherAssert.assertThat(
+            "slow read was not hedged",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(5000L)
+        );
+    }
+
+    @Test
+    void hedgesSlowMeta(@TempDir final File temp) throws Exception {
+        final Ocket ocket = Mockito.spy(
+            new FkBucket(temp, "head").ocket("c.txt")
+        );
+        new Ocket.Text(ocket).write("meta");
+        Mockito.doAnswer(
+            inv -> {
+                Thread.sleep(5000L);
+                return HeadObjectResponse.builder().build();
+            }
+        ).doCallRealMethod().when(ocket).meta();
+        MatcherAssert.assertThat(
+            "metadata of the hedge was not used",
+            new HdOcket(ocket, new Hedge(Duration.ofMillis(50L)))
+                .meta().contentLength(),
+            Matchers.equalTo(4L)
+        );
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.Region;
+import com.jcabi.s3.Version;
+import com.jcabi.s3.fake.FkClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Hedge}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class HedgeTest {
+
+    @Test
+    void usesFasterHedge() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "result of the hedge was not used",
+            new Hedge(Duration.ofMillis(10L)).call(
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        HedgeTest.pause(5000L);
+                    }
+                    return "fast";
+                }
+            ),
+            Matchers.equalTo("fast")
+        );
+    }
+
+    @Test
+    void doesNotHedgeFastCalls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Hedge(Duration.ofSeconds(5L)).call(calls::incrementAndGet);
+        MatcherAssert.assertThat(
+            "fast call was hedged",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void limitsHedges() throws Exception {
+        final Hedge hedge = new Hedge(Duration.ZERO, 0.0d, false);
+        final AtomicInteger calls = new AtomicInteger();
+        for (int idx = 0; idx < 20; ++idx) {
+            hedge.call(
+                () -> {
+                    calls.incrementAndGet();
+                    HedgeTest.pause(10L);
+                    return Boolean.TRUE;
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            "too many hedges were made",
+            calls.get(),
+            Matchers.lessThanOrEqualTo(30)
+        );
+    }
+
+    @Test
+    void readsWithinVersionOfCaller() throws Exception {
+        final Ocket ocket = new Region.Simple(new FkClient())
+            .bucket("hedged").ocket("a.txt");
+        new Ocket.Text(ocket).write("hello");
+        try (Version version = new Version()) {
+            new Hedge(Duration.ofSeconds(5L)).call(
+                () -> new Ocket.Text(ocket).read()
+            );
+            MatcherAssert.assertThat(
+                "ETag seen by the attempt was lost by the caller",
+                version.etag(ocket).isPresent(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void failsWhenBothCallsFail() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Hedge(Duration.ZERO).call(
+                () -> {
+                    throw new IOException("boom");
+                }
+            )
+        );
+    }
+
+    @Test
+    void doesNotHedgeStreamingRead() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Hedge(Duration.ofMillis(10L)).read(
+            output,
+            out -> {
+                calls.incrementAndGet();
+                for (int idx = 0; idx < 50; ++idx) {
+                    out.write('x');
+                    HedgeTest.pause(2L);
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "slow but streaming read was hedged",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void writesContentOfOneReadingOnly() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Hedge(Duration.ofMillis(10L)).read(
+            output,
+            out -> {
+                final int number = calls.incrementAndGet();
+                if (number == 1) {
+                    HedgeTest.pause(100L);
+                }
+                for (int idx = 0; idx < 100; ++idx) {
+                    out.write(
+                        String.valueOf(number)
+                            .getBytes(StandardCharsets.UTF_8)
+                    );
+                    HedgeTest.pause(1L);
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "content of both readings was written",
+            output.toString(StandardCharsets.UTF_8.name()),
+            Matchers.matchesPattern("(1{100}|2{100})")
+        );
+    }
+
+    /**
+     * Sleep.
+     * @param millis How long
+     * @throws IOException If interrupted
+     */
+    private static void pause(final long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ex.getMessage());
+        }
+    }
+}
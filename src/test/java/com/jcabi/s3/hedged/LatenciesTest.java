@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.hedged;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Latencies}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class LatenciesTest {
+
+    @Test
+    void usesDefaultWithoutEnoughLatencies() {
+        final Latencies latencies = new Latencies(100, 0.95d);
+        latencies.add(5L);
+        MatcherAssert.assertThat(
+            "default was not used",
+            latencies.percentile(42L),
+            Matchers.equalTo(42L)
+        );
+    }
+
+    @Test
+    void calculatesPercentile() {
+        final Latencies latencies = new Latencies(100, 0.95d);
+        for (long idx = 100L; idx > 0L; --idx) {
+            latencies.add(idx);
+        }
+        MatcherAssert.assertThat(
+            "percentile is wrong",
+            latencies.percentile(0L),
+            Matchers.equalTo(95L)
+        );
+    }
+
+    @Test
+    void forgetsOldLatencies() {
+        final Latencies latencies = new Latencies(40, 0.5d);
+        for (int idx = 0; idx < 40; ++idx) {
+            latencies.add(1000L);
+        }
+        for (int idx = 0; idx < 40; ++idx) {
+            latencies.add(10L);
+        }
+        MatcherAssert.assertThat(
+            "old latencies were not forgotten",
+            latencies.percentile(0L),
+            Matchers.equalTo(10L)
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Budget}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class BudgetTest {
+
+    @Test
+    void allowsRetriesFromReserve() {
+        final Budget budget = new Budget(0.1d, 2);
+        budget.withdraw();
+        budget.withdraw();
+        MatcherAssert.assertThat(
+            "retry was allowed beyond the reserve",
+            budget.withdraw(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void refillsOnSuccess() {
+        final Budget budget = new Budget(0.5d, 1);
+        budget.withdraw();
+        budget.success();
+        budget.success();
+        MatcherAssert.assertThat(
+            "retry was not allowed after two successes",
+            budget.withdraw(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void neverExceedsCapacity() {
+        final Budget budget = new Budget(1.0d, 1);
+        for (int idx = 0; idx < 10; ++idx) {
+            budget.success();
+        }
+        budget.withdraw();
+        MatcherAssert.assertThat(
+            "budget grew above its capacity",
+            budget.withdraw(),
+            Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.s3.OcketNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link Failures}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class FailuresTest {
+
+    @Test
+    void retriesServerErrors() {
+        MatcherAssert.assertThat(
+            "5xx was not retryable",
+            new Failures().retryable(FailuresTest.error(503, "SlowDown")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void retriesThrottling() {
+        MatcherAssert.assertThat(
+            "throttling was not retryable",
+            new Failures().retryable(FailuresTest.error(400, "Throttling")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotRetryMissingOcket() {
+        MatcherAssert.assertThat(
+            "404 was retryable",
+            new Failures().retryable(
+                new OcketNotFoundException(
+                    "not found", FailuresTest.error(404, "NoSuchKey")
+                )
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void retriesMissingOcketCausedByServerError() {
+        MatcherAssert.assertThat(
+            "500 behind not-found was not retryable",
+            new Failures().retryable(
+                new OcketNotFoundException(
+                    "failed", FailuresTest.error(500, "InternalError")
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotRetryDeniedAccess() {
+        MatcherAssert.assertThat(
+            "403 was retryable",
+            new Failures().retryable(
+                new IOException(
+                    "denied", FailuresTest.error(403, "AccessDenied")
+                )
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void retriesConnectionProblems() {
+        MatcherAssert.assertThat(
+            "connection reset was not retryable",
+            new Failures().retryable(
+                SdkClientException.create(
+                    "unable to execute", new SocketException("reset")
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void retriesWrappedIoProblems() {
+        MatcherAssert.assertThat(
+            "wrapped I/O problem was not retryable",
+            new Failures().retryable(
+                new UncheckedIOException(new IOException("broken"))
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotRetryInterruption() {
+        MatcherAssert.assertThat(
+            "interruption was retryable",
+            new Failures().retryable(new InterruptedIOException("stop")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void doesNotRetryBugs() {
+        MatcherAssert.assertThat(
+            "illegal argument was retryable",
+            new Failures().retryable(new IllegalArgumentException("bug")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Make an error of S3.
+     * @param status HTTP status
+     * @param code Error code
+     * @return The error
+     */
+    private static S3Exception error(final int status, final String code) {
+        return (S3Exception) S3Exception.builder()
+            .statusCode(status)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(code).build())
+            .message(code)
+            .build();
+    }
+
+}
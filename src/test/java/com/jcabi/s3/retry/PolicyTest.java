@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.s3.Deadline;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Policy}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class PolicyTest {
+
+    @Test
+    void retriesUntilSuccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        MatcherAssert.assertThat(
+            "result of the last attempt was not returned",
+            new Policy(3, Duration.ZERO, Duration.ZERO).call(
+                () -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new IOException("not yet");
+                    }
+                    return "done";
+                }
+            ),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void givesUpAfterAllAttempts() {
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Policy(4, Duration.ZERO, Duration.ZERO).run(
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IOException("never");
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "wrong number of attempts",
+            calls.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    @Test
+    void keepsFullJitterUnderCeiling() {
+        final Policy policy = new Policy(
+            10, Duration.ofMillis(100L), Duration.ofMillis(300L)
+        );
+        for (int attempt = 1; attempt < 10; ++attempt) {
+            MatcherAssert.assertThat(
+                "delay is out of bounds",
+                policy.delay(attempt, 0L),
+                Matchers.allOf(
+                    Matchers.greaterThanOrEqualTo(0L),
+                    Matchers.lessThanOrEqualTo(
+                        Math.min(300L, 100L << (attempt - 1))
+                    )
+                )
+            );
+        }
+    }
+
+    @Test
+    void keepsDecorrelatedJitterWithinBounds() {
+        final Policy policy = new Policy(
+            10, Duration.ofMillis(100L), Duration.ofSeconds(1L),
+            Policy.Jitter.DECORRELATED, Duration.ZERO
+        );
+        long delay = 100L;
+        for (int attempt = 1; attempt < 50; ++attempt) {
+            final long next = policy.delay(attempt, delay);
+            MatcherAssert.assertThat(
+                "delay is out of bounds",
+                next,
+                Matchers.allOf(
+                    Matchers.greaterThanOrEqualTo(100L),
+                    Matchers.lessThanOrEqualTo(Math.min(1000L, delay * 3L))
+                )
+            );
+            delay = next;
+        }
+    }
+
+    @Test
+    void stopsAtDeadline() {
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Policy(
+                1000, Duration.ofMillis(20L), Duration.ofMillis(20L),
+                Policy.Jitter.DECORRELATED, Duration.ofMillis(100L)
+            ).run(
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IOException("too slow");
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "deadline was ignored",
+            calls.get(),
+            Matchers.lessThan(10)
+        );
+    }
+
+    @Test
+    void stopsRetryingWithoutBudget() {
+        final Policy policy = new Policy(
+            10, Duration.ZERO, Duration.ZERO, Policy.Jitter.FULL,
+            Duration.ZERO, new Budget(0.0d, 2)
+        );
+        final AtomicInteger calls = new AtomicInteger();
+        for (int idx = 0; idx < 3; ++idx) {
+            Assertions.assertThrows(
+                IOException.class,
+                () -> policy.run(
+                    () -> {
+                        calls.incrementAndGet();
+                        throw new IOException("outage");
+                    }
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "retries exceeded the budget",
+            calls.get(),
+            Matchers.equalTo(5)
+        );
+    }
+
+    @Test
+    void doesNotStartAttemptBeyondDeadlineOfThread() {
+        final AtomicInteger calls = new AtomicInteger();
+        try (Deadline deadline = new Deadline(Duration.ofMillis(150L))) {
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Policy(
+                    10, Duration.ofMillis(1L), Duration.ofMillis(1L)
+                ).run(
+                    () -> {
+                        calls.incrementAndGet();
+                        final long end = System.nanoTime() + 100_000_000L;
+                        while (System.nanoTime() < end) {
+                            LockSupport.parkNanos(end - System.nanoTime());
+                        }
+                        throw new IOException("slow failure");
+                    }
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "attempt which didn't fit the deadline was made",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+}
@@ -4,19 +4,28 @@
  */
 package com.jcabi.s3.retry;
 
+import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
 import com.jcabi.s3.fake.FkBucket;
 import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 /**
  * Test case for {@link ReBucket}.
  *
  * @since 0.5
+ * @checkstyle MagicNumber (500 lines)
  */
 final class ReBucketTest {
 
@@ -129,4 +138,34 @@ final class ReBucketTest {
         );
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void resumesListingAfterLastName() throws Exception {
+        final Iterator<String> broken = Mockito.mock(Iterator.class);
+        Mockito.when(broken.hasNext())
+            .thenReturn(true)
+            .thenReturn(true)
+            .thenThrow(
+                new IllegalStateException(
+                    S3Exception.builder().statusCode(503).build()
+                )
+            );
+        Mockito.when(broken.next()).thenReturn("p/a").thenReturn("p/b");
+        final Bucket origin = Mockito.mock(Bucket.class);
+        Mockito.when(origin.list("p/", "")).thenReturn(() -> broken);
+        Mockito.when(origin.list("p/", "p/b")).thenReturn(
+            Collections.singletonList("p/c")
+        );
+        final List<String> names = new ArrayList<>(3);
+        new ReBucket(
+            origin,
+            new Policy(3, Duration.ofMillis(1L), Duration.ofMillis(1L))
+        ).list("p/").forEach(names::add);
+        MatcherAssert.assertThat(
+            "listing was not resumed after the last name",
+            names,
+            Matchers.contains("p/a", "p/b", "p/c")
+        );
+    }
+
 }
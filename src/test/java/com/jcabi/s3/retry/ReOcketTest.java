@@ -4,19 +4,41 @@
  */
 package com.jcabi.s3.retry;
 
+import com.jcabi.s3.Bucket;
 import com.jcabi.s3.Ocket;
+import com.jcabi.s3.OcketNotFoundException;
+import com.jcabi.s3.Region;
 import com.jcabi.s3.fake.FkBucket;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * Test case for {@link ReOcket}.
  *
  * @since 0.5
+ * @checkstyle MagicNumber (500 lines)
  */
 final class ReOcketTest {
 
@@ -157,4 +179,156 @@ final class ReOcketTest {
         );
     }
 
+    @Test
+    void retriesFailedMetaWithPolicy() throws Exception {
+        final Ocket origin = Mockito.mock(Ocket.class);
+        final HeadObjectResponse meta = HeadObjectResponse.builder().build();
+        Mockito.when(origin.meta())
+            .thenThrow(new IOException("first"))
+            .thenReturn(meta);
+        MatcherAssert.assertThat(
+            "meta was not retried",
+            new ReOcket(
+                origin, new Policy(2, Duration.ZERO, Duration.ZERO)
+            ).meta(),
+            Matchers.sameInstance(meta)
+        );
+    }
+
+    @Test
+    void doesNotRetryMissingOcket() throws Exception {
+        final Ocket origin = Mockito.mock(Ocket.class);
+        Mockito.when(origin.meta()).thenThrow(
+            new OcketNotFoundException(
+                "not found",
+                (S3Exception) S3Exception.builder().statusCode(404).build()
+            )
+        );
+        Assertions.assertThrows(
+            OcketNotFoundException.class,
+            new ReOcket(
+                origin, new Policy(5, Duration.ZERO, Duration.ZERO)
+            )::meta
+        );
+        Mockito.verify(origin, Mockito.times(1)).meta();
+    }
+
+    @Test
+    void resumesBrokenRead() throws Exception {
+        final Ocket origin = Mockito.mock(Ocket.class);
+        Mockito.when(origin.bucket()).thenReturn(Mockito.mock(Bucket.class));
+        Mockito.when(origin.meta()).thenReturn(
+            HeadObjectResponse.builder()
+                .eTag("\"abc\"")
+                .contentLength(11L)
+                .lastModified(Instant.EPOCH)
+                .build()
+        );
+        Mockito.doAnswer(
+            inv -> {
+                inv.getArgument(0, OutputStream.class).write(
+                    "hello".getBytes(StandardCharsets.UTF_8)
+                );
+                throw new IOException("connection reset");
+            }
+        ).when(origin).read(Mockito.any(OutputStream.class));
+        Mockito.doAnswer(
+            inv -> {
+                inv.getArgument(0, OutputStream.class).write(
+                    " world".getBytes(StandardCharsets.UTF_8)
+                );
+                return null;
+            }
+        ).when(origin).read(
+            Mockito.any(OutputStream.class), Mockito.eq(5L), Mockito.eq(6L)
+        );
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ReOcket(
+            origin, new Policy(3, Duration.ZERO, Duration.ZERO)
+        ).read(baos);
+        MatcherAssert.assertThat(
+            "read was not resumed from the right byte",
+            baos.toString(StandardCharsets.UTF_8.name()),
+            Matchers.equalTo("hello world")
+        );
+    }
+
+    @Test
+    void refusesToResumeModifiedOcket() throws Exception {
+        final Ocket origin = Mockito.mock(Ocket.class);
+        Mockito.when(origin.bucket()).thenReturn(Mockito.mock(Bucket.class));
+        Mockito.when(origin.meta()).thenReturn(
+            HeadObjectResponse.builder()
+                .eTag("\"new\"")
+                .contentLength(10L)
+                .lastModified(Instant.now().plusSeconds(1L))
+                .build()
+        );
+        Mockito.doAnswer(
+            inv -> {
+                inv.getArgument(0, OutputStream.class).write(1);
+                throw new IOException("broken");
+            }
+        ).when(origin).read(Mockito.any(OutputStream.class));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new ReOcket(
+                origin, new Policy(5, Duration.ZERO, Duration.ZERO)
+            ).read(new ByteArrayOutputStream())
+        );
+        Mockito.verify(origin, Mockito.never()).read(
+            Mockito.any(OutputStream.class),
+            Mockito.anyLong(),
+            Mockito.anyLong()
+        );
+    }
+
+    @Test
+    void retriesOnlyFailedPartOfBigContent() throws Exception {
+        final S3Client aws = Mockito.mock(S3Client.class);
+        Mockito.doReturn(
+            CreateMultipartUploadResponse.builder().uploadId("up").build()
+        ).when(aws).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+        Mockito.doThrow(
+            S3Exception.builder().statusCode(503).message("slow down").build()
+        ).doReturn(
+            UploadPartResponse.builder().eTag("\"second\"").build()
+        ).when(aws).uploadPart(
+            Mockito.argThat(
+                (UploadPartRequest req) -> req != null && req.partNumber() == 2
+            ),
+            Mockito.any(RequestBody.class)
+        );
+        Mockito.doReturn(
+            UploadPartResponse.builder().eTag("\"first\"").build()
+        ).when(aws).uploadPart(
+            Mockito.argThat(
+                (UploadPartRequest req) -> req != null && req.partNumber() == 1
+            ),
+            Mockito.any(RequestBody.class)
+        );
+        final byte[] content = new byte[(8 << 20) + 1];
+        new ReOcket(
+            new Region.Simple(aws).bucket("big").ocket("huge.bin"),
+            new Policy(3, Duration.ZERO, Duration.ZERO)
+        ).write(
+            new ByteArrayInputStream(content),
+            HeadObjectResponse.builder()
+                .contentLength((long) content.length)
+                .build()
+        );
+        Mockito.verify(aws, Mockito.times(1)).createMultipartUpload(
+            Mockito.any(CreateMultipartUploadRequest.class)
+        );
+        Mockito.verify(aws, Mockito.times(3)).uploadPart(
+            Mockito.any(UploadPartRequest.class),
+            Mockito.any(RequestBody.class)
+        );
+        Mockito.verify(aws).completeMultipartUpload(
+            Mockito.any(CompleteMultipartUploadRequest.class)
+        );
+    }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.retry;
+
+import com.jcabi.s3.Ocket;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Test case for {@link Replay}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class ReplayTest {
+
+    @Test
+    void replaysContentFromMemory() throws Exception {
+        final Collection<String> sent = new LinkedList<>();
+        new Replay(ReplayTest.policy(), 1024L).write(
+            ReplayTest.flaky(sent),
+            ReplayTest.stream("hello, world"),
+            HeadObjectResponse.builder().build()
+        );
+        MatcherAssert.assertThat(
+            "content was not replayed",
+            sent,
+            Matchers.contains("hello, world", "hello, world")
+        );
+    }
+
+    @Test
+    void writesBigContentOnce() throws Exception {
+        final Collection<String> sent = new LinkedList<>();
+        final String text = String.join(
+            "", Collections.nCopies(100, "big content ")
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Replay(ReplayTest.policy(), 16L).write(
+                ReplayTest.flaky(sent),
+                ReplayTest.stream(text),
+                HeadObjectResponse.builder().build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "big content was replayed, instead of retrying its parts",
+            sent,
+            Matchers.contains(text)
+        );
+    }
+
+    @Test
+    void replaysMarkedStream() throws Exception {
+        final Collection<String> sent = new LinkedList<>();
+        final byte[] bytes = "marked".getBytes(StandardCharsets.UTF_8);
+        new Replay(ReplayTest.policy(), 1024L).write(
+            ReplayTest.flaky(sent),
+            new ByteArrayInputStream(bytes),
+            HeadObjectResponse.builder()
+                .contentLength((long) bytes.length)
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "marked stream was not replayed",
+            sent,
+            Matchers.contains("marked", "marked")
+        );
+    }
+
+    @Test
+    void closesMarkedStreamWhenDone() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final byte[] bytes = "shielded".getBytes(StandardCharsets.UTF_8);
+        new Replay(ReplayTest.policy(), 1024L).write(
+            ReplayTest.flaky(new LinkedList<>()),
+            new ByteArrayInputStream(bytes) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            },
+            HeadObjectResponse.builder()
+                .contentLength((long) bytes.length)
+                .build()
+        );
+        MatcherAssert.assertThat(
+            "marked stream of the caller was not closed",
+            closed.get(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void closesStreamWhenGivingUp() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Ocket ocket = Mockito.mock(Ocket.class);
+        Mockito.doThrow(new IOException("connection reset")).when(ocket).write(
+            Mockito.any(InputStream.class),
+            Mockito.any(HeadObjectResponse.class)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Replay(ReplayTest.policy(), 1024L).write(
+                ocket,
+                new SequenceInputStream(
+                    ReplayTest.stream("lost"), ReplayTest.stream("")
+                ) {
+                    @Override
+                    public void close() throws IOException {
+                        super.close();
+                        closed.set(true);
+                    }
+                },
+                HeadObjectResponse.builder().build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "stream of the caller was not closed",
+            closed.get(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Policy without delays.
+     * @return Policy
+     */
+    private static Policy policy() {
+        return new Policy(3, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Stream which doesn't support mark/reset.
+     * @param text Its content
+     * @return Stream
+     */
+    private static InputStream stream(final String text) {
+        return new SequenceInputStream(
+            new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)),
+            new ByteArrayInputStream(new byte[0])
+        );
+    }
+
+    /**
+     * Ocket, which fails the first write after reading all the content.
+     * @param sent Where to save content of every write
+     * @return Ocket
+     * @throws IOException If fails
+     */
+    private static Ocket flaky(final Collection<String> sent)
+        throws IOException {
+        final Ocket ocket = Mockito.mock(Ocket.class);
+        Mockito.doAnswer(
+            inv -> {
+                sent.add(
+                    IOUtils.toString(
+                        inv.getArgument(0, InputStream.class),
+                        StandardCharsets.UTF_8
+                    )
+                );
+                inv.getArgument(0, InputStream.class).close();
+                if (sent.size() == 1) {
+                    throw new IOException("connection reset");
+                }
+                return null;
+            }
+        ).when(ocket).write(
+            Mockito.any(InputStream.class),
+            Mockito.any(HeadObjectResponse.class)
+        );
+        return ocket;
+    }
+
+}
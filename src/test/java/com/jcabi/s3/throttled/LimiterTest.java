@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.s3.Deadline;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Limiter}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class LimiterTest {
+
+    @Test
+    void halvesRateOnceOnBurstOfThrottling() {
+        final Limiter limiter = new Limiter("test/", 100.0d, 10.0d);
+        for (int idx = 0; idx < 10; ++idx) {
+            limiter.throttled();
+        }
+        MatcherAssert.assertThat(
+            "rate was not halved exactly once",
+            limiter.current(),
+            Matchers.closeTo(50.0d, 0.001d)
+        );
+    }
+
+    @Test
+    void recoversGradually() throws Exception {
+        final Limiter limiter = new Limiter("slow/", 1000.0d, 100.0d);
+        limiter.throttled();
+        Thread.sleep(1500L);
+        limiter.success();
+        MatcherAssert.assertThat(
+            "rate was not recovered gradually",
+            limiter.current(),
+            Matchers.allOf(
+                Matchers.greaterThan(600.0d),
+                Matchers.lessThan(1000.0d)
+            )
+        );
+    }
+
+    @Test
+    void pacesRequests() throws Exception {
+        final Limiter limiter = new Limiter("paced/", 50.0d, 0.0d);
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < 11; ++idx) {
+            limiter.acquire();
+        }
+        MatcherAssert.assertThat(
+            "requests were not paced",
+            System.nanoTime() - start,
+            Matchers.greaterThanOrEqualTo(190_000_000L)
+        );
+    }
+
+    @Test
+    void doesNotWaitPastDeadline() throws Exception {
+        final Limiter limiter = new Limiter("late/", 1.0d, 0.0d);
+        limiter.acquire();
+        final long start = System.nanoTime();
+        try (Deadline deadline = new Deadline(Duration.ofMillis(100L))) {
+            Assertions.assertThrows(
+                InterruptedIOException.class,
+                limiter::acquire
+            );
+        }
+        MatcherAssert.assertThat(
+            "limiter waited instead of failing fast",
+            System.nanoTime() - start,
+            Matchers.lessThan(500_000_000L)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import com.jcabi.s3.Ocket;
+import com.jcabi.s3.fake.FkBucket;
+import java.io.File;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ThOcket}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class ThOcketTest {
+
+    @Test
+    void writesAndReadsThroughThrottle(@TempDir final File temp)
+        throws Exception {
+        final Ocket.Text ocket = new Ocket.Text(
+            new ThOcket(new FkBucket(temp, "bucket").ocket("a/b.txt"))
+        );
+        ocket.write("throttled");
+        MatcherAssert.assertThat(
+            "content was not read through the throttle",
+            ocket.read(),
+            Matchers.equalTo("throttled")
+        );
+    }
+
+    @Test
+    void pacesRequestsToPrefix(@TempDir final File temp) throws Exception {
+        final Throttle throttle = new Throttle(20.0d, 0.0d, 1);
+        final FkBucket bucket = new FkBucket(temp, "paced");
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < 5; ++idx) {
+            new ThOcket(
+                bucket.ocket(String.format("p/%d.txt", idx)), throttle
+            ).exists();
+        }
+        MatcherAssert.assertThat(
+            "requests to one prefix were not paced",
+            System.nanoTime() - start,
+            Matchers.greaterThanOrEqualTo(190_000_000L)
+        );
+    }
+}
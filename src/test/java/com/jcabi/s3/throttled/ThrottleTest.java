@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.s3.throttled;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Test case for {@link Throttle}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumber (500 lines)
+ */
+final class ThrottleTest {
+
+    @Test
+    void sharesLimiterOfPrefix() {
+        final Throttle throttle = new Throttle(100.0d, 1.0d, 1);
+        MatcherAssert.assertThat(
+            "limiter of the prefix was not shared",
+            throttle.limiter("bucket", "logs/2026/a.txt"),
+            Matchers.sameInstance(throttle.limiter("bucket", "logs/b.txt"))
+        );
+    }
+
+    @Test
+    void separatesDeeperPrefixes() {
+        final Throttle throttle = new Throttle(100.0d, 1.0d, 2);
+        MatcherAssert.assertThat(
+            "limiters of different prefixes were shared",
+            throttle.limiter("bucket", "logs/2026/a.txt"),
+            Matchers.not(
+                Matchers.sameInstance(
+                    throttle.limiter("bucket", "logs/2025/a.txt")
+                )
+            )
+        );
+    }
+
+    @Test
+    void slowsDownOnSlowDown() {
+        final Throttle throttle = new Throttle(100.0d, 1.0d, 1);
+        Assertions.assertThrows(
+            S3Exception.class,
+            () -> throttle.call(
+                "bucket", "hot/a.txt",
+                () -> {
+                    throw S3Exception.builder()
+                        .statusCode(503)
+                        .awsErrorDetails(
+                            AwsErrorDetails.builder()
+                                .errorCode("SlowDown")
+                                .build()
+                        )
+                        .build();
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "rate was not decreased",
+            throttle.limiter("bucket", "hot/b.txt").current(),
+            Matchers.closeTo(50.0d, 0.001d)
+        );
+    }
+
+    @Test
+    void ignoresOtherErrors() {
+        final Throttle throttle = new Throttle(100.0d, 1.0d, 1);
+        Assertions.assertThrows(
+            S3Exception.class,
+            () -> throttle.call(
+                "bucket", "cold/a.txt",
+                () -> {
+                    throw S3Exception.builder().statusCode(404).build();
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "rate was decreased by a client error",
+            throttle.limiter("bucket", "cold/a.txt").current(),
+            Matchers.closeTo(100.0d, 0.001d)
+        );
+    }
+}